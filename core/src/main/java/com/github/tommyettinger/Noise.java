@@ -32,6 +32,8 @@ package com.github.tommyettinger;
 import com.badlogic.gdx.utils.NumberUtils;
 import com.github.tommyettinger.bluegrass.BlueNoise;
 
+import java.util.Arrays;
+
 /**
  * A wide range of noise functions that can all be called from one configurable object. Originally from Jordan Peck's
  * FastNoise library, the implementation here is meant to be fast without sacrificing quality. Usage requires a Noise
@@ -390,12 +392,24 @@ public class Noise {
      * @see #getMutation()
      */
     protected float mutation = 0f;
+
+    /**
+     * @see #getOctaveCulling()
+     */
+    protected int octaveCulling = 0;
+
+    /**
+     * @see #isTileableSimplex()
+     */
+    protected boolean tileableSimplex = false;
     
     /**
      * A publicly available Noise object with seed 1337, frequency 1.0f/32.0f, 1 octave of Simplex noise using
-     * SIMPLEX_FRACTAL noiseType, 2f lacunarity and 0.5f gain. It's encouraged to use methods that temporarily configure
-     * this variable, like {@link #getNoiseWithSeed(float, float, int)} rather than changing its settings and using a
-     * method that needs that lasting configuration, like {@link #getConfiguredNoise(float, float)}.
+     * SIMPLEX_FRACTAL noiseType, 2f lacunarity and 0.5f gain. It's encouraged to use methods that take a seed as a
+     * parameter, like {@link #getNoiseWithSeed(float, float, int)}, rather than changing its settings and using a
+     * method that needs that lasting configuration, like {@link #getConfiguredNoise(float, float)}. Because sampling
+     * methods never change the state of a Noise object, this can be shared between threads as long as its settings
+     * aren't changed while it is in use.
      */
     public static final Noise instance = new Noise();
 
@@ -503,6 +517,8 @@ public class Noise {
         this.cellularDistanceFunction = other.cellularDistanceFunction;
         this.foamSharpness = other.foamSharpness;
         this.mutation = other.mutation;
+        this.octaveCulling = other.octaveCulling;
+        this.tileableSimplex = other.tileableSimplex;
     }
 
     protected static float dotf(final float[] g, final float x, final float y) {
@@ -783,16 +799,135 @@ public class Noise {
         this.mutation = mutation;
     }
 
+    /**
+     * Gets the output bit depth that fractal fills cull octaves for, or 0 if octave culling is off (the default).
+     * @return the output bit depth octaves are culled for, or 0 if culling is off
+     * @see #setOctaveCulling(int)
+     */
+    public int getOctaveCulling() {
+        return octaveCulling;
+    }
+
+    /**
+     * Sets the bit depth of the output that fractal fills cull octaves for, or 0 to turn octave culling off, which is
+     * the default. When this is positive, fills that layer octaves a row at a time, such as
+     * {@link #fillConfiguredNoise(float[], float, float, float, float, int, int)} with a fractal noise type, only
+     * evaluate {@link #getEffectiveOctaves(float)} octaves for their sample spacing. Two kinds of octave are skipped.
+     * With {@link #FBM}, trailing octaves whose combined amplitude is less than half a quantization step at this bit
+     * depth are skipped, which can't move a quantized result by more than about one level. With any fractal type,
+     * octaves whose lattice cells are smaller than the distance between samples are skipped too; their detail is past
+     * the Nyquist limit of the samples and would only show up as aliasing, but with a high gain it can make up a large
+     * part of each value, so pixels can change by much more than one level. Because results change, this is opt-in;
+     * per-point methods, like {@link #getConfiguredNoise(float, float)}, never cull octaves. The number of octaves
+     * depends only on the fill's step and frequency, never on its width or height, so a fill split into bands gives
+     * the same results as one big fill.
+     * @param outputBits how many bits each output value will be quantized to, such as 8; 0 or less turns culling off
+     */
+    public void setOctaveCulling(int outputBits) {
+        this.octaveCulling = Math.max(outputBits, 0);
+    }
+
+    /**
+     * Gets how many octaves a fractal fill evaluates when its samples are {@code spacing} apart, after frequency is
+     * applied, given the current {@link #getOctaveCulling() octave culling} setting. If culling is off, this is just
+     * {@link #getFractalOctaves()}. Otherwise, with {@link #FBM} only, it stops before the first octave in a run of
+     * trailing octaves whose combined amplitude, times the fractal bounding that normalizes the sum, is less than half
+     * a quantization step. {@link #BILLOW} and {@link #RIDGED_MULTI} remap each octave nonlinearly before adding it, so
+     * they aren't culled by amplitude. For every fractal type, it also stops before the first octave whose lattice
+     * cells are smaller than {@code spacing}, which puts its detail past the Nyquist limit of the samples; this cut
+     * isn't bounded by the quantization step. At least one octave is always evaluated. With {@link #RIDGED_MULTI},
+     * skipped octaves are replaced by their average, so the result stays centered.
+     * @param spacing the distance between adjacent samples, after frequency is applied; 0 or less only culls by amplitude
+     * @return how many octaves a fill with that spacing will evaluate, from 1 to {@link #getFractalOctaves()}
+     */
+    public int getEffectiveOctaves(float spacing) {
+        if (octaveCulling <= 0 || octaves <= 1)
+            return octaves;
+        int used = octaves;
+        if (fractalType == FBM) {
+            final float halfStep = (float) Math.scalb(1.0, -octaveCulling);
+            final float[] amps = new float[octaves];
+            float amp = 1f;
+            for (int i = 0; i < octaves; i++) {
+                amps[i] = Math.abs(amp);
+                amp *= gain;
+            }
+            float tail = 0f;
+            for (int i = octaves - 1; i > 0; i--) {
+                tail += amps[i];
+                if (tail * fractalBounding >= halfStep)
+                    break;
+                used = i;
+            }
+        }
+        if (spacing > 0f && lacunarity > 1f) {
+            float scale = lacunarity;
+            for (int i = 1; i < used; i++, scale *= lacunarity) {
+                if (spacing * scale > 1f) {
+                    used = i;
+                    break;
+                }
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Gets how many octaves a fractal fill that moves by {@code stepX} between columns and by {@code stepY} between
+     * rows evaluates, such as {@link #fillConfiguredNoise(float[], float, float, float, float, int, int)} or
+     * {@link #fillCylindricalNoise(float[], float, float, float, float, float, int, int, int)} given the same steps.
+     * This is {@link #getEffectiveOctaves(float)} for the smaller of the two steps that aren't 0, after frequency is
+     * applied; it doesn't depend on how many rows or columns the fill has.
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @return how many octaves a fill with those steps will evaluate, from 1 to {@link #getFractalOctaves()}
+     */
+    public int getEffectiveOctaves(float stepX, float stepY) {
+        return getEffectiveOctaves(sampleSpacing(stepX, stepY));
+    }
+
+    /**
+     * Returns true if {@link #tileable2D(float, float, float, float, int)}, {@link #tileable3D(float, float, float,
+     * float, float, float, int)}, and {@link #fillTileableNoise(float[], int, int)} wrap the simplex lattice for
+     * {@link #SIMPLEX} and {@link #SIMPLEX_FRACTAL}, or false if they fall back to the seamless methods for those
+     * types (the default).
+     * @return true if simplex noise is tiled by wrapping its lattice
+     * @see #setTileableSimplex(boolean)
+     */
+    public boolean isTileableSimplex() {
+        return tileableSimplex;
+    }
+
+    /**
+     * Sets whether {@link #tileable2D(float, float, float, float, int)}, {@link #tileable3D(float, float, float,
+     * float, float, float, int)}, and {@link #fillTileableNoise(float[], int, int)} wrap the simplex lattice for
+     * {@link #SIMPLEX} and {@link #SIMPLEX_FRACTAL}. Wrapping the lattice is much faster than the
+     * {@link #seamless2D(float, float, float, float, int)} fallback, but the lattice has to be wrapped in skewed space,
+     * so the noise looks stretched along one diagonal compared to regular simplex noise or the seamless version. This
+     * is off by default, so tileable simplex looks the same as seamless simplex unless this is set.
+     * @param tileableSimplex true to wrap the simplex lattice, or false to fall back to the seamless methods
+     */
+    public void setTileableSimplex(boolean tileableSimplex) {
+        this.tileableSimplex = tileableSimplex;
+    }
+
+    /**
+     * Gets the distance between adjacent samples in a fill that moves by {@code stepX} between columns and by
+     * {@code stepY} between rows, after frequency is applied. This is the smaller of the two steps that aren't 0, or 0
+     * if both are. It only depends on the steps, not on how many rows or columns a fill has, so splitting a fill into
+     * bands (as {@link NoiseGen} does for each thread) never changes how many octaves are culled.
+     */
+    private float sampleSpacing(final float stepX, final float stepY) {
+        final float sx = Math.abs(stepX * frequency), sy = Math.abs(stepY * frequency);
+        return sx == 0f ? sy : sy == 0f ? sx : Math.min(sx, sy);
+    }
+
     public double getNoise(double x, double y) {
         return getConfiguredNoise((float)x, (float)y);
     }
 
     public double getNoiseWithSeed(double x, double y, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z) {
@@ -800,11 +935,7 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w) {
@@ -812,11 +943,7 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w, double u) {
@@ -824,11 +951,7 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, double u, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w, (float)u);
-        this.seed = s;
-        return r;
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (float)u, (int) (seed ^ seed >>> 32));
     }
 
     public double getNoise(double x, double y, double z, double w, double u, double v) {
@@ -836,152 +959,27 @@ public class Noise {
     }
 
     public double getNoiseWithSeed(double x, double y, double z, double w, double u, double v, long seed) {
-        int s = this.seed;
-        this.seed = (int) (seed ^ seed >>> 32);
-        double r = getConfiguredNoise((float)x, (float)y, (float)z, (float)w, (float)u, (float)v);
-        this.seed = s;
-        return r;
-    }
-    
-    public float getNoiseWithSeed(float x, float y, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y);
-        this.seed = s;
-        return r;
-    }
-    public float getNoiseWithSeed(float x, float y, float z, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z);
-        this.seed = s;
-        return r;
-    }
-    public float getNoiseWithSeed(float x, float y, float z, float w, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w);
-        this.seed = s;
-        return r;
-    }
-
-    public float getNoiseWithSeed(float x, float y, float z, float w, float u, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w, u);
-        this.seed = s;
-        return r;
-    }
-
-    public float getNoiseWithSeed(float x, float y, float z, float w, float u, float v, int seed) {
-        final int s = this.seed;
-        this.seed = seed;
-        float r = getConfiguredNoise(x, y, z, w, u, v);
-        this.seed = s;
-        return r;
-    }
-
-    protected static int fastFloor(float f) {
-        return (f >= 0 ? (int) f : (int) f - 1);
-    }
-
-    protected static int fastRound(float f) {
-        return (f >= 0) ? (int) (f + 0.5f) : (int) (f - 0.5f);
-    }
-
-
-    private static float lerp(float a, float b, float t) {
-        return a + t * (b - a);
-    }
-
-    protected static float hermiteInterpolator(float t) {
-        return t * t * (3 - 2 * t);
-    }
-
-    protected static float quinticInterpolator(float t) {
-        return t * t * t * (t * (t * 6 - 15) + 10);
-    }
-
-    protected static float cubicLerp(float a, float b, float c, float d, float t) {
-        float p = (d - c) - (a - b);
-        return t * (t * t * p + t * ((a - b) - p) + (c - a)) + b;
-    }
-
-    private void calculateFractalBounding() {
-        float amp = gain;
-        float ampFractal = 1;
-        for (int i = 1; i < octaves; i++) {
-            ampFractal += amp;
-            amp *= gain;
-        }
-        fractalBounding = 1 / ampFractal;
-    }
-
-    private float valCoord2D(int seed, int x, int y) {
-        return (hashAll(x, y, seed) >> 7) * 0x1.0p-24f;
-    }
-
-    private float valCoord3D(int seed, int x, int y, int z) {
-        return (hashAll(x, y, z, seed) >> 7) * 0x1.0p-24f;
-    }
-
-    private float valCoord4D(int seed, int x, int y, int z, int w) {
-        return (hashAll(x, y, z, w, seed) >> 7) * 0x1.0p-24f;
-    }
-
-    private float valCoord5D(int seed, int x, int y, int z, int w, int u) {
-        return (hashAll(x, y, z, w, u, seed) >> 7) * 0x1.0p-24f;
-    }
-
-    private float valCoord6D(int seed, int x, int y, int z, int w, int u, int v) {
-        return (hashAll(x, y, z, w, u, v, seed) >> 7) * 0x1.0p-24f;
-    }
-
-    protected float gradCoord2D(int seed, int x, int y, float xd, float yd) {
-        final int hash = hash256(x, y, seed) << 1;
-        return xd * GRAD_2D[hash] + yd * GRAD_2D[hash + 1];
-    }
-
-    protected float gradCoord3D(int seed, int x, int y, int z, float xd, float yd, float zd) {
-        final int hash = hash32(x, y, z, seed) << 2;
-        return xd * GRAD_3D[hash] + yd * GRAD_3D[hash+1] + zd * GRAD_3D[hash+2];
-    }
-
-    protected float gradCoord4D(int seed, int x, int y, int z, int w, float xd, float yd, float zd, float wd) {
-        final int hash = hash256(x, y, z, w, seed) & 0xFC;
-        return xd * GRAD_4D[hash] + yd * GRAD_4D[hash + 1] + zd * GRAD_4D[hash + 2] + wd * GRAD_4D[hash + 3];
-    }
-
-    protected float gradCoord5D(int seed, int x, int y, int z, int w, int u,
-        float xd, float yd, float zd, float wd, float ud) {
-        final int hash = hash256(x, y, z, w, u, seed) << 3;
-        return xd * GRAD_5D[hash] + yd * GRAD_5D[hash+1] + zd * GRAD_5D[hash+2] + wd * GRAD_5D[hash+3] + ud * GRAD_5D[hash+4];
-    }
-
-    protected float gradCoord6D(int seed, int x, int y, int z, int w, int u, int v,
-        float xd, float yd, float zd, float wd, float ud, float vd) {
-        final int hash = hash256(x, y, z, w, u, v, seed) << 3;
-        return xd * GRAD_6D[hash] + yd * GRAD_6D[hash+1] + zd * GRAD_6D[hash+2] +
-                wd * GRAD_6D[hash+3] + ud * GRAD_6D[hash+4] + vd * GRAD_6D[hash+5];
+        return getNoiseWithSeed((float)x, (float)y, (float)z, (float)w, (float)u, (float)v, (int) (seed ^ seed >>> 32));
     }
 
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 2D.
+     * Gets the same kind of noise {@link #getConfiguredNoise(float, float)} would, but using {@code seed} instead of
+     * {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once, such as on {@link #instance}.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
      * @return noise as a float from -1f to 1f
      */
-    public float getConfiguredNoise(float x, float y) {
+    public float getNoiseWithSeed(float x, float y, int seed) {
         x *= frequency;
         y *= frequency;
 
         switch (noiseType) {
             case BLUE_NOISE: {
 //                return (BlueNoise.getSeeded(Math.round(x), Math.round(y), seed) + 0.5f) / 127.5f;
-                int ix = Math.round(x), iy = Math.round(y), b = BlueNoise.getSeeded(ix, iy, seed) & 255;
-                return (b << 16 | b << 8 | b) / 0xFFFFFFp-1f - 1f;
+                int ix = Math.round(x), iy = Math.round(y);
+                return BLUE_LEVELS[BlueNoise.getSeeded(ix, iy, seed) & 255];
 //                return (
 //                        (BlueNoise.getSeeded(ix, iy, seed) + 128 << 16) |
 //                        (BlueNoise.getSeeded(ix, iy, ~seed) + 128 << 8) |
@@ -993,102 +991,102 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y);
+                        return singleValueFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y);
+                        return singleValueFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleValueFractalFBM(x, y);
+                        return singleValueFractalFBM(seed, x, y);
                 }
             case FOAM:
                 return singleFoam(seed, x, y);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y);
+                        return singleFoamFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y);
+                        return singleFoamFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleFoamFractalFBM(x, y);
+                        return singleFoamFractalFBM(seed, x, y);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, mutation);
+                        return singleFoamFractalBillow(seed, x, y, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, mutation);
+                        return singleFoamFractalFBM(seed, x, y, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y);
+                        return singleHoneyFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y);
+                        return singleHoneyFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleHoneyFractalFBM(x, y);
+                        return singleHoneyFractalFBM(seed, x, y);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y);
+                        return singlePerlinFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y);
+                        return singlePerlinFractalRidgedMulti(seed, x, y);
                     default:
-                        return singlePerlinFractalFBM(x, y);
+                        return singlePerlinFractalFBM(seed, x, y);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y);
+                        return singleSimplexFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y);
+                        return singleSimplexFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleSimplexFractalFBM(x, y);
+                        return singleSimplexFractalFBM(seed, x, y);
                 }
             case CELLULAR:
                 switch (cellularReturnType) {
                     case CELL_VALUE:
                     case NOISE_LOOKUP:
                     case DISTANCE:
-                        return singleCellular(x, y);
+                        return singleCellular(seed, x, y);
                     default:
-                        return singleCellular2Edge(x, y);
+                        return singleCellular2Edge(seed, x, y);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y);
+                return singleWhiteNoise(seed, x, y);
             case CUBIC:
                 return singleCubic(seed, x, y);
             case CUBIC_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleCubicFractalBillow(x, y);
+                        return singleCubicFractalBillow(seed, x, y);
                     case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y);
+                        return singleCubicFractalRidgedMulti(seed, x, y);
                     default:
-                        return singleCubicFractalFBM(x, y);
+                        return singleCubicFractalFBM(seed, x, y);
                 }
             default:
                 return singleSimplex(seed, x, y);
         }
     }
-
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 3D.
+     * Gets the same kind of noise {@link #getConfiguredNoise(float, float, float)} would, but using {@code seed} instead of
+     * {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once, such as on {@link #instance}.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
      * @return noise as a float from -1f to 1f
      */
-    public float getConfiguredNoise(float x, float y, float z) {
+    public float getNoiseWithSeed(float x, float y, float z, int seed) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
@@ -1099,102 +1097,103 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z);
+                        return singleValueFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z);
+                        return singleValueFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleValueFractalFBM(x, y, z);
+                        return singleValueFractalFBM(seed, x, y, z);
                 }
             case FOAM:
                 return singleFoam(seed, x, y, z);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z);
+                        return singleFoamFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleFoamFractalFBM(x, y, z);
+                        return singleFoamFractalFBM(seed, x, y, z);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, z, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, mutation);
+                        return singleFoamFractalBillow(seed, x, y, z, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, z, mutation);
+                        return singleFoamFractalFBM(seed, x, y, z, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y, z);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z);
+                        return singleHoneyFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z);
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleHoneyFractalFBM(x, y, z);
+                        return singleHoneyFractalFBM(seed, x, y, z);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y, z);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z);
+                        return singlePerlinFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z);
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singlePerlinFractalFBM(x, y, z);
+                        return singlePerlinFractalFBM(seed, x, y, z);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z);
+                        return singleSimplexFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z);
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleSimplexFractalFBM(x, y, z);
+                        return singleSimplexFractalFBM(seed, x, y, z);
                 }
             case CELLULAR:
                 switch (cellularReturnType) {
                     case CELL_VALUE:
                     case NOISE_LOOKUP:
                     case DISTANCE:
-                        return singleCellular(x, y, z);
+                        return singleCellular(seed, x, y, z);
                     default:
-                        return singleCellular2Edge(x, y, z);
+                        return singleCellular2Edge(seed, x, y, z);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z);
+                return singleWhiteNoise(seed, x, y, z);
             case CUBIC:
                 return singleCubic(seed, x, y, z);
             case CUBIC_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleCubicFractalBillow(x, y, z);
+                        return singleCubicFractalBillow(seed, x, y, z);
                     case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y, z);
+                        return singleCubicFractalRidgedMulti(seed, x, y, z);
                     default:
-                        return singleCubicFractalFBM(x, y, z);
+                        return singleCubicFractalFBM(seed, x, y, z);
                 }
             default:
                 return singleSimplex(seed, x, y, z);
         }
     }
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 4D.
+     * Gets the same kind of noise {@link #getConfiguredNoise(float, float, float, float)} would, but using {@code seed} instead of
+     * {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once, such as on {@link #instance}.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
      * @return noise as a float from -1f to 1f
      */
-    public float getConfiguredNoise(float x, float y, float z, float w) {
+    public float getNoiseWithSeed(float x, float y, float z, float w, int seed) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
@@ -1206,77 +1205,77 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w);
+                        return singleValueFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w);
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singleValueFractalFBM(x, y, z, w);
+                        return singleValueFractalFBM(seed, x, y, z, w);
                 }
             case FOAM:
                 return singleFoam(seed, x, y, z, w);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w);
+                        return singleFoamFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w);
+                        return singleFoamFractalFBM(seed, x, y, z, w);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, z, w, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, mutation);
+                        return singleFoamFractalBillow(seed, x, y, z, w, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, mutation);
+                        return singleFoamFractalFBM(seed, x, y, z, w, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y, z, w);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w);
+                        return singleHoneyFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w);
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singleHoneyFractalFBM(x, y, z, w);
+                        return singleHoneyFractalFBM(seed, x, y, z, w);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y, z, w);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w);
+                        return singlePerlinFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w);
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singlePerlinFractalFBM(x, y, z, w);
+                        return singlePerlinFractalFBM(seed, x, y, z, w);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w);
+                        return singleSimplexFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w);
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singleSimplexFractalFBM(x, y, z, w);
+                        return singleSimplexFractalFBM(seed, x, y, z, w);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w);
+                return singleWhiteNoise(seed, x, y, z, w);
             case CUBIC:
                 return singleCubic(seed, x, y, z, w);
             case CUBIC_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleCubicFractalBillow(x, y, z, w);
+                        return singleCubicFractalBillow(seed, x, y, z, w);
                     case RIDGED_MULTI:
-                        return singleCubicFractalRidgedMulti(x, y, z, w);
+                        return singleCubicFractalRidgedMulti(seed, x, y, z, w);
                     default:
-                        return singleCubicFractalFBM(x, y, z, w);
+                        return singleCubicFractalFBM(seed, x, y, z, w);
                 }
 
             default:
@@ -1285,17 +1284,18 @@ public class Noise {
     }
 
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 5D.
+     * Gets the same kind of noise {@link #getConfiguredNoise(float, float, float, float, float)} would, but using {@code seed} instead of
+     * {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once, such as on {@link #instance}.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
      * @return noise as a float from -1f to 1f
      */
-    public float getConfiguredNoise(float x, float y, float z, float w, float u) {
+    public float getNoiseWithSeed(float x, float y, float z, float w, float u, int seed) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
@@ -1308,85 +1308,86 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w, u);
+                        return singleValueFractalBillow(seed, x, y, z, w, u);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w, u);
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w, u);
                     default:
-                        return singleValueFractalFBM(x, y, z, w, u);
+                        return singleValueFractalFBM(seed, x, y, z, w, u);
                 }
             case FOAM:
                 return singleFoam(seed, x, y, z, w, u);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u);
+                        return singleFoamFractalBillow(seed, x, y, z, w, u);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u);
+                        return singleFoamFractalFBM(seed, x, y, z, w, u);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, z, w, u, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, mutation);
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, mutation);
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y, z, w, u);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w, u);
+                        return singleHoneyFractalBillow(seed, x, y, z, w, u);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w, u);
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u);
                     default:
-                        return singleHoneyFractalFBM(x, y, z, w, u);
+                        return singleHoneyFractalFBM(seed, x, y, z, w, u);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y, z, w, u);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w, u);
+                        return singlePerlinFractalBillow(seed, x, y, z, w, u);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w, u);
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w, u);
                     default:
-                        return singlePerlinFractalFBM(x, y, z, w, u);
+                        return singlePerlinFractalFBM(seed, x, y, z, w, u);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w, u);
+                        return singleSimplexFractalBillow(seed, x, y, z, w, u);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w, u);
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u);
                     default:
-                        return singleSimplexFractalFBM(x, y, z, w, u);
+                        return singleSimplexFractalFBM(seed, x, y, z, w, u);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w, u);
+                return singleWhiteNoise(seed, x, y, z, w, u);
             default:
                 return singleSimplex(seed, x, y, z, w, u);
         }
     }
 
     /**
-     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
-     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
-     * you can call this method to get the particular variety of noise you specified, in 6D.
+     * Gets the same kind of noise {@link #getConfiguredNoise(float, float, float, float, float, float)} would, but using {@code seed} instead of
+     * {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once, such as on {@link #instance}.
      * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
      * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param seed the int seed to use instead of {@link #getSeed()}
      * @return noise as a float from -1f to 1f
      */
-    public float getConfiguredNoise(float x, float y, float z, float w, float u, float v) {
+    public float getNoiseWithSeed(float x, float y, float z, float w, float u, float v, int seed) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
@@ -1400,150 +1401,4780 @@ public class Noise {
             case VALUE_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleValueFractalBillow(x, y, z, w, u, v);
+                        return singleValueFractalBillow(seed, x, y, z, w, u, v);
                     case RIDGED_MULTI:
-                        return singleValueFractalRidgedMulti(x, y, z, w, u, v);
+                        return singleValueFractalRidgedMulti(seed, x, y, z, w, u, v);
                     default:
-                        return singleValueFractalFBM(x, y, z, w, u, v);
+                        return singleValueFractalFBM(seed, x, y, z, w, u, v);
                 }
             case FOAM:
                 return singleFoam(seed, x, y, z, w, u, v);
             case FOAM_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, v);
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, v);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, v);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, v);
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, v);
                 }
             case MUTANT:
                 return singleFoam(seed, x, y, z, w, u, v, mutation);
             case MUTANT_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleFoamFractalBillow(x, y, z, w, u, v, mutation);
+                        return singleFoamFractalBillow(seed, x, y, z, w, u, v, mutation);
                     case RIDGED_MULTI:
-                        return singleFoamFractalRidgedMulti(x, y, z, w, u, v, mutation);
+                        return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v, mutation);
                     default:
-                        return singleFoamFractalFBM(x, y, z, w, u, v, mutation);
+                        return singleFoamFractalFBM(seed, x, y, z, w, u, v, mutation);
                 }
             case HONEY:
                 return singleHoney(seed, x, y, z, w, u, v);
             case HONEY_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleHoneyFractalBillow(x, y, z, w, u, v);
+                        return singleHoneyFractalBillow(seed, x, y, z, w, u, v);
                     case RIDGED_MULTI:
-                        return singleHoneyFractalRidgedMulti(x, y, z, w, u, v);
+                        return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u, v);
                     default:
-                        return singleHoneyFractalFBM(x, y, z, w, u, v);
+                        return singleHoneyFractalFBM(seed, x, y, z, w, u, v);
                 }
             case PERLIN:
                 return singlePerlin(seed, x, y, z, w, u, v);
             case PERLIN_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singlePerlinFractalBillow(x, y, z, w, u, v);
+                        return singlePerlinFractalBillow(seed, x, y, z, w, u, v);
                     case RIDGED_MULTI:
-                        return singlePerlinFractalRidgedMulti(x, y, z, w, u, v);
+                        return singlePerlinFractalRidgedMulti(seed, x, y, z, w, u, v);
                     default:
-                        return singlePerlinFractalFBM(x, y, z, w, u, v);
+                        return singlePerlinFractalFBM(seed, x, y, z, w, u, v);
                 }
             case SIMPLEX_FRACTAL:
                 switch (fractalType) {
                     case BILLOW:
-                        return singleSimplexFractalBillow(x, y, z, w, u, v);
+                        return singleSimplexFractalBillow(seed, x, y, z, w, u, v);
                     case RIDGED_MULTI:
-                        return singleSimplexFractalRidgedMulti(x, y, z, w, u, v);
+                        return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u, v);
                     default:
-                        return singleSimplexFractalFBM(x, y, z, w, u, v);
+                        return singleSimplexFractalFBM(seed, x, y, z, w, u, v);
                 }
             case WHITE_NOISE:
-                return getWhiteNoise(x, y, z, w, u, v);
+                return singleWhiteNoise(seed, x, y, z, w, u, v);
             default:
                 return singleSimplex(seed, x, y, z, w, u, v);
         }
     }
 
-    // White Noise
-
-    /**
-     * Gets the bit representation of a float with {@link NumberUtils#floatToIntBits(float)} and
-     * mixes its typically-more-varied high bits with its low bits, returning an int.     * @param f can be any float except for NaN, though this will technically work on NaN
-     * @return a slightly-mixed version of the bits that make up {@code f}, as an int
-     */
-    public int floatToIntMixed(final float f) {
-        final int i = NumberUtils.floatToRawIntBits(f);
-        return i ^ i >>> 16;
+    protected static int fastFloor(float f) {
+        return (f >= 0 ? (int) f : (int) f - 1);
     }
 
-    public float getWhiteNoise(float x, float y) {
-        int xi = floatToIntMixed(x);
-        int yi = floatToIntMixed(y);
-
-        return valCoord2D(seed, xi, yi);
+    protected static int fastRound(float f) {
+        return (f >= 0) ? (int) (f + 0.5f) : (int) (f - 0.5f);
     }
 
-    public float getWhiteNoise(float x, float y, float z) {
-        int xi = floatToIntMixed(x);
-        int yi = floatToIntMixed(y);
-        int zi = floatToIntMixed(z);
 
-        return valCoord3D(seed, xi, yi, zi);
+    private static float lerp(float a, float b, float t) {
+        return a + t * (b - a);
     }
 
-    public float getWhiteNoise(float x, float y, float z, float w) {
-        int xi = floatToIntMixed(x);
-        int yi = floatToIntMixed(y);
-        int zi = floatToIntMixed(z);
-        int wi = floatToIntMixed(w);
+    protected static float hermiteInterpolator(float t) {
+        return t * t * (3 - 2 * t);
+    }
 
-        return valCoord4D(seed, xi, yi, zi, wi);
+    protected static float quinticInterpolator(float t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
     }
 
-    public float getWhiteNoise(float x, float y, float z, float w, float u) {
-        int xi = floatToIntMixed(x);
-        int yi = floatToIntMixed(y);
-        int zi = floatToIntMixed(z);
-        int wi = floatToIntMixed(w);
-        int ui = floatToIntMixed(u);
+    protected static float cubicLerp(float a, float b, float c, float d, float t) {
+        float p = (d - c) - (a - b);
+        return t * (t * t * p + t * ((a - b) - p) + (c - a)) + b;
+    }
 
-        return valCoord5D(seed, xi, yi, zi, wi, ui);
+    private void calculateFractalBounding() {
+        float amp = gain;
+        float ampFractal = 1;
+        for (int i = 1; i < octaves; i++) {
+            ampFractal += amp;
+            amp *= gain;
+        }
+        fractalBounding = 1 / ampFractal;
     }
 
-    public float getWhiteNoise(float x, float y, float z, float w, float u, float v) {
-        int xi = floatToIntMixed(x);
-        int yi = floatToIntMixed(y);
-        int zi = floatToIntMixed(z);
-        int wi = floatToIntMixed(w);
-        int ui = floatToIntMixed(u);
-        int vi = floatToIntMixed(v);
+    private float valCoord2D(int seed, int x, int y) {
+        return (hashAll(x, y, seed) >> 7) * 0x1.0p-24f;
+    }
 
-        return valCoord6D(seed, xi, yi, zi, wi, ui, vi);
+    private float valCoord3D(int seed, int x, int y, int z) {
+        return (hashAll(x, y, z, seed) >> 7) * 0x1.0p-24f;
     }
 
-    // Value Noise
-    //x should be premultiplied by 0xD1B55
-    //y should be premultiplied by 0xABC99
-    private static int hashPart1024(final int x, final int y, int s) {
-        s += x ^ y;
-        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
+    private float valCoord4D(int seed, int x, int y, int z, int w) {
+        return (hashAll(x, y, z, w, seed) >> 7) * 0x1.0p-24f;
     }
-    //x should be premultiplied by 0xDB4F1
-    //y should be premultiplied by 0xBBE05
-    //z should be premultiplied by 0xA0F2F
-    private static int hashPart1024(final int x, final int y, final int z, int s) {
-        s += x ^ y ^ z;
-        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
+
+    private float valCoord5D(int seed, int x, int y, int z, int w, int u) {
+        return (hashAll(x, y, z, w, u, seed) >> 7) * 0x1.0p-24f;
     }
-    //x should be premultiplied by 0xE19B1
-    //y should be premultiplied by 0xC6D1D
-    //z should be premultiplied by 0xAF36D
-    //w should be premultiplied by 0x9A695
-    private static int hashPart1024(final int x, final int y, final int z, final int w, int s) {
-        s += x ^ y ^ z ^ w;
-        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
+
+    private float valCoord6D(int seed, int x, int y, int z, int w, int u, int v) {
+        return (hashAll(x, y, z, w, u, v, seed) >> 7) * 0x1.0p-24f;
+    }
+
+    protected float gradCoord2D(int seed, int x, int y, float xd, float yd) {
+        final int hash = hash256(x, y, seed) << 1;
+        return xd * GRAD_2D[hash] + yd * GRAD_2D[hash + 1];
+    }
+
+    protected float gradCoord3D(int seed, int x, int y, int z, float xd, float yd, float zd) {
+        final int hash = hash32(x, y, z, seed) << 2;
+        return xd * GRAD_3D[hash] + yd * GRAD_3D[hash+1] + zd * GRAD_3D[hash+2];
+    }
+
+    protected float gradCoord4D(int seed, int x, int y, int z, int w, float xd, float yd, float zd, float wd) {
+        final int hash = hash256(x, y, z, w, seed) & 0xFC;
+        return xd * GRAD_4D[hash] + yd * GRAD_4D[hash + 1] + zd * GRAD_4D[hash + 2] + wd * GRAD_4D[hash + 3];
+    }
+
+    protected float gradCoord5D(int seed, int x, int y, int z, int w, int u,
+        float xd, float yd, float zd, float wd, float ud) {
+        final int hash = hash256(x, y, z, w, u, seed) << 3;
+        return xd * GRAD_5D[hash] + yd * GRAD_5D[hash+1] + zd * GRAD_5D[hash+2] + wd * GRAD_5D[hash+3] + ud * GRAD_5D[hash+4];
+    }
+
+    protected float gradCoord6D(int seed, int x, int y, int z, int w, int u, int v,
+        float xd, float yd, float zd, float wd, float ud, float vd) {
+        final int hash = hash256(x, y, z, w, u, v, seed) << 3;
+        return xd * GRAD_6D[hash] + yd * GRAD_6D[hash+1] + zd * GRAD_6D[hash+2] +
+                wd * GRAD_6D[hash+3] + ud * GRAD_6D[hash+4] + vd * GRAD_6D[hash+5];
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 2D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y) {
+        return getNoiseWithSeed(x, y, seed);
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 3D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z) {
+        return getNoiseWithSeed(x, y, z, seed);
+    }
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 4D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w) {
+        return getNoiseWithSeed(x, y, z, w, seed);
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 5D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w, float u) {
+        return getNoiseWithSeed(x, y, z, w, u, seed);
+    }
+
+    /**
+     * After being configured with the setters in this class, such as {@link #setNoiseType(int)},
+     * {@link #setFrequency(float)}, {@link #setFractalOctaves(int)}, and {@link #setFractalType(int)}, among others,
+     * you can call this method to get the particular variety of noise you specified, in 6D.
+     * @param x x position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param y y position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param z z position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param w w position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param u u position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @param v v position, as a float; the range this should have depends on {@link #getFrequency()}
+     * @return noise as a float from -1f to 1f
+     */
+    public float getConfiguredNoise(float x, float y, float z, float w, float u, float v) {
+        return getNoiseWithSeed(x, y, z, w, u, v, seed);
+    }
+
+    /**
+     * Groups the indices from 0 to {@code count - 1} by the lattice cell each one is in, given as a hashed int per
+     * index in {@code cells}. This is a counting sort into at least {@code count} buckets by a hash of each cell, so
+     * it takes linear time, and indices in the same cell always end up next to each other (with any other cells that
+     * share their bucket). Indices keep their original order within a bucket.
+     * @return a new int array holding each index once, grouped by cell
+     */
+    private static int[] bucketOrder(final int[] cells, final int count) {
+        final int bits = 32 - Integer.numberOfLeadingZeros(Math.max(count - 1, 1)), shift = 32 - bits;
+        final int[] starts = new int[(1 << bits) + 1];
+        for (int i = 0; i < count; i++) {
+            starts[(cells[i] * 0x9E3779B9 >>> shift) + 1]++;
+        }
+        for (int b = 1; b < starts.length; b++) {
+            starts[b] += starts[b - 1];
+        }
+        final int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[starts[cells[i] * 0x9E3779B9 >>> shift]++] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Gets 2D noise at many scattered points at once, using the same configuration that
+     * {@link #getConfiguredNoise(float, float)} uses; after this, {@code out[i]} holds
+     * {@code getConfiguredNoise(x[i], y[i])} for every {@code i} less than {@code count}. The points can be in any
+     * order, such as entity positions. For {@link #CUBIC} and {@link #CUBIC_FRACTAL}, which hash a 4x4 block of
+     * lattice values for every point, this groups the points by lattice cell, evaluates them in that order with
+     * {@link #sortedCubic(int, float[], float[], float[], int, int)} (one octave at a time for all points, if
+     * fractal), and then puts each result back at the index its point came from. The other noise types hash little
+     * enough per point that grouping costs more than it saves, so they are evaluated one point at a time in the
+     * order given, only checking the noise type once.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code count} items, a new array is allocated and returned
+     * instead.
+     * @param x x positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param y y positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param out a float array that will be filled with noise from -1f to 1f; may be null
+     * @param count how many points to evaluate
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] getConfiguredNoise(float[] x, float[] y, float[] out, int count) {
+        if (out == null || out.length < count)
+            out = new float[count];
+        final int seed = this.seed;
+        if (noiseType != CUBIC && noiseType != CUBIC_FRACTAL) {
+            for (int i = 0; i < count; i++) {
+                out[i] = getNoiseWithSeed(x[i], y[i], seed);
+            }
+            return out;
+        }
+        final float[] fx = new float[count], fy = new float[count];
+        final int[] cells = new int[count];
+        for (int i = 0; i < count; i++) {
+            fx[i] = x[i] * frequency;
+            fy[i] = y[i] * frequency;
+            cells[i] = fastFloor(fx[i]) * 0x1827F5 ^ fastFloor(fy[i]) * 0x123C21;
+        }
+        final int[] order = bucketOrder(cells, count);
+        final float[] sx = new float[count], sy = new float[count];
+        for (int k = 0; k < count; k++) {
+            sx[k] = fx[order[k]];
+            sy[k] = fy[order[k]];
+        }
+        final float[] sorted = new float[count];
+        if (noiseType == CUBIC)
+            sortedCubic(seed, sx, sy, sorted, 0, count);
+        else
+            fractalPoints2D(CUBIC, new int[]{seed}, sx, sy, false, null, new float[][]{sorted}, 0, count, octaves,
+                    new float[1][count], new int[1]);
+        for (int k = 0; k < count; k++) {
+            out[order[k]] = sorted[k];
+        }
+        return out;
+    }
+
+    /**
+     * Gets 3D noise at many scattered points at once, using the same configuration that
+     * {@link #getConfiguredNoise(float, float, float)} uses; after this, {@code out[i]} holds
+     * {@code getConfiguredNoise(x[i], y[i], z[i])} for every {@code i} less than {@code count}. This groups
+     * {@link #CUBIC} and {@link #CUBIC_FRACTAL} points by lattice cell and evaluates them with
+     * {@link #sortedCubic(int, float[], float[], float[], float[], int, int)}, the same way
+     * {@link #getConfiguredNoise(float[], float[], float[], int)} does, and evaluates other types one point at a time.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code count} items, a new array is allocated and returned
+     * instead.
+     * @param x x positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param y y positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param z z positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param out a float array that will be filled with noise from -1f to 1f; may be null
+     * @param count how many points to evaluate
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] getConfiguredNoise(float[] x, float[] y, float[] z, float[] out, int count) {
+        if (out == null || out.length < count)
+            out = new float[count];
+        final int seed = this.seed;
+        if (noiseType != CUBIC && noiseType != CUBIC_FRACTAL) {
+            for (int i = 0; i < count; i++) {
+                out[i] = getNoiseWithSeed(x[i], y[i], z[i], seed);
+            }
+            return out;
+        }
+        final float[] fx = new float[count], fy = new float[count], fz = new float[count];
+        final int[] cells = new int[count];
+        for (int i = 0; i < count; i++) {
+            fx[i] = x[i] * frequency;
+            fy[i] = y[i] * frequency;
+            fz[i] = z[i] * frequency;
+            cells[i] = fastFloor(fx[i]) * 0x1827F5 ^ fastFloor(fy[i]) * 0x123C21 ^ fastFloor(fz[i]) * 0x1A36A9;
+        }
+        final int[] order = bucketOrder(cells, count);
+        final float[] sx = new float[count], sy = new float[count], sz = new float[count];
+        for (int k = 0; k < count; k++) {
+            sx[k] = fx[order[k]];
+            sy[k] = fy[order[k]];
+            sz[k] = fz[order[k]];
+        }
+        final float[] sorted = new float[count];
+        if (noiseType == CUBIC)
+            sortedCubic(seed, sx, sy, sz, sorted, 0, count);
+        else
+            fractalPoints3D(CUBIC, new int[]{seed}, sx, sy, sz, false, null, new float[][]{sorted}, 0, count, octaves,
+                    new float[1][count], new int[1]);
+        for (int k = 0; k < count; k++) {
+            out[order[k]] = sorted[k];
+        }
+        return out;
+    }
+
+    /**
+     * Gets 2D noise at many scattered points at once, the same way {@link #getNoise(double, double)} would for each
+     * point; after this, {@code out[i]} holds {@code getNoise(x[i], y[i])} for every {@code i} less than
+     * {@code count}. This converts the positions to float and uses
+     * {@link #getConfiguredNoise(float[], float[], float[], int)}, which groups cubic noise points by cell.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code count} items, a new array is allocated and returned
+     * instead.
+     * @param x x positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param y y positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param out a double array that will be filled with noise from -1.0 to 1.0; may be null
+     * @param count how many points to evaluate
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public double[] getNoise(double[] x, double[] y, double[] out, int count) {
+        final float[] fx = new float[count], fy = new float[count];
+        for (int i = 0; i < count; i++) {
+            fx[i] = (float) x[i];
+            fy[i] = (float) y[i];
+        }
+        final float[] result = getConfiguredNoise(fx, fy, null, count);
+        if (out == null || out.length < count)
+            out = new double[count];
+        for (int i = 0; i < count; i++) {
+            out[i] = result[i];
+        }
+        return out;
+    }
+
+    /**
+     * Gets 3D noise at many scattered points at once, the same way {@link #getNoise(double, double, double)} would for
+     * each point; after this, {@code out[i]} holds {@code getNoise(x[i], y[i], z[i])} for every {@code i} less than
+     * {@code count}. This converts the positions to float and uses
+     * {@link #getConfiguredNoise(float[], float[], float[], float[], int)}, which groups cubic noise points by cell.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code count} items, a new array is allocated and returned
+     * instead.
+     * @param x x positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param y y positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param z z positions, before {@link #getFrequency()} is applied; must have at least {@code count} items
+     * @param out a double array that will be filled with noise from -1.0 to 1.0; may be null
+     * @param count how many points to evaluate
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public double[] getNoise(double[] x, double[] y, double[] z, double[] out, int count) {
+        final float[] fx = new float[count], fy = new float[count], fz = new float[count];
+        for (int i = 0; i < count; i++) {
+            fx[i] = (float) x[i];
+            fy[i] = (float) y[i];
+            fz[i] = (float) z[i];
+        }
+        final float[] result = getConfiguredNoise(fx, fy, fz, null, count);
+        if (out == null || out.length < count)
+            out = new double[count];
+        for (int i = 0; i < count; i++) {
+            out[i] = result[i];
+        }
+        return out;
+    }
+
+    /**
+     * Fills a rectangular region of 2D noise into {@code out}, using the same configuration that
+     * {@link #getConfiguredNoise(float, float)} uses. This is equivalent to calling
+     * {@code getConfiguredNoise(startX + i * stepX, startY + j * stepY)} for each column {@code i} and row {@code j}
+     * and storing the result at {@code out[j * width + i]}, but the noise type, fractal type, and cellular return type
+     * are only checked once for the whole region, instead of once per point.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillConfiguredNoise(float[] out, float startX, float startY, float stepX, float stepY,
+                                       int width, int height) {
+        return fillNoiseWithSeed(out, startX, startY, stepX, stepY, width, height, seed);
+    }
+
+    /**
+     * Fills a rectangular region of 2D noise into {@code out} the same way
+     * {@link #fillConfiguredNoise(float[], float, float, float, float, int, int)} does, but using {@code seed} instead
+     * of {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same object from
+     * multiple threads at once.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillNoiseWithSeed(float[] out, float startX, float startY, float stepX, float stepY,
+                                     int width, int height, final int seed) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final float[] xs = new float[width], ys = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        switch (noiseType) {
+            case BLUE_NOISE: {
+                final int[] ix = new int[width];
+                for (int i = 0; i < width; i++) {
+                    ix[i] = Math.round(xs[i]);
+                }
+                for (int j = 0; j < height; j++) {
+                    rowBlueNoise(seed, ix, Math.round((startY + j * stepY) * frequency), out, j * width, width);
+                }
+                return out;
+            }
+            case VALUE: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowValue(seed, columns, (startY + j * stepY) * frequency, out, j * width);
+                }
+                return out;
+            }
+            case VALUE_FRACTAL:
+                fractalRows2D(VALUE, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            case FOAM:
+                for (int j = 0; j < height; j++) {
+                    Arrays.fill(ys, (startY + j * stepY) * frequency);
+                    batchFoam(seed, xs, ys, out, j * width, width);
+                }
+                return out;
+            case FOAM_FRACTAL:
+                fractalRows2D(FOAM, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            case MUTANT:
+                final float[] ms = new float[width];
+                Arrays.fill(ms, mutation);
+                for (int j = 0; j < height; j++) {
+                    Arrays.fill(ys, (startY + j * stepY) * frequency);
+                    batchFoam(seed, xs, ys, ms, out, j * width, width);
+                }
+                return out;
+            case MUTANT_FRACTAL:
+                fractalRows3D(FOAM, seed, xs, stepX, startY, stepY, mutation, width, height, out);
+                return out;
+            case HONEY: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowHoney(seed, columns, (startY + j * stepY) * frequency, out, j * width);
+                }
+                return out;
+            }
+            case HONEY_FRACTAL:
+                fractalRows2D(HONEY, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            case PERLIN: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowPerlin(seed, columns, (startY + j * stepY) * frequency, out, j * width);
+                }
+                return out;
+            }
+            case PERLIN_FRACTAL:
+                fractalRows2D(PERLIN, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            case SIMPLEX_FRACTAL:
+                fractalRows2D(SIMPLEX, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            case CELLULAR:
+                cellularRows2D(seed, xs, startY, stepY, width, height, new float[][]{out}, new int[]{cellularReturnType});
+                return out;
+            case WHITE_NOISE: {
+                final int[] xKeys = new int[width];
+                for (int i = 0; i < width; i++) {
+                    xKeys[i] = floatToIntMixed(xs[i]) * 0x1827F5;
+                }
+                for (int j = 0; j < height; j++) {
+                    rowWhiteNoise(seed ^ floatToIntMixed((startY + j * stepY) * frequency) * 0x123C21,
+                            xKeys, out, j * width, width);
+                }
+                return out;
+            }
+            case CUBIC: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowCubic(seed, columns, (startY + j * stepY) * frequency, out, j * width);
+                }
+                return out;
+            }
+            case CUBIC_FRACTAL:
+                fractalRows2D(CUBIC, seed, xs, stepX, startY, stepY, width, height, out);
+                return out;
+            default:
+                for (int j = 0; j < height; j++) {
+                    rowSimplex(seed, xs, (startY + j * stepY) * frequency, out, j * width, width);
+                }
+                return out;
+        }
+    }
+
+    /**
+     * Fills a rectangular region of 3D noise into {@code out}, using the same configuration that
+     * {@link #getConfiguredNoise(float, float, float)} uses. The z coordinate stays fixed for the whole region, so
+     * this is equivalent to calling {@code getConfiguredNoise(startX + i * stepX, startY + j * stepY, z)} for each
+     * column {@code i} and row {@code j} and storing the result at {@code out[j * width + i]}, but the noise type,
+     * fractal type, and cellular return type are only checked once for the whole region, instead of once per point.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param z the z position used for every point, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillConfiguredNoise(float[] out, float startX, float startY, float z, float stepX, float stepY,
+                                       int width, int height) {
+        return fillNoiseWithSeed(out, startX, startY, z, stepX, stepY, width, height, seed);
+    }
+
+    /**
+     * Fills a rectangular region of 3D noise into {@code out} the same way
+     * {@link #fillConfiguredNoise(float[], float, float, float, float, float, int, int)} does, but using {@code seed}
+     * instead of {@link #getSeed()}. This doesn't change any state on this Noise, so it can be called on the same
+     * object from multiple threads at once.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param z the z position used for every point, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @param seed the int seed to use instead of {@link #getSeed()}
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillNoiseWithSeed(float[] out, float startX, float startY, float z, float stepX, float stepY,
+                                     int width, int height, final int seed) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final float[] xs = new float[width], ys = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        z *= frequency;
+        final float[] zs = new float[width];
+        Arrays.fill(zs, z);
+        switch (noiseType) {
+            case VALUE: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowValue(seed, columns, (startY + j * stepY) * frequency, z, out, j * width);
+                }
+                return out;
+            }
+            case VALUE_FRACTAL:
+                fractalRows3D(VALUE, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            case FOAM:
+                for (int j = 0; j < height; j++) {
+                    Arrays.fill(ys, (startY + j * stepY) * frequency);
+                    batchFoam(seed, xs, ys, zs, out, j * width, width);
+                }
+                return out;
+            case FOAM_FRACTAL:
+                fractalRows3D(FOAM, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            case MUTANT: {
+                final float[] ms = new float[width];
+                Arrays.fill(ms, mutation);
+                for (int j = 0; j < height; j++) {
+                    Arrays.fill(ys, (startY + j * stepY) * frequency);
+                    batchFoam(seed, xs, ys, zs, ms, out, j * width, width);
+                }
+                return out;
+            }
+            case MUTANT_FRACTAL:
+                foamRows(seed, xs, stepX, startY, stepY, new float[]{z, mutation}, width, height, out);
+                return out;
+            case HONEY: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowHoney(seed, columns, (startY + j * stepY) * frequency, z, out, j * width);
+                }
+                return out;
+            }
+            case HONEY_FRACTAL:
+                fractalRows3D(HONEY, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            case PERLIN: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowPerlin(seed, columns, (startY + j * stepY) * frequency, z, out, j * width);
+                }
+                return out;
+            }
+            case PERLIN_FRACTAL:
+                fractalRows3D(PERLIN, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            case SIMPLEX_FRACTAL:
+                fractalRows3D(SIMPLEX, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            case CELLULAR: {
+                final float[][] outs = {out};
+                final int[] returnTypes = {cellularReturnType};
+                final CellValueCache lookups = lookupsFor(returnTypes);
+                for (int j = 0; j < height; j++) {
+                    rowCellular(seed, xs, (startY + j * stepY) * frequency, z, outs, returnTypes, j * width, width, lookups);
+                }
+                return out;
+            }
+            case WHITE_NOISE: {
+                final int[] xKeys = new int[width];
+                for (int i = 0; i < width; i++) {
+                    xKeys[i] = floatToIntMixed(xs[i]) * 0x1A36A9;
+                }
+                final int zKey = floatToIntMixed(z) * 0x119725;
+                for (int j = 0; j < height; j++) {
+                    rowWhiteNoise(seed ^ (floatToIntMixed((startY + j * stepY) * frequency) * 0x157931 ^ zKey),
+                            xKeys, out, j * width, width);
+                }
+                return out;
+            }
+            case CUBIC: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowCubic(seed, columns, (startY + j * stepY) * frequency, z, out, j * width);
+                }
+                return out;
+            }
+            case CUBIC_FRACTAL:
+                fractalRows3D(CUBIC, seed, xs, stepX, startY, stepY, z, width, height, out);
+                return out;
+            default:
+                for (int j = 0; j < height; j++) {
+                    rowSimplex(seed, xs, (startY + j * stepY) * frequency, z, out, j * width, width);
+                }
+                return out;
+        }
+    }
+
+    /**
+     * Fills a rectangular region of 2D noise into several arrays at once, one per seed, using the same configuration
+     * that {@link #getConfiguredNoise(float, float)} uses except for the seed. Each {@code outs[s]} gets what
+     * {@link #fillNoiseWithSeed(float[], float, float, float, float, int, int, int)} would produce with
+     * {@code seeds[s]}. This is meant for layers that only differ by seed, like separate red, green, and blue
+     * channels, or separate moisture and temperature maps. With {@link #SIMPLEX}, {@link #SIMPLEX_FRACTAL},
+     * {@link #VALUE}, or {@link #VALUE_FRACTAL} noise, the work that only depends on position (lattice cells, skew,
+     * interpolation weights, and fractal scaling) is done once per point for all seeds, and only the hashing is done
+     * per seed; other noise types fill each seed on its own.
+     * <br>
+     * If {@code outs} is null or has fewer than {@code seeds.length} items, a new array of arrays is returned
+     * instead; any item that is null or is too small to hold {@code width * height} items is replaced with a new array.
+     * @param outs float arrays that will each be filled row-major with noise from -1f to 1f; may be null
+     * @param seeds the int seed to use for each of {@code outs}
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code outs}, after modifications, or a newly-allocated array if {@code outs} couldn't be used
+     */
+    public float[][] fillConfiguredNoise(float[][] outs, int[] seeds, float startX, float startY, float stepX, float stepY,
+                                         int width, int height) {
+        outs = channelBuffers(outs, seeds.length, width * height);
+        final float[] xs = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        switch (noiseType) {
+            case VALUE: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowValue(seeds, columns, (startY + j * stepY) * frequency, outs, j * width);
+                }
+                return outs;
+            }
+            case VALUE_FRACTAL:
+                fractalRows2D(VALUE, seeds, xs, stepX, startY, stepY, width, height, outs);
+                return outs;
+            case SIMPLEX:
+                for (int j = 0; j < height; j++) {
+                    rowSimplex(seeds, xs, (startY + j * stepY) * frequency, outs, j * width, width);
+                }
+                return outs;
+            case SIMPLEX_FRACTAL:
+                fractalRows2D(SIMPLEX, seeds, xs, stepX, startY, stepY, width, height, outs);
+                return outs;
+            default:
+                for (int s = 0; s < seeds.length; s++) {
+                    fillNoiseWithSeed(outs[s], startX, startY, stepX, stepY, width, height, seeds[s]);
+                }
+                return outs;
+        }
+    }
+
+    /**
+     * Fills a rectangular region of 3D noise into several arrays at once, one per seed, using the same configuration
+     * that {@link #getConfiguredNoise(float, float, float)} uses except for the seed. The z coordinate stays fixed for
+     * the whole region. Each {@code outs[s]} gets what
+     * {@link #fillNoiseWithSeed(float[], float, float, float, float, float, int, int, int)} would produce with
+     * {@code seeds[s]}. With {@link #SIMPLEX}, {@link #SIMPLEX_FRACTAL}, {@link #VALUE}, or {@link #VALUE_FRACTAL}
+     * noise, position work is shared between seeds, as in
+     * {@link #fillConfiguredNoise(float[][], int[], float, float, float, float, int, int)}; other noise types fill each
+     * seed on its own.
+     * <br>
+     * If {@code outs} is null or has fewer than {@code seeds.length} items, a new array of arrays is returned
+     * instead; any item that is null or is too small to hold {@code width * height} items is replaced with a new array.
+     * @param outs float arrays that will each be filled row-major with noise from -1f to 1f; may be null
+     * @param seeds the int seed to use for each of {@code outs}
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param z the z position used for every point, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code outs}, after modifications, or a newly-allocated array if {@code outs} couldn't be used
+     */
+    public float[][] fillConfiguredNoise(float[][] outs, int[] seeds, float startX, float startY, float z, float stepX, float stepY,
+                                         int width, int height) {
+        outs = channelBuffers(outs, seeds.length, width * height);
+        final float[] xs = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        final float zf = z * frequency;
+        switch (noiseType) {
+            case VALUE: {
+                final LatticeColumns columns = latticeColumns(xs, width);
+                for (int j = 0; j < height; j++) {
+                    rowValue(seeds, columns, (startY + j * stepY) * frequency, zf, outs, j * width);
+                }
+                return outs;
+            }
+            case VALUE_FRACTAL:
+                fractalRows3D(VALUE, seeds, xs, stepX, startY, stepY, zf, width, height, outs);
+                return outs;
+            case SIMPLEX:
+                for (int j = 0; j < height; j++) {
+                    rowSimplex(seeds, xs, (startY + j * stepY) * frequency, zf, outs, j * width, width);
+                }
+                return outs;
+            case SIMPLEX_FRACTAL:
+                fractalRows3D(SIMPLEX, seeds, xs, stepX, startY, stepY, zf, width, height, outs);
+                return outs;
+            default:
+                for (int s = 0; s < seeds.length; s++) {
+                    fillNoiseWithSeed(outs[s], startX, startY, z, stepX, stepY, width, height, seeds[s]);
+                }
+                return outs;
+        }
+    }
+
+    /**
+     * Fills a rectangular region of 4D noise into {@code out}, using the same configuration that
+     * {@link #getConfiguredNoise(float, float, float, float)} uses. The z and w coordinates stay fixed for the whole
+     * region, so this is equivalent to calling {@code getConfiguredNoise(startX + i * stepX, startY + j * stepY, z, w)}
+     * for each column {@code i} and row {@code j} and storing the result at {@code out[j * width + i]}, but the noise
+     * type and fractal type are only checked once for the whole region, instead of once per point.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param z the z position used for every point, before {@link #getFrequency()} is applied
+     * @param w the w position used for every point, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillConfiguredNoise(float[] out, float startX, float startY, float z, float w, float stepX, float stepY,
+                                       int width, int height) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final int seed = this.seed;
+        final float[] xs = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        z *= frequency;
+        w *= frequency;
+        switch (noiseType) {
+            case VALUE:
+                for (int j = 0, idx = 0; j < height; j++) {
+                    final float y = (startY + j * stepY) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleValue(seed, xs[i], y, z, w);
+                    }
+                }
+                return out;
+            case VALUE_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalBillow(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalRidgedMulti(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleValueFractalFBM(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                }
+            case FOAM:
+            case MUTANT: {
+                final float[] ys = new float[width], zs = new float[width], ws = new float[width];
+                Arrays.fill(zs, z);
+                Arrays.fill(ws, w);
+                final float[] ms = noiseType == MUTANT ? new float[width] : null;
+                if (ms != null) Arrays.fill(ms, mutation);
+                for (int j = 0; j < height; j++) {
+                    Arrays.fill(ys, (startY + j * stepY) * frequency);
+                    if (ms == null) batchFoam(seed, xs, ys, zs, ws, out, j * width, width);
+                    else batchFoam(seed, xs, ys, zs, ws, ms, out, j * width, width);
+                }
+                return out;
+            }
+            case FOAM_FRACTAL:
+                foamRows(seed, xs, stepX, startY, stepY, new float[]{z, w}, width, height, out);
+                return out;
+            case MUTANT_FRACTAL:
+                foamRows(seed, xs, stepX, startY, stepY, new float[]{z, w, mutation}, width, height, out);
+                return out;
+            case HONEY:
+                for (int j = 0, idx = 0; j < height; j++) {
+                    final float y = (startY + j * stepY) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleHoney(seed, xs[i], y, z, w);
+                    }
+                }
+                return out;
+            case HONEY_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalBillow(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalRidgedMulti(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleHoneyFractalFBM(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                }
+            case PERLIN:
+                for (int j = 0, idx = 0; j < height; j++) {
+                    final float y = (startY + j * stepY) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singlePerlin(seed, xs[i], y, z, w);
+                    }
+                }
+                return out;
+            case PERLIN_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalBillow(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalRidgedMulti(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singlePerlinFractalFBM(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                }
+            case SIMPLEX_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleSimplexFractalBillow(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    case RIDGED_MULTI:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleSimplexFractalRidgedMulti(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                    default:
+                        for (int j = 0, idx = 0; j < height; j++) {
+                            final float y = (startY + j * stepY) * frequency;
+                            for (int i = 0; i < width; i++) {
+                                out[idx++] = singleSimplexFractalFBM(seed, xs[i], y, z, w);
+                            }
+                        }
+                        return out;
+                }
+            case WHITE_NOISE: {
+                final int[] xKeys = new int[width];
+                for (int i = 0; i < width; i++) {
+                    xKeys[i] = floatToIntMixed(xs[i]) * 0x1B69E1;
+                }
+                final int zwKey = floatToIntMixed(z) * 0x141E5D ^ floatToIntMixed(w) * 0x113C31;
+                for (int j = 0; j < height; j++) {
+                    rowWhiteNoise(seed ^ (floatToIntMixed((startY + j * stepY) * frequency) * 0x177C0B ^ zwKey),
+                            xKeys, out, j * width, width);
+                }
+                return out;
+            }
+            case CUBIC:
+                for (int j = 0; j < height; j++) {
+                    rowCubic(seed, xs, (startY + j * stepY) * frequency, z, w, out, j * width, width);
+                }
+                return out;
+            case CUBIC_FRACTAL:
+                cubicRows4D(seed, xs, stepX, startY, stepY, z, w, width, height, out);
+                return out;
+            default:
+                for (int j = 0, idx = 0; j < height; j++) {
+                    final float y = (startY + j * stepY) * frequency;
+                    for (int i = 0; i < width; i++) {
+                        out[idx++] = singleSimplex(seed, xs[i], y, z, w);
+                    }
+                }
+                return out;
+        }
+    }
+
+    // Batch Noise
+
+    /**
+     * How many points the staged batch methods, such as {@link #batchPerlin(int, float[], float[], float[], int, int)},
+     * process in each block. Each stage runs over a whole block before the next stage starts, which keeps the
+     * per-stage loops short and simple. All the batch methods are plain scalar Java that runs the same on Java 8; they
+     * don't use SIMD instructions or the Vector API, and are faster only because they avoid per-point branches and
+     * repeated work.
+     */
+    protected static final int BATCH = 64;
+
+    /**
+     * Applies the current {@link #getInterpolation() interpolation} to the first {@code count} items in {@code t},
+     * in-place. Each item should be between 0 and 1. LINEAR interpolation leaves t unchanged.
+     * @param t a float array of fractional positions, which will be modified
+     * @param count how many items to interpolate
+     */
+    private void interpolateBatch(final float[] t, final int count) {
+        switch (interpolation) {
+            case HERMITE:
+                for (int i = 0; i < count; i++) {
+                    t[i] = hermiteInterpolator(t[i]);
+                }
+                break;
+            case QUINTIC:
+                for (int i = 0; i < count; i++) {
+                    t[i] = quinticInterpolator(t[i]);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleSimplex(int, float, float, float)} for {@code count} points at once, reading positions
+     * from {@code x}, {@code y}, and {@code z} starting at index 0 and writing results into {@code out} starting at
+     * index {@code outStart}. The simplex that each point falls in is chosen with comparisons instead of nested
+     * branches, so every point does the same work. The results are identical to the single-point method, including
+     * for NaN or infinite positions.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchSimplex(final int seed, final float[] x, final float[] y, final float[] z, final float[] out, final int outStart, final int count) {
+        for (int p = 0; p < count; p++) {
+            final float px = x[p], py = y[p], pz = z[p];
+            float t = (px + py + pz) * F3f;
+            final int i = fastFloor(px + t);
+            final int j = fastFloor(py + t);
+            final int k = fastFloor(pz + t);
+
+            t = (i + j + k) * G3f;
+            final float x0 = px - (i - t);
+            final float y0 = py - (j - t);
+            final float z0 = pz - (k - t);
+
+            final int xy = x0 >= y0 ? 1 : 0, yz = y0 >= z0 ? 1 : 0, xz = x0 >= z0 ? 1 : 0;
+            final int i1 = xy & xz;
+            final int j1 = (xy ^ 1) & yz;
+            final int k1 = (yz ^ 1) & (i1 ^ 1);
+            final int i2 = xy | (yz & xz);
+            final int j2 = (xy ^ 1) | yz;
+            final int k2 = (yz ^ 1) | ((xy | xz) ^ 1);
+
+            final float x1 = x0 - i1 + G3f;
+            final float y1 = y0 - j1 + G3f;
+            final float z1 = z0 - k1 + G3f;
+            final float x2 = x0 - i2 + F3f;
+            final float y2 = y0 - j2 + F3f;
+            final float z2 = z0 - k2 + F3f;
+            final float x3 = x0 - 0.5f;
+            final float y3 = y0 - 0.5f;
+            final float z3 = z0 - 0.5f;
+
+            float t0 = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+            float t1 = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+            float t2 = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+            float t3 = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+            t0 = t0 > 0 ? t0 * t0 : 0f;
+            t1 = t1 > 0 ? t1 * t1 : 0f;
+            t2 = t2 > 0 ? t2 * t2 : 0f;
+            t3 = t3 > 0 ? t3 * t3 : 0f;
+            final float g0 = gradCoord3D(seed, i, j, k, x0, y0, z0);
+            final float g1 = gradCoord3D(seed, i + i1, j + j1, k + k1, x1, y1, z1);
+            final float g2 = gradCoord3D(seed, i + i2, j + j2, k + k2, x2, y2, z2);
+            final float g3 = gradCoord3D(seed, i + 1, j + 1, k + 1, x3, y3, z3);
+
+            // selecting instead of multiplying by a zero falloff keeps NaN or infinite gradients out, as singleSimplex does
+            float n = 0;
+            n += t0 > 0 ? t0 * t0 * g0 : 0f;
+            n += t1 > 0 ? t1 * t1 * g1 : 0f;
+            n += t2 > 0 ? t2 * t2 * g2 : 0f;
+            n += t3 > 0 ? t3 * t3 * g3 : 0f;
+            out[outStart + p] = 31.5f * n;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singlePerlin(int, float, float)} for {@code count} points at once, reading positions from
+     * {@code x} and {@code y} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. Points are handled in blocks of {@link #BATCH}; the lattice cells and fractional positions for
+     * a whole block are found first, the interpolation is applied to the whole block, and only then are gradients
+     * looked up. The results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchPerlin(final int seed, final float[] x, final float[] y, final float[] out, final int outStart, final int count) {
+        final int size = Math.min(count, BATCH);
+        final int[] x0s = new int[size], y0s = new int[size];
+        final float[] xd = new float[size], yd = new float[size], xs = new float[size], ys = new float[size];
+        for (int base = 0; base < count; base += BATCH) {
+            final int n = Math.min(BATCH, count - base);
+            for (int p = 0; p < n; p++) {
+                final float px = x[base + p], py = y[base + p];
+                final int x0 = fastFloor(px), y0 = fastFloor(py);
+                x0s[p] = x0;
+                y0s[p] = y0;
+                xs[p] = xd[p] = px - x0;
+                ys[p] = yd[p] = py - y0;
+            }
+            interpolateBatch(xs, n);
+            interpolateBatch(ys, n);
+            for (int p = 0, o = outStart + base; p < n; p++, o++) {
+                final int x0 = x0s[p], y0 = y0s[p], x1 = x0 + 1, y1 = y0 + 1;
+                final float xd0 = xd[p], yd0 = yd[p], xd1 = xd0 - 1, yd1 = yd0 - 1;
+                final float xf0 = lerp(gradCoord2D(seed, x0, y0, xd0, yd0), gradCoord2D(seed, x1, y0, xd1, yd0), xs[p]);
+                final float xf1 = lerp(gradCoord2D(seed, x0, y1, xd0, yd1), gradCoord2D(seed, x1, y1, xd1, yd1), xs[p]);
+                out[o] = lerp(xf0, xf1, ys[p]);
+            }
+        }
+    }
+
+    /**
+     * Evaluates {@link #singlePerlin(int, float, float, float)} for {@code count} points at once, reading positions
+     * from {@code x}, {@code y}, and {@code z} starting at index 0 and writing results into {@code out} starting at
+     * index {@code outStart}. This works in blocks the same way {@link #batchPerlin(int, float[], float[], float[], int, int)}
+     * does, and the results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchPerlin(final int seed, final float[] x, final float[] y, final float[] z, final float[] out, final int outStart, final int count) {
+        final int size = Math.min(count, BATCH);
+        final int[] x0s = new int[size], y0s = new int[size], z0s = new int[size];
+        final float[] xd = new float[size], yd = new float[size], zd = new float[size],
+            xs = new float[size], ys = new float[size], zs = new float[size];
+        for (int base = 0; base < count; base += BATCH) {
+            final int n = Math.min(BATCH, count - base);
+            for (int p = 0; p < n; p++) {
+                final float px = x[base + p], py = y[base + p], pz = z[base + p];
+                final int x0 = fastFloor(px), y0 = fastFloor(py), z0 = fastFloor(pz);
+                x0s[p] = x0;
+                y0s[p] = y0;
+                z0s[p] = z0;
+                xs[p] = xd[p] = px - x0;
+                ys[p] = yd[p] = py - y0;
+                zs[p] = zd[p] = pz - z0;
+            }
+            interpolateBatch(xs, n);
+            interpolateBatch(ys, n);
+            interpolateBatch(zs, n);
+            for (int p = 0, o = outStart + base; p < n; p++, o++) {
+                final int x0 = x0s[p], y0 = y0s[p], z0 = z0s[p], x1 = x0 + 1, y1 = y0 + 1, z1 = z0 + 1;
+                final float xd0 = xd[p], yd0 = yd[p], zd0 = zd[p], xd1 = xd0 - 1, yd1 = yd0 - 1, zd1 = zd0 - 1;
+                final float xf00 = lerp(gradCoord3D(seed, x0, y0, z0, xd0, yd0, zd0), gradCoord3D(seed, x1, y0, z0, xd1, yd0, zd0), xs[p]);
+                final float xf10 = lerp(gradCoord3D(seed, x0, y1, z0, xd0, yd1, zd0), gradCoord3D(seed, x1, y1, z0, xd1, yd1, zd0), xs[p]);
+                final float xf01 = lerp(gradCoord3D(seed, x0, y0, z1, xd0, yd0, zd1), gradCoord3D(seed, x1, y0, z1, xd1, yd0, zd1), xs[p]);
+                final float xf11 = lerp(gradCoord3D(seed, x0, y1, z1, xd0, yd1, zd1), gradCoord3D(seed, x1, y1, z1, xd1, yd1, zd1), xs[p]);
+                out[o] = lerp(lerp(xf00, xf10, ys[p]), lerp(xf01, xf11, ys[p]), zs[p]);
+            }
+        }
+    }
+
+    /**
+     * Evaluates {@link #singlePerlin(int, float, float)} along one row of points that share the same y, reading x
+     * positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. The y cell and fade curve are found once for the whole row; this is mostly useful to fills,
+     * which also find each column's cell and fade curve once and share them between every row. The results are
+     * identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowPerlin(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowPerlin(seed, latticeColumns(x, count), y, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowPerlin(int, float[], float, float[], int, int)}, with each point's lattice column,
+     * fraction, and fade curve already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowPerlin(final int seed, final LatticeColumns columns, final float y, final float[] out, final int outStart) {
+        final int count = columns.count;
+        final int[] floors = columns.floors;
+        final float[] fracs = columns.fracs, weights = columns.weights;
+        final int y0 = fastFloor(y), y1 = y0 + 1;
+        final float yd0 = y - y0, yd1 = yd0 - 1, ys = interpolate(yd0);
+        for (int p = 0; p < count; p++) {
+            final int x0 = floors[p], x1 = x0 + 1;
+            final float xd0 = fracs[p], xd1 = xd0 - 1, xs = weights[p];
+            final float xf0 = lerp(gradCoord2D(seed, x0, y0, xd0, yd0), gradCoord2D(seed, x1, y0, xd1, yd0), xs);
+            final float xf1 = lerp(gradCoord2D(seed, x0, y1, xd0, yd1), gradCoord2D(seed, x1, y1, xd1, yd1), xs);
+            out[outStart + p] = lerp(xf0, xf1, ys);
+        }
+    }
+
+    /**
+     * Evaluates {@link #singlePerlin(int, float, float, float)} along one row of points that share the same y and z,
+     * reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This works the same way {@link #rowPerlin(int, float[], float, float[], int, int)} does, and
+     * the results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowPerlin(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowPerlin(seed, latticeColumns(x, count), y, z, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowPerlin(int, float[], float, float, float[], int, int)}, with each point's lattice
+     * column, fraction, and fade curve already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowPerlin(final int seed, final LatticeColumns columns, final float y, final float z, final float[] out, final int outStart) {
+        final int count = columns.count;
+        final int[] floors = columns.floors;
+        final float[] fracs = columns.fracs, weights = columns.weights;
+        final int y0 = fastFloor(y), z0 = fastFloor(z), y1 = y0 + 1, z1 = z0 + 1;
+        final float yd0 = y - y0, zd0 = z - z0, yd1 = yd0 - 1, zd1 = zd0 - 1,
+            ys = interpolate(yd0), zs = interpolate(zd0);
+        for (int p = 0; p < count; p++) {
+            final int x0 = floors[p], x1 = x0 + 1;
+            final float xd0 = fracs[p], xd1 = xd0 - 1, xs = weights[p];
+            final float xf00 = lerp(gradCoord3D(seed, x0, y0, z0, xd0, yd0, zd0), gradCoord3D(seed, x1, y0, z0, xd1, yd0, zd0), xs);
+            final float xf10 = lerp(gradCoord3D(seed, x0, y1, z0, xd0, yd1, zd0), gradCoord3D(seed, x1, y1, z0, xd1, yd1, zd0), xs);
+            final float xf01 = lerp(gradCoord3D(seed, x0, y0, z1, xd0, yd0, zd1), gradCoord3D(seed, x1, y0, z1, xd1, yd0, zd1), xs);
+            final float xf11 = lerp(gradCoord3D(seed, x0, y1, z1, xd0, yd1, zd1), gradCoord3D(seed, x1, y1, z1, xd1, yd1, zd1), xs);
+            out[outStart + p] = lerp(lerp(xf00, xf10, ys), lerp(xf01, xf11, ys), zs);
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleSimplex(int, float, float)} along one row of points that share the same y, reading x
+     * positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. Neighboring points on a row usually fall in the same skewed lattice cell, so the gradient hash
+     * of each cell corner is only computed the first time a point needs it, and reused for later points in that cell.
+     * The results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowSimplex(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        // hashes of the 4 corners of the current cell, indexed by (xOffset << 1 | yOffset), or -1 if not yet needed
+        final int[] corner = {-1, -1, -1, -1};
+        int ci = 0, cj = 0, h;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            float t = (px + y) * F2f;
+            final int i = fastFloor(px + t);
+            final int j = fastFloor(y + t);
+            if (!cached || i != ci || j != cj) {
+                ci = i;
+                cj = j;
+                cached = true;
+                corner[0] = corner[1] = corner[2] = corner[3] = -1;
+            }
+
+            t = (i + j) * G2f;
+            final float x0 = px - (i - t);
+            final float y0 = y - (j - t);
+
+            final int i1, j1;
+            if (x0 > y0) {
+                i1 = 1;
+                j1 = 0;
+            } else {
+                i1 = 0;
+                j1 = 1;
+            }
+
+            final float x1 = x0 - i1 + G2f;
+            final float y1 = y0 - j1 + G2f;
+            final float x2 = x0 - 1 + H2f;
+            final float y2 = y0 - 1 + H2f;
+
+            float n = 0f;
+
+            t = 0.5f - x0 * x0 - y0 * y0;
+            if (t >= 0) {
+                t *= t;
+                if ((h = corner[0]) < 0) h = corner[0] = hash256(i, j, seed) << 1;
+                n += t * t * (x0 * GRAD_2D[h] + y0 * GRAD_2D[h + 1]);
+            }
+
+            t = 0.5f - x1 * x1 - y1 * y1;
+            if (t > 0) {
+                t *= t;
+                final int c = i1 << 1 | j1;
+                if ((h = corner[c]) < 0) h = corner[c] = hash256(i + i1, j + j1, seed) << 1;
+                n += t * t * (x1 * GRAD_2D[h] + y1 * GRAD_2D[h + 1]);
+            }
+
+            t = 0.5f - x2 * x2 - y2 * y2;
+            if (t > 0) {
+                t *= t;
+                if ((h = corner[3]) < 0) h = corner[3] = hash256(i + 1, j + 1, seed) << 1;
+                n += t * t * (x2 * GRAD_2D[h] + y2 * GRAD_2D[h + 1]);
+            }
+            out[outStart + p] = n * 99.20689070704672f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleSimplex(int, float, float, float)} along one row of points that share the same y and z,
+     * reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This caches the gradient hash of each corner of the current skewed lattice cell the same way
+     * {@link #rowSimplex(int, float[], float, float[], int, int)} does, and the results are identical to the
+     * single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowSimplex(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        // hashes of the 8 corners of the current cell, indexed by (xOffset << 2 | yOffset << 1 | zOffset), or -1
+        final int[] corner = new int[8];
+        int ci = 0, cj = 0, ck = 0, h;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            float t = (px + y + z) * F3f;
+            final int i = fastFloor(px + t);
+            final int j = fastFloor(y + t);
+            final int k = fastFloor(z + t);
+            if (!cached || i != ci || j != cj || k != ck) {
+                ci = i;
+                cj = j;
+                ck = k;
+                cached = true;
+                Arrays.fill(corner, -1);
+            }
+
+            t = (i + j + k) * G3f;
+            final float x0 = px - (i - t);
+            final float y0 = y - (j - t);
+            final float z0 = z - (k - t);
+
+            final int xy = x0 >= y0 ? 1 : 0, yz = y0 >= z0 ? 1 : 0, xz = x0 >= z0 ? 1 : 0;
+            final int i1 = xy & xz;
+            final int j1 = (xy ^ 1) & yz;
+            final int k1 = (yz ^ 1) & (i1 ^ 1);
+            final int i2 = xy | (yz & xz);
+            final int j2 = (xy ^ 1) | yz;
+            final int k2 = (yz ^ 1) | ((xy | xz) ^ 1);
+
+            final float x1 = x0 - i1 + G3f;
+            final float y1 = y0 - j1 + G3f;
+            final float z1 = z0 - k1 + G3f;
+            final float x2 = x0 - i2 + F3f;
+            final float y2 = y0 - j2 + F3f;
+            final float z2 = z0 - k2 + F3f;
+            final float x3 = x0 - 0.5f;
+            final float y3 = y0 - 0.5f;
+            final float z3 = z0 - 0.5f;
+
+            float n = 0;
+
+            t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+            if (t > 0) {
+                t *= t;
+                if ((h = corner[0]) < 0) h = corner[0] = hash32(i, j, k, seed) << 2;
+                n += t * t * (x0 * GRAD_3D[h] + y0 * GRAD_3D[h + 1] + z0 * GRAD_3D[h + 2]);
+            }
+
+            t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+            if (t > 0) {
+                t *= t;
+                final int c = i1 << 2 | j1 << 1 | k1;
+                if ((h = corner[c]) < 0) h = corner[c] = hash32(i + i1, j + j1, k + k1, seed) << 2;
+                n += t * t * (x1 * GRAD_3D[h] + y1 * GRAD_3D[h + 1] + z1 * GRAD_3D[h + 2]);
+            }
+
+            t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+            if (t > 0) {
+                t *= t;
+                final int c = i2 << 2 | j2 << 1 | k2;
+                if ((h = corner[c]) < 0) h = corner[c] = hash32(i + i2, j + j2, k + k2, seed) << 2;
+                n += t * t * (x2 * GRAD_3D[h] + y2 * GRAD_3D[h + 1] + z2 * GRAD_3D[h + 2]);
+            }
+
+            t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+            if (t > 0) {
+                t *= t;
+                if ((h = corner[7]) < 0) h = corner[7] = hash32(i + 1, j + 1, k + 1, seed) << 2;
+                n += t * t * (x3 * GRAD_3D[h] + y3 * GRAD_3D[h + 1] + z3 * GRAD_3D[h + 2]);
+            }
+            out[outStart + p] = 31.5f * n;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleSimplex(int, float, float)} for several seeds at once along one row of points that share
+     * the same y, writing the results for {@code seeds[s]} into {@code outs[s]} starting at index {@code outStart}.
+     * The skew, the corner offsets, and the falloff of each corner only depend on position, so they are found once per
+     * point and shared by every seed; only the gradient hashes and dot products are done per seed. Corner hashes are
+     * cached per seed as {@link #rowSimplex(int, float[], float, float[], int, int)} does. The results are identical
+     * to calling that once per seed.
+     * @param seeds the int seeds to use, one per output array
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param outs where to write noise from -1f to 1f, one array per item in {@code seeds}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowSimplex(final int[] seeds, final float[] x, final float y, final float[][] outs, final int outStart, final int count) {
+        final int layers = seeds.length;
+        // hashes of the 4 corners of the current cell for seed s, at index (s << 2 | xOffset << 1 | yOffset), or -1
+        final int[] corner = new int[layers << 2];
+        int ci = 0, cj = 0, h;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            float t = (px + y) * F2f;
+            final int i = fastFloor(px + t);
+            final int j = fastFloor(y + t);
+            if (!cached || i != ci || j != cj) {
+                ci = i;
+                cj = j;
+                cached = true;
+                Arrays.fill(corner, -1);
+            }
+
+            t = (i + j) * G2f;
+            final float x0 = px - (i - t);
+            final float y0 = y - (j - t);
+
+            final int i1, j1;
+            if (x0 > y0) {
+                i1 = 1;
+                j1 = 0;
+            } else {
+                i1 = 0;
+                j1 = 1;
+            }
+
+            final float x1 = x0 - i1 + G2f;
+            final float y1 = y0 - j1 + G2f;
+            final float x2 = x0 - 1 + H2f;
+            final float y2 = y0 - 1 + H2f;
+
+            t = 0.5f - x0 * x0 - y0 * y0;
+            final boolean in0 = t >= 0;
+            t *= t;
+            final float t0 = t * t;
+            t = 0.5f - x1 * x1 - y1 * y1;
+            final boolean in1 = t > 0;
+            t *= t;
+            final float t1 = t * t;
+            t = 0.5f - x2 * x2 - y2 * y2;
+            final boolean in2 = t > 0;
+            t *= t;
+            final float t2 = t * t;
+            final int c1 = i1 << 1 | j1;
+
+            for (int s = 0, b = 0; s < layers; s++, b += 4) {
+                final int seed = seeds[s];
+                float n = 0f;
+                if (in0) {
+                    if ((h = corner[b]) < 0) h = corner[b] = hash256(i, j, seed) << 1;
+                    n += t0 * (x0 * GRAD_2D[h] + y0 * GRAD_2D[h + 1]);
+                }
+                if (in1) {
+                    if ((h = corner[b + c1]) < 0) h = corner[b + c1] = hash256(i + i1, j + j1, seed) << 1;
+                    n += t1 * (x1 * GRAD_2D[h] + y1 * GRAD_2D[h + 1]);
+                }
+                if (in2) {
+                    if ((h = corner[b + 3]) < 0) h = corner[b + 3] = hash256(i + 1, j + 1, seed) << 1;
+                    n += t2 * (x2 * GRAD_2D[h] + y2 * GRAD_2D[h + 1]);
+                }
+                outs[s][outStart + p] = n * 99.20689070704672f;
+            }
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleSimplex(int, float, float, float)} for several seeds at once along one row of points
+     * that share the same y and z, writing the results for {@code seeds[s]} into {@code outs[s]} starting at index
+     * {@code outStart}. Everything that only depends on position is shared by every seed, as in
+     * {@link #rowSimplex(int[], float[], float, float[][], int, int)}, and the results are identical to calling
+     * {@link #rowSimplex(int, float[], float, float, float[], int, int)} once per seed.
+     * @param seeds the int seeds to use, one per output array
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param outs where to write noise from -1f to 1f, one array per item in {@code seeds}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowSimplex(final int[] seeds, final float[] x, final float y, final float z, final float[][] outs, final int outStart, final int count) {
+        final int layers = seeds.length;
+        // hashes of the 8 corners of the current cell for seed s, at index
+        // (s << 3 | xOffset << 2 | yOffset << 1 | zOffset), or -1
+        final int[] corner = new int[layers << 3];
+        int ci = 0, cj = 0, ck = 0, h;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            float t = (px + y + z) * F3f;
+            final int i = fastFloor(px + t);
+            final int j = fastFloor(y + t);
+            final int k = fastFloor(z + t);
+            if (!cached || i != ci || j != cj || k != ck) {
+                ci = i;
+                cj = j;
+                ck = k;
+                cached = true;
+                Arrays.fill(corner, -1);
+            }
+
+            t = (i + j + k) * G3f;
+            final float x0 = px - (i - t);
+            final float y0 = y - (j - t);
+            final float z0 = z - (k - t);
+
+            final int xy = x0 >= y0 ? 1 : 0, yz = y0 >= z0 ? 1 : 0, xz = x0 >= z0 ? 1 : 0;
+            final int i1 = xy & xz;
+            final int j1 = (xy ^ 1) & yz;
+            final int k1 = (yz ^ 1) & (i1 ^ 1);
+            final int i2 = xy | (yz & xz);
+            final int j2 = (xy ^ 1) | yz;
+            final int k2 = (yz ^ 1) | ((xy | xz) ^ 1);
+
+            final float x1 = x0 - i1 + G3f;
+            final float y1 = y0 - j1 + G3f;
+            final float z1 = z0 - k1 + G3f;
+            final float x2 = x0 - i2 + F3f;
+            final float y2 = y0 - j2 + F3f;
+            final float z2 = z0 - k2 + F3f;
+            final float x3 = x0 - 0.5f;
+            final float y3 = y0 - 0.5f;
+            final float z3 = z0 - 0.5f;
+
+            t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+            final boolean in0 = t > 0;
+            t *= t;
+            final float t0 = t * t;
+            t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+            final boolean in1 = t > 0;
+            t *= t;
+            final float t1 = t * t;
+            t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+            final boolean in2 = t > 0;
+            t *= t;
+            final float t2 = t * t;
+            t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+            final boolean in3 = t > 0;
+            t *= t;
+            final float t3 = t * t;
+            final int c1 = i1 << 2 | j1 << 1 | k1, c2 = i2 << 2 | j2 << 1 | k2;
+
+            for (int s = 0, b = 0; s < layers; s++, b += 8) {
+                final int seed = seeds[s];
+                float n = 0;
+                if (in0) {
+                    if ((h = corner[b]) < 0) h = corner[b] = hash32(i, j, k, seed) << 2;
+                    n += t0 * (x0 * GRAD_3D[h] + y0 * GRAD_3D[h + 1] + z0 * GRAD_3D[h + 2]);
+                }
+                if (in1) {
+                    if ((h = corner[b + c1]) < 0) h = corner[b + c1] = hash32(i + i1, j + j1, k + k1, seed) << 2;
+                    n += t1 * (x1 * GRAD_3D[h] + y1 * GRAD_3D[h + 1] + z1 * GRAD_3D[h + 2]);
+                }
+                if (in2) {
+                    if ((h = corner[b + c2]) < 0) h = corner[b + c2] = hash32(i + i2, j + j2, k + k2, seed) << 2;
+                    n += t2 * (x2 * GRAD_3D[h] + y2 * GRAD_3D[h + 1] + z2 * GRAD_3D[h + 2]);
+                }
+                if (in3) {
+                    if ((h = corner[b + 7]) < 0) h = corner[b + 7] = hash32(i + 1, j + 1, k + 1, seed) << 2;
+                    n += t3 * (x3 * GRAD_3D[h] + y3 * GRAD_3D[h + 1] + z3 * GRAD_3D[h + 2]);
+                }
+                outs[s][outStart + p] = 31.5f * n;
+            }
+        }
+    }
+
+    /**
+     * Applies the current {@link #getInterpolation() interpolation} to one fractional position between 0 and 1.
+     * LINEAR interpolation returns t unchanged.
+     */
+    private float interpolate(final float t) {
+        switch (interpolation) {
+            case HERMITE:
+                return hermiteInterpolator(t);
+            case QUINTIC:
+                return quinticInterpolator(t);
+            default:
+                return t;
+        }
+    }
+
+    /**
+     * The lattice cell that each of a row of x positions falls in, with how far into that cell each position is, both
+     * as-is and after {@link #getInterpolation() interpolation}. Every row of a fill has the same x positions, and
+     * so does each octave of a fractal fill, so fills find these once and share them between rows; that leaves only
+     * hashing and blending to do per point. With a frequency like the default 1/32 and a step of 1, the same 32
+     * offsets repeat in every cell, and this is the only place their weights get computed.
+     */
+    private static final class LatticeColumns {
+        /** The x positions these were found from; not copied, so they must not change while this is used. */
+        final float[] x;
+        /** The floor of each x position. */
+        final int[] floors;
+        /** Each x position minus its floor, from 0 inclusive to 1 exclusive. */
+        final float[] fracs;
+        /** Each item in {@link #fracs} after interpolation. */
+        final float[] weights;
+        /** The smallest and largest item in {@link #floors}. */
+        final int min, max;
+        /** How many x positions this has. */
+        final int count;
+
+        LatticeColumns(final float[] x, final int[] floors, final float[] fracs, final float[] weights,
+                       final int min, final int max, final int count) {
+            this.x = x;
+            this.floors = floors;
+            this.fracs = fracs;
+            this.weights = weights;
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Finds the {@link LatticeColumns} for the first {@code count} items in {@code x}, using the current
+     * interpolation. The array {@code x} is kept as-is, not copied.
+     */
+    private LatticeColumns latticeColumns(final float[] x, final int count) {
+        final int[] floors = new int[count];
+        final float[] fracs = new float[count], weights = new float[count];
+        int xMin = 0, xMax = 0;
+        for (int p = 0; p < count; p++) {
+            final int f = fastFloor(x[p]);
+            floors[p] = f;
+            weights[p] = fracs[p] = x[p] - f;
+            if (p == 0) xMin = xMax = f;
+            else if (f < xMin) xMin = f;
+            else if (f > xMax) xMax = f;
+        }
+        interpolateBatch(weights, count);
+        return new LatticeColumns(x, floors, fracs, weights, xMin, xMax, count);
+    }
+
+    /**
+     * Finds the {@link LatticeColumns} for every octave of a fractal fill whose columns start at {@code xs}, with each
+     * octave's positions multiplied by {@link #getFractalLacunarity() lacunarity} the same way the per-point fractal
+     * methods do it. For noise types that swap x and y between octaves, only the even octaves line up with these.
+     */
+    private LatticeColumns[] octaveColumns(final float[] xs, final int count) {
+        final LatticeColumns[] columns = new LatticeColumns[octaves];
+        float[] x = Arrays.copyOf(xs, count);
+        for (int i = 0; i < octaves; i++) {
+            columns[i] = latticeColumns(x, count);
+            x = Arrays.copyOf(x, count);
+            for (int p = 0; p < count; p++) {
+                x[p] *= lacunarity;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Evaluates {@link #singleValue(int, float, float)} along one row of points that share the same y, reading x
+     * positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. The lattice values for every cell the row touches are hashed once into a small table, and
+     * each point interpolates between entries in that table instead of hashing its own corners. If the points are so
+     * spread out that the table would be larger than the hashing it saves, this calls the single-point method
+     * instead. The results are identical to the single-point method either way.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowValue(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowValue(seed, latticeColumns(x, count), y, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowValue(int, float[], float, float[], int, int)}, with each point's lattice column and
+     * interpolated x fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowValue(final int seed, final LatticeColumns columns, final float y, final float[] out, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 2L > (long) count << 1) {
+            final float[] x = columns.x;
+            for (int p = 0; p < count; p++) {
+                out[outStart + p] = singleValue(seed, x[p], y);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 2;
+        final int yFloor = fastFloor(y);
+        final float yt = interpolate(y - yFloor);
+        // row r holds the hashes for lattice y yFloor + r, column c for lattice x xMin + c
+        final int[] lattice = new int[cols << 1];
+        for (int r = 0, i = 0; r < 2; r++) {
+            final int yl = (yFloor + r) * 0xABC99;
+            for (int c = 0; c < cols; c++) {
+                lattice[i++] = hashPart1024((xMin + c) * 0xD1B55, yl, seed);
+            }
+        }
+        final int[] floors = columns.floors;
+        final float[] weights = columns.weights;
+        for (int p = 0; p < count; p++) {
+            final float xt = weights[p];
+            final int c = floors[p] - xMin;
+            out[outStart + p] = ((1 - yt) * ((1 - xt) * lattice[c] + xt * lattice[c + 1])
+                + yt * ((1 - xt) * lattice[cols + c] + xt * lattice[cols + c + 1]))
+                * 0x1p-9f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleValue(int, float, float, float)} along one row of points that share the same y and z,
+     * reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This hashes the lattice values for the row into a table once, the same way
+     * {@link #rowValue(int, float[], float, float[], int, int)} does, and the results are identical to the
+     * single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowValue(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowValue(seed, latticeColumns(x, count), y, z, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowValue(int, float[], float, float, float[], int, int)}, with each point's lattice
+     * column and interpolated x fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowValue(final int seed, final LatticeColumns columns, final float y, final float z, final float[] out, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 2L > (long) count << 1) {
+            final float[] x = columns.x;
+            for (int p = 0; p < count; p++) {
+                out[outStart + p] = singleValue(seed, x[p], y, z);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 2;
+        final int yFloor = fastFloor(y), zFloor = fastFloor(z);
+        final float yt = interpolate(y - yFloor), zt = interpolate(z - zFloor);
+        // row (zOffset * 2 + yOffset) holds the hashes for that y and z, column c for lattice x xMin + c
+        final int[] lattice = new int[cols << 2];
+        for (int r = 0, i = 0; r < 4; r++) {
+            final int yl = (yFloor + (r & 1)) * 0xBBE05, zl = (zFloor + (r >>> 1)) * 0xA0F2F;
+            for (int c = 0; c < cols; c++) {
+                lattice[i++] = hashPart1024((xMin + c) * 0xDB4F1, yl, zl, seed);
+            }
+        }
+        final int r1 = cols, r2 = cols * 2, r3 = cols * 3;
+        final int[] floors = columns.floors;
+        final float[] weights = columns.weights;
+        for (int p = 0; p < count; p++) {
+            final float xt = weights[p];
+            final int c = floors[p] - xMin;
+            out[outStart + p] = ((1 - zt) *
+                ((1 - yt) * ((1 - xt) * lattice[c] + xt * lattice[c + 1])
+                    + yt * ((1 - xt) * lattice[r1 + c] + xt * lattice[r1 + c + 1]))
+                + zt *
+                ((1 - yt) * ((1 - xt) * lattice[r2 + c] + xt * lattice[r2 + c + 1])
+                    + yt * ((1 - xt) * lattice[r3 + c] + xt * lattice[r3 + c + 1]))
+            ) * 0x1p-9f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleValue(int, float, float)} for several seeds at once along one row of points that share
+     * the same y, writing the results for {@code seeds[s]} into {@code outs[s]} starting at index {@code outStart}.
+     * Each point's lattice column and interpolated fraction are found once and shared by every seed, and each seed
+     * only needs its own table of lattice hashes, as in {@link #rowValue(int, float[], float, float[], int, int)}.
+     * The results are identical to calling that once per seed.
+     * @param seeds the int seeds to use, one per output array
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param outs where to write noise from -1f to 1f, one array per item in {@code seeds}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowValue(final int[] seeds, final float[] x, final float y, final float[][] outs, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowValue(seeds, latticeColumns(x, count), y, outs, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowValue(int[], float[], float, float[][], int, int)}, with each point's lattice column
+     * and interpolated x fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowValue(final int[] seeds, final LatticeColumns columns, final float y, final float[][] outs, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 2L > (long) count << 1) {
+            for (int s = 0; s < seeds.length; s++) {
+                rowValue(seeds[s], columns, y, outs[s], outStart);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 2;
+        final int yFloor = fastFloor(y);
+        final float yt = interpolate(y - yFloor);
+        final int[] floors = columns.floors;
+        final float[] weights = columns.weights;
+        final int y0 = yFloor * 0xABC99, y1 = (yFloor + 1) * 0xABC99;
+        final int[] lattice = new int[cols << 1];
+        for (int s = 0; s < seeds.length; s++) {
+            final int seed = seeds[s];
+            final float[] out = outs[s];
+            for (int c = 0; c < cols; c++) {
+                final int xl = (xMin + c) * 0xD1B55;
+                lattice[c] = hashPart1024(xl, y0, seed);
+                lattice[cols + c] = hashPart1024(xl, y1, seed);
+            }
+            for (int p = 0; p < count; p++) {
+                final float xt = weights[p];
+                final int c = floors[p] - xMin;
+                out[outStart + p] = ((1 - yt) * ((1 - xt) * lattice[c] + xt * lattice[c + 1])
+                    + yt * ((1 - xt) * lattice[cols + c] + xt * lattice[cols + c + 1]))
+                    * 0x1p-9f;
+            }
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleValue(int, float, float, float)} for several seeds at once along one row of points that
+     * share the same y and z, writing the results for {@code seeds[s]} into {@code outs[s]} starting at index
+     * {@code outStart}. This shares position work between seeds the same way
+     * {@link #rowValue(int[], float[], float, float[][], int, int)} does, and the results are identical to calling
+     * {@link #rowValue(int, float[], float, float, float[], int, int)} once per seed.
+     * @param seeds the int seeds to use, one per output array
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param outs where to write noise from -1f to 1f, one array per item in {@code seeds}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowValue(final int[] seeds, final float[] x, final float y, final float z, final float[][] outs, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowValue(seeds, latticeColumns(x, count), y, z, outs, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowValue(int[], float[], float, float, float[][], int, int)}, with each point's lattice
+     * column and interpolated x fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowValue(final int[] seeds, final LatticeColumns columns, final float y, final float z, final float[][] outs, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 2L > (long) count << 1) {
+            for (int s = 0; s < seeds.length; s++) {
+                rowValue(seeds[s], columns, y, z, outs[s], outStart);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 2;
+        final int yFloor = fastFloor(y), zFloor = fastFloor(z);
+        final float yt = interpolate(y - yFloor), zt = interpolate(z - zFloor);
+        final int[] floors = columns.floors;
+        final float[] weights = columns.weights;
+        // row (zOffset * 2 + yOffset) holds the hashes for that y and z, column c for lattice x xMin + c
+        final int[] lattice = new int[cols << 2];
+        final int r1 = cols, r2 = cols * 2, r3 = cols * 3;
+        for (int s = 0; s < seeds.length; s++) {
+            final int seed = seeds[s];
+            final float[] out = outs[s];
+            for (int r = 0, i = 0; r < 4; r++) {
+                final int yl = (yFloor + (r & 1)) * 0xBBE05, zl = (zFloor + (r >>> 1)) * 0xA0F2F;
+                for (int c = 0; c < cols; c++) {
+                    lattice[i++] = hashPart1024((xMin + c) * 0xDB4F1, yl, zl, seed);
+                }
+            }
+            for (int p = 0; p < count; p++) {
+                final float xt = weights[p];
+                final int c = floors[p] - xMin;
+                out[outStart + p] = ((1 - zt) *
+                    ((1 - yt) * ((1 - xt) * lattice[c] + xt * lattice[c + 1])
+                        + yt * ((1 - xt) * lattice[r1 + c] + xt * lattice[r1 + c + 1]))
+                    + zt *
+                    ((1 - yt) * ((1 - xt) * lattice[r2 + c] + xt * lattice[r2 + c + 1])
+                        + yt * ((1 - xt) * lattice[r3 + c] + xt * lattice[r3 + c + 1]))
+                ) * 0x1p-9f;
+            }
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleHoney(int, float, float)} along one row of points that share the same y, reading x
+     * positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. Honey noise is simplex noise and value noise added together, so this runs
+     * {@link #rowSimplex(int, float[], float, float[], int, int)} and
+     * {@link #rowValue(int, float[], float, float[], int, int)} over the whole row, each sharing its lattice work
+     * between points, and then blends the two. The results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowHoney(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowHoney(seed, latticeColumns(x, count), y, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowHoney(int, float[], float, float[], int, int)}, with the lattice columns and
+     * interpolated x fractions for the value noise part already found in {@code columns}.
+     */
+    private void rowHoney(final int seed, final LatticeColumns columns, final float y, final float[] out, final int outStart) {
+        final int count = columns.count;
+        final float[] value = new float[count];
+        rowSimplex(seed, columns.x, y, out, outStart, count);
+        rowValue(seed ^ 0x9E3779B9, columns, y, value, 0);
+        for (int p = 0; p < count; p++) {
+            final float result = (out[outStart + p] + value[p]) * 0.5f + 1f;
+            out[outStart + p] = (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleHoney(int, float, float, float)} along one row of points that share the same y and z,
+     * reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This runs the simplex and value row methods over the whole row and blends them, the same way
+     * {@link #rowHoney(int, float[], float, float[], int, int)} does, and the results are identical to the
+     * single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowHoney(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowHoney(seed, latticeColumns(x, count), y, z, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowHoney(int, float[], float, float, float[], int, int)}, with the lattice columns and
+     * interpolated x fractions for the value noise part already found in {@code columns}.
+     */
+    private void rowHoney(final int seed, final LatticeColumns columns, final float y, final float z, final float[] out, final int outStart) {
+        final int count = columns.count;
+        final float[] value = new float[count];
+        rowSimplex(seed, columns.x, y, z, out, outStart, count);
+        rowValue(seed ^ 0x9E3779B9, columns, y, z, value, 0);
+        for (int p = 0; p < count; p++) {
+            final float result = (out[outStart + p] + value[p]) * 0.5f + 1f;
+            out[outStart + p] = (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+        }
+    }
+
+    /**
+     * Does the x part of cubic interpolation, using the 4 lattice values starting at {@code i} in {@code lattice}.
+     */
+    private static float cubicRow(final float[] lattice, final int i, final float xs) {
+        return cubicLerp(lattice[i], lattice[i + 1], lattice[i + 2], lattice[i + 3], xs);
+    }
+
+    /**
+     * Does the x and y parts of cubic interpolation, using 4 rows of lattice values that are {@code cols} apart,
+     * starting at {@code i} in {@code lattice}.
+     */
+    private static float cubicPlane(final float[] lattice, final int i, final int cols, final float xs, final float ys) {
+        return cubicLerp(cubicRow(lattice, i, xs), cubicRow(lattice, i + cols, xs),
+                cubicRow(lattice, i + cols * 2, xs), cubicRow(lattice, i + cols * 3, xs), ys);
+    }
+
+    /**
+     * Does the x, y, and z parts of cubic interpolation, using 4 planes of lattice values that are {@code cols * 4}
+     * apart, starting at {@code i} in {@code lattice}.
+     */
+    private static float cubicCube(final float[] lattice, final int i, final int cols, final float xs, final float ys, final float zs) {
+        final int plane = cols << 2;
+        return cubicLerp(cubicPlane(lattice, i, cols, xs, ys), cubicPlane(lattice, i + plane, cols, xs, ys),
+                cubicPlane(lattice, i + plane * 2, cols, xs, ys), cubicPlane(lattice, i + plane * 3, cols, xs, ys), zs);
+    }
+
+    /**
+     * Evaluates {@link #singleCubic(int, float, float)} along one row of points that share the same y, reading x
+     * positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. Cubic noise reads a 4x4 block of lattice values for every point, but neighboring points mostly
+     * read the same ones, so this hashes the 4 lattice rows the whole row touches into a table once and interpolates
+     * out of that. If the points are so spread out that the table would be larger than the hashing it saves, this
+     * calls the single-point method instead. The results are identical to the single-point method either way.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCubic(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowCubic(seed, latticeColumns(x, count), y, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowCubic(int, float[], float, float[], int, int)}, with each point's lattice column and
+     * fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowCubic(final int seed, final LatticeColumns columns, final float y, final float[] out, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 4L > (long) count << 2) {
+            final float[] x = columns.x;
+            for (int p = 0; p < count; p++) {
+                out[outStart + p] = singleCubic(seed, x[p], y);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 4, x0 = xMin - 1;
+        final int y1 = fastFloor(y);
+        final float ys = y - (float) y1;
+        // row r holds lattice y y1 - 1 + r, column c holds lattice x xMin - 1 + c
+        final float[] lattice = new float[cols << 2];
+        for (int r = 0, i = 0; r < 4; r++) {
+            final int yl = y1 - 1 + r;
+            for (int c = 0; c < cols; c++) {
+                lattice[i++] = valCoord2D(seed, x0 + c, yl);
+            }
+        }
+        final int[] floors = columns.floors;
+        final float[] fracs = columns.fracs;
+        for (int p = 0; p < count; p++) {
+            out[outStart + p] = cubicPlane(lattice, floors[p] - xMin, cols, fracs[p], ys) * CUBIC_2D_BOUNDING;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleCubic(int, float, float, float)} along one row of points that share the same y and z,
+     * reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This hashes the 16 lattice rows the whole row touches into a table once, the same way
+     * {@link #rowCubic(int, float[], float, float[], int, int)} does, and the results are identical to the
+     * single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCubic(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowCubic(seed, latticeColumns(x, count), y, z, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowCubic(int, float[], float, float, float[], int, int)}, with each point's lattice
+     * column and fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowCubic(final int seed, final LatticeColumns columns, final float y, final float z, final float[] out, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 4L > (long) count << 2) {
+            final float[] x = columns.x;
+            for (int p = 0; p < count; p++) {
+                out[outStart + p] = singleCubic(seed, x[p], y, z);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 4, x0 = xMin - 1;
+        final int y1 = fastFloor(y), z1 = fastFloor(z);
+        final float ys = y - (float) y1, zs = z - (float) z1;
+        // row (zOffset * 4 + yOffset) holds lattice y y1 - 1 + yOffset and z z1 - 1 + zOffset
+        final float[] lattice = new float[cols << 4];
+        for (int r = 0, i = 0; r < 16; r++) {
+            final int yl = y1 - 1 + (r & 3), zl = z1 - 1 + (r >>> 2);
+            for (int c = 0; c < cols; c++) {
+                lattice[i++] = valCoord3D(seed, x0 + c, yl, zl);
+            }
+        }
+        final int[] floors = columns.floors;
+        final float[] fracs = columns.fracs;
+        for (int p = 0; p < count; p++) {
+            out[outStart + p] = cubicCube(lattice, floors[p] - xMin, cols, fracs[p], ys, zs) * CUBIC_3D_BOUNDING;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleCubic(int, float, float)} for {@code count} points at once, reading positions from
+     * {@code x} and {@code y} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. This is meant for points that have been sorted or grouped so that consecutive points often
+     * fall in the same lattice cell; the 4x4 block of lattice values around a cell is only hashed when a point enters
+     * a different cell, and points in the same cell interpolate out of that block. The results are identical to the
+     * single-point method in any order.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void sortedCubic(final int seed, final float[] x, final float[] y, final float[] out, final int outStart, final int count) {
+        // row r holds lattice y cy - 1 + r, column c holds lattice x cx - 1 + c
+        final float[] lattice = new float[16];
+        int cx = 0, cy = 0;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p], py = y[p];
+            final int x1 = fastFloor(px), y1 = fastFloor(py);
+            if (!cached || x1 != cx || y1 != cy) {
+                cx = x1;
+                cy = y1;
+                cached = true;
+                for (int r = 0, i = 0; r < 4; r++) {
+                    for (int c = 0; c < 4; c++) {
+                        lattice[i++] = valCoord2D(seed, x1 - 1 + c, y1 - 1 + r);
+                    }
+                }
+            }
+            out[outStart + p] = cubicPlane(lattice, 0, 4, px - (float) x1, py - (float) y1) * CUBIC_2D_BOUNDING;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleCubic(int, float, float, float)} for {@code count} points at once, reading positions
+     * from {@code x}, {@code y}, and {@code z} starting at index 0 and writing results into {@code out} starting at
+     * index {@code outStart}. Like {@link #sortedCubic(int, float[], float[], float[], int, int)}, this only hashes the
+     * 4x4x4 block of lattice values around a cell when a point enters a different cell, so it does best when points
+     * are grouped by cell, and the results are identical to the single-point method in any order.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void sortedCubic(final int seed, final float[] x, final float[] y, final float[] z, final float[] out, final int outStart, final int count) {
+        // row (zOffset * 4 + yOffset) holds lattice y cy - 1 + yOffset and z cz - 1 + zOffset
+        final float[] lattice = new float[64];
+        int cx = 0, cy = 0, cz = 0;
+        boolean cached = false;
+        for (int p = 0; p < count; p++) {
+            final float px = x[p], py = y[p], pz = z[p];
+            final int x1 = fastFloor(px), y1 = fastFloor(py), z1 = fastFloor(pz);
+            if (!cached || x1 != cx || y1 != cy || z1 != cz) {
+                cx = x1;
+                cy = y1;
+                cz = z1;
+                cached = true;
+                for (int r = 0, i = 0; r < 16; r++) {
+                    final int yl = y1 - 1 + (r & 3), zl = z1 - 1 + (r >>> 2);
+                    for (int c = 0; c < 4; c++) {
+                        lattice[i++] = valCoord3D(seed, x1 - 1 + c, yl, zl);
+                    }
+                }
+            }
+            out[outStart + p] = cubicCube(lattice, 0, 4, px - (float) x1, py - (float) y1, pz - (float) z1) * CUBIC_3D_BOUNDING;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleCubic(int, float, float, float, float)} along one row of points that share the same y,
+     * z, and w, reading x positions from {@code x} starting at index 0 and writing results into {@code out} starting
+     * at index {@code outStart}. Each point would need 256 lattice hashes on its own; this hashes the 64 lattice rows
+     * the whole row touches into a table once, the same way {@link #rowCubic(int, float[], float, float[], int, int)}
+     * does, and the results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param w the w position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCubic(final int seed, final float[] x, final float y, final float z, final float w, final float[] out, final int outStart, final int count) {
+        if (count <= 0) return;
+        rowCubic(seed, latticeColumns(x, count), y, z, w, out, outStart);
+    }
+
+    /**
+     * Does the work of {@link #rowCubic(int, float[], float, float, float, float[], int, int)}, with each point's
+     * lattice column and fraction already found in {@code columns}, so a fill can share them between rows.
+     */
+    private void rowCubic(final int seed, final LatticeColumns columns, final float y, final float z, final float w, final float[] out, final int outStart) {
+        final int count = columns.count, xMin = columns.min;
+        if ((long) columns.max - xMin + 4L > (long) count << 2) {
+            final float[] x = columns.x;
+            for (int p = 0; p < count; p++) {
+                out[outStart + p] = singleCubic(seed, x[p], y, z, w);
+            }
+            return;
+        }
+        final int cols = columns.max - xMin + 4, x0 = xMin - 1;
+        final int y1 = fastFloor(y), z1 = fastFloor(z), w1 = fastFloor(w);
+        final float ys = y - (float) y1, zs = z - (float) z1, ws = w - (float) w1;
+        // row (wOffset * 16 + zOffset * 4 + yOffset) holds lattice y, z, and w at those offsets from y1 - 1, z1 - 1, w1 - 1
+        final float[] lattice = new float[cols << 6];
+        for (int r = 0, i = 0; r < 64; r++) {
+            final int yl = y1 - 1 + (r & 3), zl = z1 - 1 + (r >>> 2 & 3), wl = w1 - 1 + (r >>> 4);
+            for (int c = 0; c < cols; c++) {
+                lattice[i++] = valCoord4D(seed, x0 + c, yl, zl, wl);
+            }
+        }
+        final int cube = cols << 4;
+        final int[] floors = columns.floors;
+        final float[] fracs = columns.fracs;
+        for (int p = 0; p < count; p++) {
+            final int c = floors[p] - xMin;
+            final float xs = fracs[p];
+            out[outStart + p] = cubicLerp(cubicCube(lattice, c, cols, xs, ys, zs), cubicCube(lattice, c + cube, cols, xs, ys, zs),
+                    cubicCube(lattice, c + cube * 2, cols, xs, ys, zs), cubicCube(lattice, c + cube * 3, cols, xs, ys, zs), ws) * CUBIC_4D_BOUNDING;
+        }
+    }
+
+    /**
+     * Like {@link #valueNoise(int, float, float)}, but keeps the 4 corner hashes of the last cell it used in
+     * {@code cache}, starting at {@code slot}, and reuses them when the next call lands in the same cell. Each slot is
+     * 7 ints: a flag for whether the slot holds a cell yet, the two scaled cell coordinates, and the 4 hashes.
+     */
+    private static float cachedValueNoise(final int seed, float x, float y, final int[] cache, final int slot) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        x *= x * (3 - 2 * x);
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        y *= y * (3 - 2 * y);
+        xFloor *= 0xD1B55;
+        yFloor *= 0xABC99;
+        if (cache[slot] == 0 || cache[slot + 1] != xFloor || cache[slot + 2] != yFloor) {
+            cache[slot] = 1;
+            cache[slot + 1] = xFloor;
+            cache[slot + 2] = yFloor;
+            cache[slot + 3] = hashPart1024(xFloor, yFloor, seed);
+            cache[slot + 4] = hashPart1024(xFloor + 0xD1B55, yFloor, seed);
+            cache[slot + 5] = hashPart1024(xFloor, yFloor + 0xABC99, seed);
+            cache[slot + 6] = hashPart1024(xFloor + 0xD1B55, yFloor + 0xABC99, seed);
+        }
+        return ((1 - y) * ((1 - x) * cache[slot + 3] + x * cache[slot + 4])
+            + y * ((1 - x) * cache[slot + 5] + x * cache[slot + 6]))
+            * 0x1p-10f + 0.5f;
+    }
+
+    /**
+     * Like {@link #valueNoise(int, float, float, float)}, but keeps the 8 corner hashes of the last cell it used in
+     * {@code cache}, starting at {@code slot}, and reuses them when the next call lands in the same cell. Each slot is
+     * 12 ints: a flag for whether the slot holds a cell yet, the three scaled cell coordinates, and the 8 hashes.
+     */
+    private static float cachedValueNoise(final int seed, float x, float y, float z, final int[] cache, final int slot) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        x *= x * (3 - 2 * x);
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        y *= y * (3 - 2 * y);
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        z *= z * (3 - 2 * z);
+        xFloor *= 0xDB4F1;
+        yFloor *= 0xBBE05;
+        zFloor *= 0xA0F2F;
+        if (cache[slot] == 0 || cache[slot + 1] != xFloor || cache[slot + 2] != yFloor || cache[slot + 3] != zFloor) {
+            cache[slot] = 1;
+            cache[slot + 1] = xFloor;
+            cache[slot + 2] = yFloor;
+            cache[slot + 3] = zFloor;
+            cache[slot + 4] = hashPart1024(xFloor, yFloor, zFloor, seed);
+            cache[slot + 5] = hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor, seed);
+            cache[slot + 6] = hashPart1024(xFloor, yFloor + 0xBBE05, zFloor, seed);
+            cache[slot + 7] = hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor, seed);
+            cache[slot + 8] = hashPart1024(xFloor, yFloor, zFloor + 0xA0F2F, seed);
+            cache[slot + 9] = hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor + 0xA0F2F, seed);
+            cache[slot + 10] = hashPart1024(xFloor, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed);
+            cache[slot + 11] = hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor + 0xA0F2F, seed);
+        }
+        return ((1 - z) *
+            ((1 - y) * ((1 - x) * cache[slot + 4] + x * cache[slot + 5])
+                + y * ((1 - x) * cache[slot + 6] + x * cache[slot + 7]))
+            + z *
+            ((1 - y) * ((1 - x) * cache[slot + 8] + x * cache[slot + 9])
+                + y * ((1 - x) * cache[slot + 10] + x * cache[slot + 11]))
+        ) * 0x1p-10f + 0.5f;
+    }
+
+    /**
+     * Like {@link #valueNoise(int, float, float, float, float)}, but keeps the 16 corner hashes of the last cell it
+     * used in {@code cache}, starting at {@code slot}, and reuses them when the next call lands in the same cell. Each
+     * slot is 21 ints: a flag for whether the slot holds a cell yet, the four scaled cell coordinates, and the 16
+     * hashes.
+     */
+    private static float cachedValueNoise(final int seed, float x, float y, float z, float w, final int[] cache, final int slot) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        x *= x * (3 - 2 * x);
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        y *= y * (3 - 2 * y);
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        z *= z * (3 - 2 * z);
+        int wFloor = w >= 0 ? (int) w : (int) w - 1;
+        w -= wFloor;
+        w *= w * (3 - 2 * w);
+        xFloor *= 0xE19B1;
+        yFloor *= 0xC6D1D;
+        zFloor *= 0xAF36D;
+        wFloor *= 0x9A695;
+        if (cache[slot] == 0 || cache[slot + 1] != xFloor || cache[slot + 2] != yFloor || cache[slot + 3] != zFloor
+                || cache[slot + 4] != wFloor) {
+            cache[slot] = 1;
+            cache[slot + 1] = xFloor;
+            cache[slot + 2] = yFloor;
+            cache[slot + 3] = zFloor;
+            cache[slot + 4] = wFloor;
+            cache[slot + 5] = hashPart1024(xFloor, yFloor, zFloor, wFloor, seed);
+            cache[slot + 6] = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor, wFloor, seed);
+            cache[slot + 7] = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor, wFloor, seed);
+            cache[slot + 8] = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor, wFloor, seed);
+            cache[slot + 9] = hashPart1024(xFloor, yFloor, zFloor + 0xAF36D, wFloor, seed);
+            cache[slot + 10] = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor + 0xAF36D, wFloor, seed);
+            cache[slot + 11] = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor, seed);
+            cache[slot + 12] = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor, seed);
+            cache[slot + 13] = hashPart1024(xFloor, yFloor, zFloor, wFloor + 0x9A695, seed);
+            cache[slot + 14] = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor, wFloor + 0x9A695, seed);
+            cache[slot + 15] = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor, wFloor + 0x9A695, seed);
+            cache[slot + 16] = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor, wFloor + 0x9A695, seed);
+            cache[slot + 17] = hashPart1024(xFloor, yFloor, zFloor + 0xAF36D, wFloor + 0x9A695, seed);
+            cache[slot + 18] = hashPart1024(xFloor + 0xE19B1, yFloor, zFloor + 0xAF36D, wFloor + 0x9A695, seed);
+            cache[slot + 19] = hashPart1024(xFloor, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor + 0x9A695, seed);
+            cache[slot + 20] = hashPart1024(xFloor + 0xE19B1, yFloor + 0xC6D1D, zFloor + 0xAF36D, wFloor + 0x9A695, seed);
+        }
+        return ((1 - w) *
+            ((1 - z) *
+                ((1 - y) * ((1 - x) * cache[slot + 5] + x * cache[slot + 6])
+                    + y * ((1 - x) * cache[slot + 7] + x * cache[slot + 8]))
+                + z *
+                ((1 - y) * ((1 - x) * cache[slot + 9] + x * cache[slot + 10])
+                    + y * ((1 - x) * cache[slot + 11] + x * cache[slot + 12])))
+            + (w *
+            ((1 - z) *
+                ((1 - y) * ((1 - x) * cache[slot + 13] + x * cache[slot + 14])
+                    + y * ((1 - x) * cache[slot + 15] + x * cache[slot + 16]))
+                + z *
+                ((1 - y) * ((1 - x) * cache[slot + 17] + x * cache[slot + 18])
+                    + y * ((1 - x) * cache[slot + 19] + x * cache[slot + 20]))
+            ))) * 0x1p-10f + 0.5f;
+    }
+
+    /**
+     * Like {@link #valueNoise(int, float, float, float, float, float)}, but keeps the 32 corner hashes of the last cell
+     * it used in {@code cache}, starting at {@code slot}, and reuses them when the next call lands in the same cell.
+     * Each slot is 38 ints: a flag for whether the slot holds a cell yet, the five scaled cell coordinates, and the 32
+     * hashes.
+     */
+    private static float cachedValueNoise(final int seed, float x, float y, float z, float w, float u, final int[] cache, final int slot) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        x *= x * (3 - 2 * x);
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        y *= y * (3 - 2 * y);
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        z *= z * (3 - 2 * z);
+        int wFloor = w >= 0 ? (int) w : (int) w - 1;
+        w -= wFloor;
+        w *= w * (3 - 2 * w);
+        int uFloor = u >= 0 ? (int) u : (int) u - 1;
+        u -= uFloor;
+        u *= u * (3 - 2 * u);
+        xFloor *= 0xE60E3;
+        yFloor *= 0xCEBD7;
+        zFloor *= 0xB9C9B;
+        wFloor *= 0xA6F57;
+        uFloor *= 0x9609D;
+        if (cache[slot] == 0 || cache[slot + 1] != xFloor || cache[slot + 2] != yFloor || cache[slot + 3] != zFloor
+                || cache[slot + 4] != wFloor || cache[slot + 5] != uFloor) {
+            cache[slot] = 1;
+            cache[slot + 1] = xFloor;
+            cache[slot + 2] = yFloor;
+            cache[slot + 3] = zFloor;
+            cache[slot + 4] = wFloor;
+            cache[slot + 5] = uFloor;
+            cache[slot + 6] = hashPart1024(xFloor, yFloor, zFloor, wFloor, uFloor, seed);
+            cache[slot + 7] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor, wFloor, uFloor, seed);
+            cache[slot + 8] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor, wFloor, uFloor, seed);
+            cache[slot + 9] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor, wFloor, uFloor, seed);
+            cache[slot + 10] = hashPart1024(xFloor, yFloor, zFloor + 0xB9C9B, wFloor, uFloor, seed);
+            cache[slot + 11] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor + 0xB9C9B, wFloor, uFloor, seed);
+            cache[slot + 12] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor, uFloor, seed);
+            cache[slot + 13] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor, uFloor, seed);
+            cache[slot + 14] = hashPart1024(xFloor, yFloor, zFloor, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 15] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 16] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 17] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 18] = hashPart1024(xFloor, yFloor, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 19] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 20] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 21] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor, seed);
+            cache[slot + 22] = hashPart1024(xFloor, yFloor, zFloor, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 23] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 24] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 25] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 26] = hashPart1024(xFloor, yFloor, zFloor + 0xB9C9B, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 27] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor + 0xB9C9B, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 28] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 29] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor, uFloor + 0x9609D, seed);
+            cache[slot + 30] = hashPart1024(xFloor, yFloor, zFloor, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 31] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 32] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 33] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 34] = hashPart1024(xFloor, yFloor, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 35] = hashPart1024(xFloor + 0xE60E3, yFloor, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 36] = hashPart1024(xFloor, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+            cache[slot + 37] = hashPart1024(xFloor + 0xE60E3, yFloor + 0xCEBD7, zFloor + 0xB9C9B, wFloor + 0xA6F57, uFloor + 0x9609D, seed);
+        }
+        return ((1 - u) *
+            ((1 - w) *
+                ((1 - z) *
+                    ((1 - y) * ((1 - x) * cache[slot + 6] + x * cache[slot + 7])
+                        + y * ((1 - x) * cache[slot + 8] + x * cache[slot + 9]))
+                    + z *
+                    ((1 - y) * ((1 - x) * cache[slot + 10] + x * cache[slot + 11])
+                        + y * ((1 - x) * cache[slot + 12] + x * cache[slot + 13])))
+                + (w *
+                ((1 - z) *
+                    ((1 - y) * ((1 - x) * cache[slot + 14] + x * cache[slot + 15])
+                        + y * ((1 - x) * cache[slot + 16] + x * cache[slot + 17]))
+                    + z *
+                    ((1 - y) * ((1 - x) * cache[slot + 18] + x * cache[slot + 19])
+                        + y * ((1 - x) * cache[slot + 20] + x * cache[slot + 21]))
+                )))
+            + (u *
+            ((1 - w) *
+                ((1 - z) *
+                    ((1 - y) * ((1 - x) * cache[slot + 22] + x * cache[slot + 23])
+                        + y * ((1 - x) * cache[slot + 24] + x * cache[slot + 25]))
+                    + z *
+                    ((1 - y) * ((1 - x) * cache[slot + 26] + x * cache[slot + 27])
+                        + y * ((1 - x) * cache[slot + 28] + x * cache[slot + 29])))
+                + (w *
+                ((1 - z) *
+                    ((1 - y) * ((1 - x) * cache[slot + 30] + x * cache[slot + 31])
+                        + y * ((1 - x) * cache[slot + 32] + x * cache[slot + 33]))
+                    + z *
+                    ((1 - y) * ((1 - x) * cache[slot + 34] + x * cache[slot + 35])
+                        + y * ((1 - x) * cache[slot + 36] + x * cache[slot + 37]))
+                ))))
+        ) * 0x1p-10f + 0.5f;
+    }
+
+    /**
+     * Evaluates {@link #singleFoam(int, float, float)} for {@code count} points at once, reading positions from
+     * {@code x} and {@code y} starting at index 0 and writing results into {@code out} starting at index
+     * {@code outStart}. Foam noise is made of 3 value noise calls per point, on rotated and domain-warped axes, so
+     * its lattice cells don't line up with rows; instead, each of those calls remembers the hashes of the last cell
+     * it used, and reuses them when the next point lands in the same cell, which happens for most points when the
+     * positions are close together. The results are identical to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchFoam(final int seed, final float[] x, final float[] y, final float[] out, final int outStart, final int count) {
+        final int[] cache = new int[21];
+        int seedB = seed + 0x9E3779BD;
+        seedB ^= seedB >>> 14;
+        int seedC = seedB + 0x9E3779BD;
+        seedC ^= seedC >>> 14;
+        final float sharp = foamSharpness * 2.2f;
+        for (int p = 0; p < count; p++) {
+            final float p0 = x[p];
+            final float p1 = x[p] * -0.5f + y[p] * 0.8660254037844386f;
+            final float p2 = x[p] * -0.5f + y[p] * -0.8660254037844387f;
+
+            final float a = cachedValueNoise(seed, p2, p0, cache, 0);
+            final float b = cachedValueNoise(seedB, p1 + a, p2, cache, 7);
+            final float c = cachedValueNoise(seedC, p0 + b, p1, cache, 14);
+            final float result = (a + b + c) * F3f;
+            final float diff = 0.5f - result;
+            final int sign = Float.floatToRawIntBits(diff) >> 31, one = sign | 1;
+            out[outStart + p] = (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleFoam(int, float, float, float)} for {@code count} points at once, reading positions
+     * from {@code x}, {@code y}, and {@code z} starting at index 0 and writing results into {@code out} starting at
+     * index {@code outStart}. Each of the 4 value noise calls per point reuses the hashes of the last cell it used,
+     * the same way {@link #batchFoam(int, float[], float[], float[], int, int)} does, and the results are identical
+     * to the single-point method.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchFoam(final int seed, final float[] x, final float[] y, final float[] z, final float[] out, final int outStart, final int count) {
+        final int[] cache = new int[48];
+        int seedB = seed + 0x9E3779BD;
+        seedB ^= seedB >>> 14;
+        int seedC = seedB + 0x9E3779BD;
+        seedC ^= seedC >>> 14;
+        int seedD = seedC + 0x9E3779BD;
+        seedD ^= seedD >>> 14;
+        final float sharp = foamSharpness * 3.3f;
+        for (int p = 0; p < count; p++) {
+            final float p0 = x[p];
+            final float p1 = x[p] * -0.3333333333333333f + y[p] * 0.9428090415820634f;
+            final float p2 = x[p] * -0.3333333333333333f + y[p] * -0.4714045207910317f + z[p] * 0.816496580927726f;
+            final float p3 = x[p] * -0.3333333333333333f + y[p] * -0.4714045207910317f + z[p] * -0.816496580927726f;
+
+            final float a = cachedValueNoise(seed, p3, p2, p0, cache, 0);
+            final float b = cachedValueNoise(seedB, p0 + a, p1, p3, cache, 12);
+            final float c = cachedValueNoise(seedC, p1 + b, p2, p3, cache, 24);
+            final float d = cachedValueNoise(seedD, p0 + c, p1, p2, cache, 36);
+
+            final float result = (a + b + c + d) * 0.25f;
+            final float diff = 0.5f - result;
+            final int sign = Float.floatToRawIntBits(diff) >> 31, one = sign | 1;
+            out[outStart + p] = (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleFoam(int, float, float, float, float)} for {@code count} points at once, reading
+     * positions from {@code x}, {@code y}, {@code z}, and {@code w} starting at index 0 and writing results into
+     * {@code out} starting at index {@code outStart}. Each of the 5 value noise calls per point reuses the 16 hashes of
+     * the last cell it used, the same way {@link #batchFoam(int, float[], float[], float[], int, int)} does, and the
+     * results are identical to the single-point method. This is what 3D {@link #MUTANT} fills use, with the mutation
+     * in {@code w}.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param w w positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchFoam(final int seed, final float[] x, final float[] y, final float[] z, final float[] w,
+                          final float[] out, final int outStart, final int count) {
+        final int[] cache = new int[105];
+        int seedB = seed + 0x9E3779BD;
+        seedB ^= seedB >>> 14;
+        int seedC = seedB + 0x9E3779BD;
+        seedC ^= seedC >>> 14;
+        int seedD = seedC + 0x9E3779BD;
+        seedD ^= seedD >>> 14;
+        int seedE = seedD + 0x9E3779BD;
+        seedE ^= seedE >>> 14;
+        final float sharp = foamSharpness * 4.4f;
+        for (int p = 0; p < count; p++) {
+            final float p0 = x[p];
+            final float p1 = x[p] * -0.25f + y[p] *  0.9682458365518543f;
+            final float p2 = x[p] * -0.25f + y[p] * -0.3227486121839514f + z[p] *  0.91287092917527690f;
+            final float p3 = x[p] * -0.25f + y[p] * -0.3227486121839514f + z[p] * -0.45643546458763834f + w[p] *  0.7905694150420949f;
+            final float p4 = x[p] * -0.25f + y[p] * -0.3227486121839514f + z[p] * -0.45643546458763834f + w[p] * -0.7905694150420947f;
+
+            final float a = cachedValueNoise(seed, p1, p2, p3, p4, cache, 0);
+            final float b = cachedValueNoise(seedB, p0 + a, p2, p3, p4, cache, 21);
+            final float c = cachedValueNoise(seedC, p0 + b, p1, p3, p4, cache, 42);
+            final float d = cachedValueNoise(seedD, p0 + c, p1, p2, p4, cache, 63);
+            final float e = cachedValueNoise(seedE, p0 + d, p1, p2, p3, cache, 84);
+
+            final float result = (a + b + c + d + e) * 0.2f;
+            final float diff = 0.5f - result;
+            final int sign = Float.floatToRawIntBits(diff) >> 31, one = sign | 1;
+            out[outStart + p] = (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+        }
+    }
+
+    /**
+     * Evaluates {@link #singleFoam(int, float, float, float, float, float)} for {@code count} points at once, reading
+     * positions from {@code x}, {@code y}, {@code z}, {@code w}, and {@code u} starting at index 0 and writing results
+     * into {@code out} starting at index {@code outStart}. Each of the 6 value noise calls per point reuses the 32
+     * hashes of the last cell it used, and the results are identical to the single-point method. This is what 4D
+     * {@link #MUTANT} fills use, with the mutation in {@code u}.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y y positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param z z positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param w w positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param u u positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void batchFoam(final int seed, final float[] x, final float[] y, final float[] z, final float[] w, final float[] u,
+                          final float[] out, final int outStart, final int count) {
+        final int[] cache = new int[228];
+        int seedB = seed + 0x9E3779BD;
+        seedB ^= seedB >>> 14;
+        int seedC = seedB + 0x9E3779BD;
+        seedC ^= seedC >>> 14;
+        int seedD = seedC + 0x9E3779BD;
+        seedD ^= seedD >>> 14;
+        int seedE = seedD + 0x9E3779BD;
+        seedE ^= seedE >>> 14;
+        int seedF = seedE + 0x9E3779BD;
+        seedF ^= seedF >>> 14;
+        final float sharp = foamSharpness * 5.5f;
+        for (int p = 0; p < count; p++) {
+            final float p0 = x[p] *  0.8157559148337911f + y[p] *  0.5797766823136037f;
+            final float p1 = x[p] * -0.7314923478726791f + y[p] *  0.6832997137249108f;
+            final float p2 = x[p] * -0.0208603044412437f + y[p] * -0.3155296974329846f + z[p] * 0.9486832980505138f;
+            final float p3 = x[p] * -0.0208603044412437f + y[p] * -0.3155296974329846f + z[p] * -0.316227766016838f + w[p] *   0.8944271909999159f;
+            final float p4 = x[p] * -0.0208603044412437f + y[p] * -0.3155296974329846f + z[p] * -0.316227766016838f + w[p] * -0.44721359549995804f + u[p] *  0.7745966692414833f;
+            final float p5 = x[p] * -0.0208603044412437f + y[p] * -0.3155296974329846f + z[p] * -0.316227766016838f + w[p] * -0.44721359549995804f + u[p] * -0.7745966692414836f;
+
+            final float a = cachedValueNoise(seed, p1, p2, p3, p4, p5, cache, 0);
+            final float b = cachedValueNoise(seedB, p0 + a, p2, p3, p4, p5, cache, 38);
+            final float c = cachedValueNoise(seedC, p0 + b, p1, p3, p4, p5, cache, 76);
+            final float d = cachedValueNoise(seedD, p0 + c, p1, p2, p4, p5, cache, 114);
+            final float e = cachedValueNoise(seedE, p0 + d, p1, p2, p3, p5, cache, 152);
+            final float f = cachedValueNoise(seedF, p0 + e, p1, p2, p3, p4, cache, 190);
+
+            final float result = (a + b + c + d + e + f) * 0.16666666666666666f;
+            final float diff = 0.5f - result;
+            final int sign = Float.floatToRawIntBits(diff) >> 31, one = sign | 1;
+            out[outStart + p] = (((result + sign)) / (Float.MIN_VALUE - sign + (result + sharp * diff) * one) - sign - sign) - 1f;
+        }
+    }
+
+    /**
+     * Evaluates one octave of a non-fractal 2D noise type for {@code count} points. {@code kind} should be one of
+     * {@link #VALUE}, {@link #PERLIN}, {@link #SIMPLEX}, {@link #CUBIC}, {@link #FOAM}, or {@link #HONEY}; types that
+     * have batch or row methods use them, and the rest call their single-point method for each point. If
+     * {@code sameY} is true, every item in {@code y} must be equal, and VALUE, SIMPLEX, CUBIC, and HONEY use row methods,
+     * such as {@link #rowSimplex(int, float[], float, float[], int, int)}; otherwise, CUBIC uses
+     * {@link #sortedCubic(int, float[], float[], float[], int, int)}, which reuses work between points in the same
+     * lattice cell. If {@code columns} isn't null, it must hold the {@link LatticeColumns} of {@code x}, and
+     * {@code sameY} must be true; VALUE, PERLIN, CUBIC, and HONEY then use it instead of finding them again.
+     */
+    private void octave2D(final int kind, final int seed, final float[] x, final float[] y, final boolean sameY,
+                          final LatticeColumns columns, final float[] out, final int outStart, final int count) {
+        switch (kind) {
+            case VALUE:
+                if (columns != null) rowValue(seed, columns, y[0], out, outStart);
+                else if (sameY) rowValue(seed, x, y[0], out, outStart, count);
+                else {
+                    for (int p = 0; p < count; p++) {
+                        out[outStart + p] = singleValue(seed, x[p], y[p]);
+                    }
+                }
+                return;
+            case PERLIN:
+                if (columns != null) rowPerlin(seed, columns, y[0], out, outStart);
+                else batchPerlin(seed, x, y, out, outStart, count);
+                return;
+            case CUBIC:
+                if (columns != null) rowCubic(seed, columns, y[0], out, outStart);
+                else if (sameY) rowCubic(seed, x, y[0], out, outStart, count);
+                else sortedCubic(seed, x, y, out, outStart, count);
+                return;
+            case FOAM:
+                batchFoam(seed, x, y, out, outStart, count);
+                return;
+            case HONEY:
+                if (columns != null) rowHoney(seed, columns, y[0], out, outStart);
+                else if (sameY) rowHoney(seed, x, y[0], out, outStart, count);
+                else {
+                    for (int p = 0; p < count; p++) {
+                        out[outStart + p] = singleHoney(seed, x[p], y[p]);
+                    }
+                }
+                return;
+            default:
+                if (sameY) rowSimplex(seed, x, y[0], out, outStart, count);
+                else {
+                    for (int p = 0; p < count; p++) {
+                        out[outStart + p] = singleSimplex(seed, x[p], y[p]);
+                    }
+                }
+        }
+    }
+
+    /**
+     * Evaluates one octave of a non-fractal 3D noise type for {@code count} points. {@code kind} should be one of
+     * {@link #VALUE}, {@link #PERLIN}, {@link #SIMPLEX}, {@link #CUBIC}, {@link #FOAM}, or {@link #HONEY}; types that
+     * have batch or row methods use them, and the rest call their single-point method for each point. If
+     * {@code sameYZ} is true, every item in {@code y} must be equal, and so must every item in {@code z}, and VALUE,
+     * SIMPLEX, CUBIC, and HONEY use row methods, such as {@link #rowSimplex(int, float[], float, float, float[], int, int)};
+     * otherwise, CUBIC uses {@link #sortedCubic(int, float[], float[], float[], float[], int, int)}, which reuses work
+     * between points in the same lattice cell. If {@code columns} isn't null, it must hold the {@link LatticeColumns}
+     * of {@code x}, and {@code sameYZ} must be true; VALUE, PERLIN, CUBIC, and HONEY then use it instead of finding
+     * them again.
+     */
+    private void octave3D(final int kind, final int seed, final float[] x, final float[] y, final float[] z, final boolean sameYZ,
+                          final LatticeColumns columns, final float[] out, final int outStart, final int count) {
+        switch (kind) {
+            case VALUE:
+                if (columns != null) rowValue(seed, columns, y[0], z[0], out, outStart);
+                else if (sameYZ) rowValue(seed, x, y[0], z[0], out, outStart, count);
+                else {
+                    for (int p = 0; p < count; p++) {
+                        out[outStart + p] = singleValue(seed, x[p], y[p], z[p]);
+                    }
+                }
+                return;
+            case PERLIN:
+                if (columns != null) rowPerlin(seed, columns, y[0], z[0], out, outStart);
+                else batchPerlin(seed, x, y, z, out, outStart, count);
+                return;
+            case CUBIC:
+                if (columns != null) rowCubic(seed, columns, y[0], z[0], out, outStart);
+                else if (sameYZ) rowCubic(seed, x, y[0], z[0], out, outStart, count);
+                else sortedCubic(seed, x, y, z, out, outStart, count);
+                return;
+            case FOAM:
+                batchFoam(seed, x, y, z, out, outStart, count);
+                return;
+            case HONEY:
+                if (columns != null) rowHoney(seed, columns, y[0], z[0], out, outStart);
+                else if (sameYZ) rowHoney(seed, x, y[0], z[0], out, outStart, count);
+                else {
+                    for (int p = 0; p < count; p++) {
+                        out[outStart + p] = singleHoney(seed, x[p], y[p], z[p]);
+                    }
+                }
+                return;
+            default:
+                if (sameYZ) rowSimplex(seed, x, y[0], z[0], out, outStart, count);
+                else batchSimplex(seed, x, y, z, out, outStart, count);
+        }
+    }
+
+    /**
+     * Evaluates one octave of a non-fractal 2D noise type for {@code count} points and several seeds, writing the
+     * results for {@code seeds[s]} into {@code outs[s]}. If {@code sameY} is true, {@link #VALUE} and {@link #SIMPLEX}
+     * share their position work between seeds using methods like
+     * {@link #rowSimplex(int[], float[], float, float[][], int, int)}; otherwise, or for other kinds, this calls
+     * {@link #octave2D(int, int, float[], float[], boolean, LatticeColumns, float[], int, int)} once per seed.
+     * {@code columns} may be null, or may hold the {@link LatticeColumns} of {@code x} if {@code sameY} is true.
+     */
+    private void octave2D(final int kind, final int[] seeds, final float[] x, final float[] y, final boolean sameY,
+                          final LatticeColumns columns, final float[][] outs, final int outStart, final int count) {
+        if (sameY && seeds.length > 1) {
+            switch (kind) {
+                case VALUE:
+                    if (columns != null) rowValue(seeds, columns, y[0], outs, outStart);
+                    else rowValue(seeds, x, y[0], outs, outStart, count);
+                    return;
+                case SIMPLEX:
+                    rowSimplex(seeds, x, y[0], outs, outStart, count);
+                    return;
+            }
+        }
+        for (int s = 0; s < seeds.length; s++) {
+            octave2D(kind, seeds[s], x, y, sameY, columns, outs[s], outStart, count);
+        }
+    }
+
+    /**
+     * Evaluates one octave of a non-fractal 3D noise type for {@code count} points and several seeds, writing the
+     * results for {@code seeds[s]} into {@code outs[s]}. If {@code sameYZ} is true, {@link #VALUE} and
+     * {@link #SIMPLEX} share their position work between seeds; otherwise, or for other kinds, this calls
+     * {@link #octave3D(int, int, float[], float[], float[], boolean, LatticeColumns, float[], int, int)} once per
+     * seed. {@code columns} may be null, or may hold the {@link LatticeColumns} of {@code x} if {@code sameYZ} is true.
+     */
+    private void octave3D(final int kind, final int[] seeds, final float[] x, final float[] y, final float[] z, final boolean sameYZ,
+                          final LatticeColumns columns, final float[][] outs, final int outStart, final int count) {
+        if (sameYZ && seeds.length > 1) {
+            switch (kind) {
+                case VALUE:
+                    if (columns != null) rowValue(seeds, columns, y[0], z[0], outs, outStart);
+                    else rowValue(seeds, x, y[0], z[0], outs, outStart, count);
+                    return;
+                case SIMPLEX:
+                    rowSimplex(seeds, x, y[0], z[0], outs, outStart, count);
+                    return;
+            }
+        }
+        for (int s = 0; s < seeds.length; s++) {
+            octave3D(kind, seeds[s], x, y, z, sameYZ, columns, outs[s], outStart, count);
+        }
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 2D noise into {@code out}; this is
+     * {@link #fractalRows2D(int, int[], float[], float, float, float, int, int, float[][])} with just one seed.
+     */
+    private void fractalRows2D(final int kind, final int seed, final float[] xs, final float stepX, final float startY, final float stepY,
+                               final int width, final int height, final float[] out) {
+        fractalRows2D(kind, new int[]{seed}, xs, stepX, startY, stepY, width, height, new float[][]{out});
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 2D noise into each of {@code outs}, one row at a time with
+     * {@link #fractalPoints2D(int, int[], float[], float[], boolean, LatticeColumns[], float[][], int, int, int, float[][], int[])}.
+     * @param kind the non-fractal noise type to layer, as in {@link #octave2D(int, int, float[], float[], boolean, LatticeColumns, float[], int, int)}
+     * @param seeds the seed for the first octave of each layer; later octaves add the octave index to it
+     * @param xs the x position of each column, already multiplied by frequency
+     * @param stepX how much x changes between columns, before frequency is applied; only used to choose how many octaves to cull
+     * @param startY the y position of the first row, before frequency is applied
+     * @param stepY how much y changes between rows, before frequency is applied
+     * @param width how many columns are in a row
+     * @param height how many rows to fill
+     * @param outs the row-major float arrays to fill, one per item in {@code seeds}
+     */
+    private void fractalRows2D(final int kind, final int[] seeds, final float[] xs, final float stepX, final float startY, final float stepY,
+                               final int width, final int height, final float[][] outs) {
+        final int[] octaveSeeds = new int[seeds.length];
+        final float[] px = new float[width], py = new float[width];
+        final float[][] rows = new float[seeds.length][width];
+        final LatticeColumns[] columns = kind == VALUE || kind == PERLIN || kind == CUBIC || kind == HONEY
+                ? octaveColumns(xs, width) : null;
+        final int used = getEffectiveOctaves(stepX, stepY);
+        for (int j = 0; j < height; j++) {
+            System.arraycopy(xs, 0, px, 0, width);
+            Arrays.fill(py, (startY + j * stepY) * frequency);
+            fractalPoints2D(kind, seeds, px, py, true, columns, outs, j * width, width, used, rows, octaveSeeds);
+        }
+    }
+
+    /**
+     * Evaluates fractal 2D noise for {@code count} points into each of {@code outs}, starting at index {@code start},
+     * evaluating one octave for every point before moving on to the next octave, and accumulating each octave into
+     * {@code outs} in-place. This uses the current {@link #getFractalType() fractal type}, octaves, lacunarity, and
+     * gain, and produces the same results as the per-point fractal methods; {@link #FOAM} and {@link #HONEY} swap x
+     * and y between octaves just as those do, so {@code sameY} and {@code columns} only apply to their even octaves.
+     * Each octave is evaluated for every seed before moving on, so the scaled positions are shared between seeds, and
+     * so is the position work inside
+     * {@link #octave2D(int, int[], float[], float[], boolean, LatticeColumns, float[][], int, int)}.
+     * @param kind the non-fractal noise type to layer
+     * @param seeds the seed for the first octave of each layer; later octaves add the octave index to it
+     * @param px x positions, already multiplied by frequency; will be modified
+     * @param py y positions, already multiplied by frequency; will be modified
+     * @param sameY true if every item in {@code py} is equal
+     * @param columns null, or the {@link LatticeColumns} of {@code px} for each octave, from {@link #octaveColumns(float[], int)}
+     * @param outs the float arrays to fill, one per item in {@code seeds}
+     * @param start the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     * @param used how many octaves to evaluate, usually {@link #getFractalOctaves()}, or fewer from {@link #getEffectiveOctaves(float)}
+     * @param rows scratch space, with one array per seed, each with at least {@code count} items
+     * @param octaveSeeds scratch space, with one item per seed
+     */
+    private void fractalPoints2D(final int kind, final int[] seeds, float[] px, float[] py, final boolean sameY,
+                                 final LatticeColumns[] columns, final float[][] outs, final int start, final int count,
+                                 final int used, final float[][] rows, final int[] octaveSeeds) {
+        final int layers = seeds.length;
+        final boolean swap = kind == FOAM || kind == HONEY;
+        float[] t;
+        switch (fractalType) {
+            case RIDGED_MULTI: {
+                float exp = 2f, correction = 0f;
+                for (int s = 0; s < layers; s++) {
+                    Arrays.fill(outs[s], start, start + count, 0f);
+                }
+                for (int i = 0; i < used; i++) {
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    final boolean flat = sameY && (!swap || (i & 1) == 0);
+                    octave2D(kind, octaveSeeds, px, py, flat, flat && columns != null ? columns[i] : null, rows, 0, count);
+                    correction += (exp *= 0.5);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += (1f - Math.abs(row[p])) * exp;
+                        }
+                    }
+                    if (swap) {
+                        t = px;
+                        px = py;
+                        py = t;
+                    }
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                    }
+                }
+                float skipped = 0f;
+                for (int i = used; i < octaves; i++) {
+                    correction += (exp *= 0.5);
+                    skipped += exp * 0.5f;
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    if (skipped != 0f) {
+                        for (int p = start, end = start + count; p < end; p++) {
+                            out[p] += skipped;
+                        }
+                    }
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] = out[p] * 2f / correction - 1f;
+                    }
+                }
+                break;
+            }
+            case BILLOW: {
+                float amp = 1;
+                octave2D(kind, seeds, px, py, sameY, columns == null ? null : columns[0], outs, start, count);
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] = Math.abs(out[p]) * 2 - 1;
+                    }
+                }
+                for (int i = 1; i < used; i++) {
+                    if (swap) {
+                        t = px;
+                        px = py;
+                        py = t;
+                    }
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                    }
+                    amp *= gain;
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    final boolean flat = sameY && (!swap || (i & 1) == 0);
+                    octave2D(kind, octaveSeeds, px, py, flat, flat && columns != null ? columns[i] : null, rows, 0, count);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += (Math.abs(row[p]) * 2 - 1) * amp;
+                        }
+                    }
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+                break;
+            }
+            default: {
+                float amp = 1;
+                octave2D(kind, seeds, px, py, sameY, columns == null ? null : columns[0], outs, start, count);
+                for (int i = 1; i < used; i++) {
+                    if (swap) {
+                        t = px;
+                        px = py;
+                        py = t;
+                    }
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                    }
+                    amp *= gain;
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    final boolean flat = sameY && (!swap || (i & 1) == 0);
+                    octave2D(kind, octaveSeeds, px, py, flat, flat && columns != null ? columns[i] : null, rows, 0, count);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += row[p] * amp;
+                        }
+                    }
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 3D noise into {@code out}, with z the same for every point; this is
+     * {@link #fractalRows3D(int, int[], float[], float, float, float, float, int, int, float[][])} with just one seed.
+     */
+    private void fractalRows3D(final int kind, final int seed, final float[] xs, final float stepX, final float startY, final float stepY,
+                               final float z, final int width, final int height, final float[] out) {
+        fractalRows3D(kind, new int[]{seed}, xs, stepX, startY, stepY, z, width, height, new float[][]{out});
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 3D noise into each of {@code outs}, with z the same for every point, one row
+     * at a time with {@link #fractalPoints3D(int, int[], float[], float[], float[], boolean, LatticeColumns[], float[][], int, int, int, float[][], int[])}.
+     * @param kind the non-fractal noise type to layer, as in {@link #octave3D(int, int, float[], float[], float[], boolean, LatticeColumns, float[], int, int)}
+     * @param seeds the seed for the first octave of each layer; later octaves add the octave index to it
+     * @param xs the x position of each column, already multiplied by frequency
+     * @param stepX how much x changes between columns, before frequency is applied; only used to choose how many octaves to cull
+     * @param startY the y position of the first row, before frequency is applied
+     * @param stepY how much y changes between rows, before frequency is applied
+     * @param z the z position for every point, used as-is
+     * @param width how many columns are in a row
+     * @param height how many rows to fill
+     * @param outs the row-major float arrays to fill, one per item in {@code seeds}
+     */
+    private void fractalRows3D(final int kind, final int[] seeds, final float[] xs, final float stepX, final float startY, final float stepY,
+                               final float z, final int width, final int height, final float[][] outs) {
+        final int[] octaveSeeds = new int[seeds.length];
+        final float[] px = new float[width], py = new float[width], pz = new float[width];
+        final float[][] rows = new float[seeds.length][width];
+        final LatticeColumns[] columns = kind == VALUE || kind == PERLIN || kind == CUBIC || kind == HONEY
+                ? octaveColumns(xs, width) : null;
+        final int used = getEffectiveOctaves(stepX, stepY);
+        for (int j = 0; j < height; j++) {
+            System.arraycopy(xs, 0, px, 0, width);
+            Arrays.fill(py, (startY + j * stepY) * frequency);
+            Arrays.fill(pz, z);
+            fractalPoints3D(kind, seeds, px, py, pz, true, columns, outs, j * width, width, used, rows, octaveSeeds);
+        }
+    }
+
+    /**
+     * Evaluates fractal 3D noise for {@code count} points into each of {@code outs}, starting at index {@code start},
+     * evaluating one octave for every point before moving on to the next octave, and accumulating each octave into
+     * {@code outs} in-place. This uses the current {@link #getFractalType() fractal type}, octaves, lacunarity, and
+     * gain, and produces the same results as the per-point fractal methods. Seeds share work the same way they do in
+     * {@link #fractalPoints2D(int, int[], float[], float[], boolean, LatticeColumns[], float[][], int, int, int, float[][], int[])}.
+     * @param kind the non-fractal noise type to layer
+     * @param seeds the seed for the first octave of each layer; later octaves add the octave index to it
+     * @param px x positions, already multiplied by frequency; will be modified
+     * @param py y positions, already multiplied by frequency; will be modified
+     * @param pz z positions, already multiplied by frequency; will be modified
+     * @param sameYZ true if every item in {@code py} is equal, and every item in {@code pz} is equal
+     * @param columns null, or the {@link LatticeColumns} of {@code px} for each octave, from {@link #octaveColumns(float[], int)}
+     * @param outs the float arrays to fill, one per item in {@code seeds}
+     * @param start the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     * @param used how many octaves to evaluate, usually {@link #getFractalOctaves()}, or fewer from {@link #getEffectiveOctaves(float)}
+     * @param rows scratch space, with one array per seed, each with at least {@code count} items
+     * @param octaveSeeds scratch space, with one item per seed
+     */
+    private void fractalPoints3D(final int kind, final int[] seeds, final float[] px, final float[] py, final float[] pz,
+                                 final boolean sameYZ, final LatticeColumns[] columns, final float[][] outs,
+                                 final int start, final int count, final int used,
+                                 final float[][] rows, final int[] octaveSeeds) {
+        final int layers = seeds.length;
+        switch (fractalType) {
+            case RIDGED_MULTI: {
+                float exp = 2f, correction = 0f;
+                for (int s = 0; s < layers; s++) {
+                    Arrays.fill(outs[s], start, start + count, 0f);
+                }
+                for (int i = 0; i < used; i++) {
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    octave3D(kind, octaveSeeds, px, py, pz, sameYZ, columns == null ? null : columns[i], rows, 0, count);
+                    correction += (exp *= 0.5);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += (1f - Math.abs(row[p])) * exp;
+                        }
+                    }
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                        pz[p] *= lacunarity;
+                    }
+                }
+                float skipped = 0f;
+                for (int i = used; i < octaves; i++) {
+                    correction += (exp *= 0.5);
+                    skipped += exp * 0.5f;
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    if (skipped != 0f) {
+                        for (int p = start, end = start + count; p < end; p++) {
+                            out[p] += skipped;
+                        }
+                    }
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] = out[p] * 2f / correction - 1f;
+                    }
+                }
+                break;
+            }
+            case BILLOW: {
+                float amp = 1;
+                octave3D(kind, seeds, px, py, pz, sameYZ, columns == null ? null : columns[0], outs, start, count);
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] = Math.abs(out[p]) * 2 - 1;
+                    }
+                }
+                for (int i = 1; i < used; i++) {
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                        pz[p] *= lacunarity;
+                    }
+                    amp *= gain;
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    octave3D(kind, octaveSeeds, px, py, pz, sameYZ, columns == null ? null : columns[i], rows, 0, count);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += (Math.abs(row[p]) * 2 - 1) * amp;
+                        }
+                    }
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+                break;
+            }
+            default: {
+                float amp = 1;
+                octave3D(kind, seeds, px, py, pz, sameYZ, columns == null ? null : columns[0], outs, start, count);
+                for (int i = 1; i < used; i++) {
+                    for (int p = 0; p < count; p++) {
+                        px[p] *= lacunarity;
+                        py[p] *= lacunarity;
+                        pz[p] *= lacunarity;
+                    }
+                    amp *= gain;
+                    for (int s = 0; s < layers; s++) {
+                        octaveSeeds[s] = seeds[s] + i;
+                    }
+                    octave3D(kind, octaveSeeds, px, py, pz, sameYZ, columns == null ? null : columns[i], rows, 0, count);
+                    for (int s = 0; s < layers; s++) {
+                        final float[] out = outs[s], row = rows[s];
+                        for (int p = 0; p < count; p++) {
+                            out[start + p] += row[p] * amp;
+                        }
+                    }
+                }
+                for (int s = 0; s < layers; s++) {
+                    final float[] out = outs[s];
+                    for (int p = start, end = start + count; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 4D or 5D foam noise into {@code out}, one octave at a time, with every
+     * dimension after y held the same for every point. The positions in {@code fixed} are scaled by lacunarity along
+     * with x and y, as {@link #singleFoamFractalFBM(int, float, float, float, float)} and the other higher-dimensional
+     * foam fractals do, so this produces the same results as those. This is used for 4D {@link #FOAM_FRACTAL} fills,
+     * and for {@link #MUTANT_FRACTAL} fills in 3D and 4D, where the mutation is the last item in {@code fixed}.
+     * @param seed the seed for the first octave; later octaves add the octave index to it
+     * @param xs the x position of each column, already multiplied by frequency
+     * @param stepX how much x changes between columns, before frequency is applied; only used to choose how many octaves to cull
+     * @param startY the y position of the first row, before frequency is applied
+     * @param stepY how much y changes between rows, before frequency is applied
+     * @param fixed the z and w positions, and for 5D also u, used as-is for every point; must have 2 or 3 items
+     * @param width how many columns are in a row
+     * @param height how many rows to fill
+     * @param out the row-major float array to fill
+     */
+    private void foamRows(final int seed, final float[] xs, final float stepX, final float startY, final float stepY, final float[] fixed,
+                          final int width, final int height, final float[] out) {
+        final int used = getEffectiveOctaves(stepX, stepY);
+        final int dims = fixed.length + 2;
+        final float[][] pos = new float[dims][width];
+        final float[] row = new float[width];
+        for (int j = 0; j < height; j++) {
+            final int start = j * width, end = start + width;
+            System.arraycopy(xs, 0, pos[0], 0, width);
+            Arrays.fill(pos[1], (startY + j * stepY) * frequency);
+            for (int d = 2; d < dims; d++) {
+                Arrays.fill(pos[d], fixed[d - 2]);
+            }
+            switch (fractalType) {
+                case RIDGED_MULTI: {
+                    float exp = 2f, correction = 0f;
+                    Arrays.fill(out, start, end, 0f);
+                    for (int i = 0; i < used; i++) {
+                        foamOctave(seed + i, pos, row, 0, width);
+                        correction += (exp *= 0.5);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += (1f - Math.abs(row[p])) * exp;
+                        }
+                        scaleAll(pos, width);
+                    }
+                    float skipped = 0f;
+                    for (int i = used; i < octaves; i++) {
+                        correction += (exp *= 0.5);
+                        skipped += exp * 0.5f;
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] = (out[p] + skipped) * 2f / correction - 1f;
+                    }
+                    break;
+                }
+                case BILLOW: {
+                    float amp = 1;
+                    foamOctave(seed, pos, out, start, width);
+                    for (int p = start; p < end; p++) {
+                        out[p] = Math.abs(out[p]) * 2 - 1;
+                    }
+                    for (int i = 1; i < used; i++) {
+                        scaleAll(pos, width);
+                        amp *= gain;
+                        foamOctave(seed + i, pos, row, 0, width);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += (Math.abs(row[p]) * 2 - 1) * amp;
+                        }
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                    break;
+                }
+                default: {
+                    float amp = 1;
+                    foamOctave(seed, pos, out, start, width);
+                    for (int i = 1; i < used; i++) {
+                        scaleAll(pos, width);
+                        amp *= gain;
+                        foamOctave(seed + i, pos, row, 0, width);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += row[p] * amp;
+                        }
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the 4D or 5D {@code batchFoam()} method, depending on how many position arrays are in {@code pos}.
+     */
+    private void foamOctave(final int seed, final float[][] pos, final float[] out, final int outStart, final int count) {
+        if (pos.length == 4) batchFoam(seed, pos[0], pos[1], pos[2], pos[3], out, outStart, count);
+        else batchFoam(seed, pos[0], pos[1], pos[2], pos[3], pos[4], out, outStart, count);
+    }
+
+    /**
+     * Multiplies the first {@code count} items of every array in {@code pos} by lacunarity.
+     */
+    private void scaleAll(final float[][] pos, final int count) {
+        for (final float[] axis : pos) {
+            for (int p = 0; p < count; p++) {
+                axis[p] *= lacunarity;
+            }
+        }
+    }
+
+    /**
+     * Fills {@code height} rows of fractal 4D cubic noise into {@code out}, one octave at a time with
+     * {@link #rowCubic(int, float[], float, float, float, float[], int, int)}, so each octave of each row hashes its
+     * lattice once instead of once per point, and the lattice columns for each octave are found once for all rows.
+     * This produces the same results as
+     * {@link #singleCubicFractalFBM(int, float, float, float, float)} and the other 4D cubic fractals, including
+     * leaving w unscaled between octaves for {@link #RIDGED_MULTI}, as that method does.
+     * @param seed the seed for the first octave; later octaves add the octave index to it
+     * @param xs the x position of each column, already multiplied by frequency
+     * @param stepX how much x changes between columns, before frequency is applied; only used to choose how many octaves to cull
+     * @param startY the y position of the first row, before frequency is applied
+     * @param stepY how much y changes between rows, before frequency is applied
+     * @param z the z position used for every point, already multiplied by frequency
+     * @param w the w position used for every point, already multiplied by frequency
+     * @param width how many columns are in a row
+     * @param height how many rows to fill
+     * @param out the row-major float array to fill
+     */
+    private void cubicRows4D(final int seed, final float[] xs, final float stepX, final float startY, final float stepY,
+                             final float z, final float w, final int width, final int height, final float[] out) {
+        final int used = getEffectiveOctaves(stepX, stepY);
+        final LatticeColumns[] columns = octaveColumns(xs, width);
+        final float[] row = new float[width];
+        for (int j = 0; j < height; j++) {
+            final int start = j * width, end = start + width;
+            float y = (startY + j * stepY) * frequency, zo = z, wo = w;
+            switch (fractalType) {
+                case RIDGED_MULTI: {
+                    float exp = 2f, correction = 0f;
+                    Arrays.fill(out, start, end, 0f);
+                    for (int i = 0; i < used; i++) {
+                        rowCubic(seed + i, columns[i], y, zo, w, row, 0);
+                        correction += (exp *= 0.5f);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += (1f - Math.abs(row[p])) * exp;
+                        }
+                        y *= lacunarity;
+                        zo *= lacunarity;
+                    }
+                    float skipped = 0f;
+                    for (int i = used; i < octaves; i++) {
+                        correction += (exp *= 0.5);
+                        skipped += exp * 0.5f;
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] = (out[p] + skipped) * 2f / correction - 1f;
+                    }
+                    break;
+                }
+                case BILLOW: {
+                    float amp = 1;
+                    rowCubic(seed, columns[0], y, zo, wo, out, start);
+                    for (int p = start; p < end; p++) {
+                        out[p] = Math.abs(out[p]) * 2 - 1;
+                    }
+                    for (int i = 1; i < used; i++) {
+                        y *= lacunarity;
+                        zo *= lacunarity;
+                        wo *= lacunarity;
+                        amp *= gain;
+                        rowCubic(seed + i, columns[i], y, zo, wo, row, 0);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += (Math.abs(row[p]) * 2 - 1) * amp;
+                        }
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                    break;
+                }
+                default: {
+                    float amp = 1;
+                    rowCubic(seed, columns[0], y, zo, wo, out, start);
+                    for (int i = 1; i < used; i++) {
+                        y *= lacunarity;
+                        zo *= lacunarity;
+                        wo *= lacunarity;
+                        amp *= gain;
+                        rowCubic(seed + i, columns[i], y, zo, wo, row, 0);
+                        for (int p = 0; p < width; p++) {
+                            out[start + p] += row[p] * amp;
+                        }
+                    }
+                    for (int p = start; p < end; p++) {
+                        out[p] *= fractalBounding;
+                    }
+                }
+            }
+        }
+    }
+
+    // Bulk Cellular
+
+    /**
+     * Gets the smallest and largest result of {@link #fastRound(float)} on the first {@code count} items in
+     * {@code x}, as a new 2-item int array.
+     */
+    private static int[] roundRange(final float[] x, final int count) {
+        int xMin = fastRound(x[0]), xMax = xMin;
+        for (int p = 1; p < count; p++) {
+            final int r = fastRound(x[p]);
+            if (r < xMin) xMin = r;
+            else if (r > xMax) xMax = r;
+        }
+        return new int[]{xMin, xMax};
+    }
+
+    /**
+     * Measures the distance from a point to a feature point, given the offset between them, using the current
+     * {@link #setCellularDistanceFunction(int) cellular distance function}, which must be EUCLIDEAN, MANHATTAN, or
+     * NATURAL.
+     */
+    private float cellDistance(final float vecX, final float vecY, final float vecZ) {
+        switch (cellularDistanceFunction) {
+            case MANHATTAN:
+                return Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
+            case NATURAL:
+                return (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
+            default:
+                return vecX * vecX + vecY * vecY + vecZ * vecZ;
+        }
+    }
+
+    /**
+     * A small open-addressing hash map from lattice cell coordinates to a float, used to remember each cell's
+     * {@link #NOISE_LOOKUP} value while filling an area, since that value depends only on the cell and not on where
+     * in the cell a point is. 2D cells use 0 for z. If this grows past {@link #LIMIT} cells, it forgets everything
+     * and starts over, so memory stays bounded for huge or very high-frequency fills.
+     */
+    private static final class CellValueCache {
+        private static final int LIMIT = 1 << 16;
+        private int[] keys = new int[64 * 3];
+        private float[] values = new float[64];
+        private boolean[] used = new boolean[64];
+        private int size, shift = 26;
+
+        /**
+         * Gets the slot where the cell at x, y, z is stored, or where it would be stored if it isn't yet; check
+         * {@link #has(int)} to tell which.
+         */
+        int slot(final int x, final int y, final int z) {
+            final int mask = used.length - 1;
+            int i = (x * 0x1827F5 ^ y * 0x123C21 ^ z * 0x1A36A9) * 0x9E3779B9 >>> shift;
+            while (used[i]) {
+                if (keys[i * 3] == x && keys[i * 3 + 1] == y && keys[i * 3 + 2] == z)
+                    return i;
+                i = i + 1 & mask;
+            }
+            return i;
+        }
+
+        boolean has(final int slot) {
+            return used[slot];
+        }
+
+        float get(final int slot) {
+            return values[slot];
+        }
+
+        /**
+         * Stores value for the cell at x, y, z, which must not be stored yet; slot must be what {@link #slot(int, int, int)}
+         * just returned for that cell.
+         */
+        void put(int slot, final int x, final int y, final int z, final float value) {
+            if (size >= LIMIT) {
+                Arrays.fill(used, false);
+                size = 0;
+                slot = slot(x, y, z);
+            } else if (size + 1 > used.length >>> 1) {
+                final int[] oldKeys = keys;
+                final float[] oldValues = values;
+                final boolean[] oldUsed = used;
+                keys = new int[oldKeys.length << 1];
+                values = new float[oldValues.length << 1];
+                used = new boolean[oldUsed.length << 1];
+                shift--;
+                for (int i = 0; i < oldUsed.length; i++) {
+                    if (oldUsed[i]) {
+                        final int s = slot(oldKeys[i * 3], oldKeys[i * 3 + 1], oldKeys[i * 3 + 2]);
+                        keys[s * 3] = oldKeys[i * 3];
+                        keys[s * 3 + 1] = oldKeys[i * 3 + 1];
+                        keys[s * 3 + 2] = oldKeys[i * 3 + 2];
+                        values[s] = oldValues[i];
+                        used[s] = true;
+                    }
+                }
+                slot = slot(x, y, z);
+            }
+            keys[slot * 3] = x;
+            keys[slot * 3 + 1] = y;
+            keys[slot * 3 + 2] = z;
+            values[slot] = value;
+            used[slot] = true;
+            size++;
+        }
+    }
+
+    /**
+     * Returns true if the given cellular return type uses the two closest distances, like {@link #DISTANCE_2_ADD},
+     * or false if it only needs the closest cell, like {@link #CELL_VALUE}.
+     */
+    private static boolean isEdgeReturnType(final int returnType) {
+        return returnType != CELL_VALUE && returnType != NOISE_LOOKUP && returnType != DISTANCE;
+    }
+
+    /**
+     * Gets a new {@link CellValueCache} if any of {@code returnTypes} is {@link #NOISE_LOOKUP}, or null otherwise.
+     */
+    private static CellValueCache lookupsFor(final int[] returnTypes) {
+        for (int t : returnTypes) {
+            if (t == NOISE_LOOKUP) return new CellValueCache();
+        }
+        return null;
+    }
+
+    /**
+     * Makes sure {@code outs} has an array with room for {@code size} items for each of {@code channels} channels,
+     * allocating any that are missing or too small, and returns it (or a new array of arrays, if needed).
+     */
+    private static float[][] channelBuffers(float[][] outs, final int channels, final int size) {
+        if (outs == null || outs.length < channels)
+            outs = outs == null ? new float[channels][] : Arrays.copyOf(outs, channels);
+        for (int c = 0; c < channels; c++) {
+            if (outs[c] == null || outs[c].length < size)
+                outs[c] = new float[size];
+        }
+        return outs;
+    }
+
+    /**
+     * Evaluates 2D cellular noise, using the current {@link #getCellularReturnType() cellular return type} and
+     * {@link #getCellularDistanceFunction() distance function}, along one row of points that share the same y. This
+     * reads x positions from {@code x} starting at index 0 and writes results into {@code out} starting at index
+     * {@code outStart}, and gives the same results as {@link #getCellular(float, float)} would for those positions
+     * without frequency applied again.
+     * <br>
+     * Every point on the row searches the same 3 rows of lattice cells, so the jittered feature point of each cell
+     * the row can reach is hashed once into a table, instead of 9 times per point. If the points are so spread out
+     * that the table would need more hashing than it saves, this evaluates each point on its own instead. With
+     * {@link #NOISE_LOOKUP}, each cell's value is only computed once per call, however many points land in it.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCellular(final int seed, final float[] x, final float y, final float[] out, final int outStart, final int count) {
+        final int[] returnTypes = {cellularReturnType};
+        rowCellular(seed, x, y, new float[][]{out}, returnTypes, outStart, count, lookupsFor(returnTypes));
+    }
+
+    /**
+     * Evaluates several kinds of 2D cellular noise at once along one row of points that share the same y, using the
+     * current {@link #getCellularDistanceFunction() distance function}. For each index {@code c} in
+     * {@code returnTypes}, this writes into {@code outs[c]} what {@link #rowCellular(int, float[], float, float[], int, int)}
+     * would write with {@link #setCellularReturnType(int)} set to {@code returnTypes[c]}, but the neighborhood of
+     * each point is only searched once for all of them. This is much faster than one call per return type when you
+     * need, for instance, the cell value, the distance to the closest feature point, and the distance to the second
+     * closest.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param outs one float array per item in {@code returnTypes}, each getting noise from -1f to 1f
+     * @param returnTypes cellular return types, such as {@link #CELL_VALUE} or {@link #DISTANCE_2_SUB}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCellular(final int seed, final float[] x, final float y, final float[][] outs, final int[] returnTypes,
+                            final int outStart, final int count) {
+        rowCellular(seed, x, y, outs, returnTypes, outStart, count, lookupsFor(returnTypes));
+    }
+
+    /**
+     * Does the work for {@link #rowCellular(int, float[], float, float[][], int[], int, int)}; {@code lookups}
+     * remembers {@link #NOISE_LOOKUP} values by cell, and can be shared between rows. It may be null if none of the
+     * return types are NOISE_LOOKUP.
+     */
+    private void rowCellular(final int seed, final float[] x, final float y, final float[][] outs, final int[] returnTypes,
+                             final int outStart, final int count, final CellValueCache lookups) {
+        if (count <= 0) return;
+        final int[] range = roundRange(x, count);
+        if ((long) range[1] - range[0] + 3L > count * 3L) {
+            cellularPoints2D(seed, x, y, outs, returnTypes, outStart, count);
+            return;
+        }
+        final int x0 = range[0] - 1, cols = range[1] - range[0] + 3, yr = fastRound(y);
+        cellularRow2D(seed, x, y, outs, returnTypes, outStart, count, x0, yr, featurePoints2D(seed, x0, cols, yr, null), lookups);
+    }
+
+    /**
+     * Evaluates 2D cellular noise for each point and each return type on its own, the same way
+     * {@link #getCellular(float, float)} does, but without applying frequency.
+     */
+    private void cellularPoints2D(final int seed, final float[] x, final float y, final float[][] outs, final int[] returnTypes,
+                                  final int outStart, final int count) {
+        for (int c = 0; c < returnTypes.length; c++) {
+            final int returnType = returnTypes[c];
+            final float[] out = outs[c];
+            if (isEdgeReturnType(returnType)) {
+                for (int p = 0; p < count; p++) {
+                    out[outStart + p] = singleCellular2Edge(seed, x[p], y, returnType);
+                }
+            } else {
+                for (int p = 0; p < count; p++) {
+                    out[outStart + p] = singleCellular(seed, x[p], y, returnType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hashes the jittered feature point of every cell in {@code cols} columns, starting at lattice x {@code x0}, and
+     * in the 3 rows centered on lattice y {@code yr}. The offset for column c and row {@code yr - 1 + k} goes at index
+     * {@code (c * 3 + k) * 2} of the result, which is {@code points} if that is big enough, or a new array otherwise.
+     */
+    private static float[] featurePoints2D(final int seed, final int x0, final int cols, final int yr, float[] points) {
+        if (points == null || points.length < cols * 6)
+            points = new float[cols * 6];
+        for (int c = 0, i = 0; c < cols; c++) {
+            for (int k = 0; k < 3; k++) {
+                final int cell = hash256(x0 + c, yr - 1 + k, seed) << 1;
+                points[i++] = CELL_2D[cell];
+                points[i++] = CELL_2D[cell + 1];
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Evaluates 2D cellular noise for a row of points, using feature points from
+     * {@link #featurePoints2D(int, int, int, int, float[])}, which must cover every cell within 1 of each point. The
+     * parts of each distance that only depend on y are the same for every point on the row, so they are found once per
+     * feature point before the points are visited. One search finds both the closest cell, as
+     * {@link #singleCellular(int, float, float, int)} does, and the two closest distances, as
+     * {@link #singleCellular2Edge(int, float, float, int)} does, but only the ones some return type needs. The
+     * neighborhood is searched in the same order, with the same arithmetic, as the per-point methods, so the results
+     * are identical to them.
+     */
+    private void cellularRow2D(final int seed, final float[] x, final float y, final float[][] outs, final int[] returnTypes,
+                               final int outStart, final int count, final int x0, final int yr, final float[] points,
+                               final CellValueCache lookups) {
+        final int function = cellularDistanceFunction, channels = returnTypes.length;
+        boolean nearest = false, edge = false;
+        for (int t : returnTypes) {
+            if (isEdgeReturnType(t)) edge = true;
+            else nearest = true;
+        }
+        final int cells = points.length >>> 1;
+        // the y offset to each feature point, squared and absolute, in the same order as points
+        final float[] ySquared = new float[cells], yAbs = new float[cells];
+        for (int i = 0; i < cells; i++) {
+            final float vecY = yr - 1 + i % 3 - y + points[i * 2 + 1];
+            ySquared[i] = vecY * vecY;
+            yAbs[i] = Math.abs(vecY);
+        }
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            final int xr = fastRound(px), base = (xr - 1 - x0) * 3;
+            float distance = 999999, edge1 = 999999, edge2 = 999999;
+            int winner = -1;
+            for (int a = 0, k = 0; a < 3; a++) {
+                for (int b = 0; b < 3; b++, k++) {
+                    final int i = base + k;
+                    final float vecX = xr - 1 + a - px + points[i * 2];
+                    final float newDistance;
+                    switch (function) {
+                        case MANHATTAN:
+                            newDistance = Math.abs(vecX) + yAbs[i];
+                            break;
+                        case NATURAL:
+                            newDistance = (Math.abs(vecX) + yAbs[i]) + (vecX * vecX + ySquared[i]);
+                            break;
+                        default:
+                            newDistance = vecX * vecX + ySquared[i];
+                    }
+                    if (nearest && newDistance < distance) {
+                        distance = newDistance;
+                        winner = k;
+                    }
+                    // distances are never -0f, so this matches the Math.min() and Math.max() calls in
+                    // singleCellular2Edge(), including keeping the first NaN once one shows up
+                    if (edge && edge1 == edge1) {
+                        if (newDistance < edge2) {
+                            if (newDistance < edge1) {
+                                edge2 = edge1;
+                                edge1 = newDistance;
+                            } else {
+                                edge2 = newDistance;
+                            }
+                        } else if (newDistance != newDistance) {
+                            edge1 = edge2 = newDistance;
+                        }
+                    }
+                }
+            }
+            // if no distance was smaller than the starting one, which only happens with NaN or huge inputs, the
+            // per-point method falls back to the cell at 0,0
+            final int xc = winner < 0 ? 0 : xr - 1 + winner / 3, yc = winner < 0 ? 0 : yr - 1 + winner % 3;
+            for (int c = 0; c < channels; c++) {
+                final float[] out = outs[c];
+                switch (returnTypes[c]) {
+                    case CELL_VALUE:
+                        out[outStart + p] = valCoord2D(0, xc, yc);
+                        break;
+                    case NOISE_LOOKUP: {
+                        final int slot = lookups.slot(xc, yc, 0);
+                        final float value;
+                        if (lookups.has(slot))
+                            value = lookups.get(slot);
+                        else if (winner < 0) {
+                            final int cell = hash256(xc, yc, seed) << 1;
+                            lookups.put(slot, xc, yc, 0, value = layered2D(xc + CELL_2D[cell], yc + CELL_2D[cell + 1], 123, 3));
+                        } else {
+                            final int i = (base + winner) * 2;
+                            lookups.put(slot, xc, yc, 0, value = layered2D(xc + points[i], yc + points[i + 1], 123, 3));
+                        }
+                        out[outStart + p] = value;
+                        break;
+                    }
+                    case DISTANCE:
+                        out[outStart + p] = distance - 1;
+                        break;
+                    case DISTANCE_2:
+                        out[outStart + p] = edge2 - 1;
+                        break;
+                    case DISTANCE_2_ADD:
+                        out[outStart + p] = edge2 + edge1 - 1;
+                        break;
+                    case DISTANCE_2_SUB:
+                        out[outStart + p] = edge2 - edge1 - 1;
+                        break;
+                    case DISTANCE_2_MUL:
+                        out[outStart + p] = edge2 * edge1 - 1;
+                        break;
+                    case DISTANCE_2_DIV:
+                        out[outStart + p] = edge1 / edge2 - 1;
+                        break;
+                    default:
+                        out[outStart + p] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders a whole grid of 2D cellular noise, one row at a time, with the same results as calling
+     * {@link #rowCellular(int, float[], float, float[][], int[], int, int)} for each row. The feature points only
+     * depend on which row of lattice cells a row of pixels falls in, so they are hashed again only when that changes,
+     * rather than for every row; every row still gets its own y distance terms. {@link #NOISE_LOOKUP} values are
+     * remembered for the whole grid.
+     * @param seed the int seed to use
+     * @param xs the x position of each column, already multiplied by frequency
+     * @param startY the y position of the first row, before frequency is applied
+     * @param stepY how much y changes between rows, before frequency is applied
+     * @param width how many columns are in a row
+     * @param height how many rows to fill
+     * @param outs the row-major float arrays to fill, one per item in {@code returnTypes}
+     * @param returnTypes the cellular return type to use for each of {@code outs}
+     */
+    private void cellularRows2D(final int seed, final float[] xs, final float startY, final float stepY,
+                                final int width, final int height, final float[][] outs, final int[] returnTypes) {
+        if (width <= 0) return;
+        final int[] range = roundRange(xs, width);
+        if ((long) range[1] - range[0] + 3L > width * 3L) {
+            for (int j = 0; j < height; j++) {
+                cellularPoints2D(seed, xs, (startY + j * stepY) * frequency, outs, returnTypes, j * width, width);
+            }
+            return;
+        }
+        final int x0 = range[0] - 1, cols = range[1] - range[0] + 3;
+        final CellValueCache lookups = lookupsFor(returnTypes);
+        float[] points = null;
+        int lastYr = 0;
+        for (int j = 0; j < height; j++) {
+            final float y = (startY + j * stepY) * frequency;
+            final int yr = fastRound(y);
+            if (points == null || yr != lastYr) {
+                points = featurePoints2D(seed, x0, cols, yr, points);
+                lastYr = yr;
+            }
+            cellularRow2D(seed, xs, y, outs, returnTypes, j * width, width, x0, yr, points, lookups);
+        }
+    }
+
+    /**
+     * Evaluates 3D cellular noise, using the current {@link #getCellularReturnType() cellular return type} and
+     * {@link #getCellularDistanceFunction() distance function}, along one row of points that share the same y and z.
+     * This reads x positions from {@code x} starting at index 0 and writes results into {@code out} starting at index
+     * {@code outStart}, and gives the same results as {@link #getCellular(float, float, float)} would for those
+     * positions without frequency applied again.
+     * <br>
+     * Every point on the row searches the same 9 rows of lattice cells, so the jittered feature point of each cell
+     * the row can reach is hashed once into a table, instead of 27 times per point. If the points are so spread out
+     * that the table would need more hashing than it saves, this evaluates each point on its own instead. With
+     * {@link #NOISE_LOOKUP}, each cell's value is only computed once per call, however many points land in it.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCellular(final int seed, final float[] x, final float y, final float z, final float[] out, final int outStart, final int count) {
+        final int[] returnTypes = {cellularReturnType};
+        rowCellular(seed, x, y, z, new float[][]{out}, returnTypes, outStart, count, lookupsFor(returnTypes));
+    }
+
+    /**
+     * Evaluates several kinds of 3D cellular noise at once along one row of points that share the same y and z, using
+     * the current {@link #getCellularDistanceFunction() distance function}. For each index {@code c} in
+     * {@code returnTypes}, this writes into {@code outs[c]} what
+     * {@link #rowCellular(int, float[], float, float, float[], int, int)} would write with
+     * {@link #setCellularReturnType(int)} set to {@code returnTypes[c]}, but the neighborhood of each point is only
+     * searched once for all of them.
+     * @param seed the int seed to use
+     * @param x x positions, already multiplied by any frequency; must have at least {@code count} items
+     * @param y the y position shared by every point, already multiplied by any frequency
+     * @param z the z position shared by every point, already multiplied by any frequency
+     * @param outs one float array per item in {@code returnTypes}, each getting noise from -1f to 1f
+     * @param returnTypes cellular return types, such as {@link #CELL_VALUE} or {@link #DISTANCE_2_SUB}
+     * @param outStart the first index in each of {@code outs} to write to
+     * @param count how many points to evaluate
+     */
+    public void rowCellular(final int seed, final float[] x, final float y, final float z, final float[][] outs,
+                            final int[] returnTypes, final int outStart, final int count) {
+        rowCellular(seed, x, y, z, outs, returnTypes, outStart, count, lookupsFor(returnTypes));
+    }
+
+    /**
+     * Does the work for {@link #rowCellular(int, float[], float, float, float[][], int[], int, int)}; {@code lookups}
+     * remembers {@link #NOISE_LOOKUP} values by cell, and can be shared between rows. It may be null if none of the
+     * return types are NOISE_LOOKUP.
+     */
+    private void rowCellular(final int seed, final float[] x, final float y, final float z, final float[][] outs,
+                             final int[] returnTypes, final int outStart, final int count, final CellValueCache lookups) {
+        if (count <= 0) return;
+        final int channels = returnTypes.length;
+        final int[] range = roundRange(x, count);
+        if ((long) range[1] - range[0] + 3L > count * 3L
+                || cellularDistanceFunction < EUCLIDEAN || cellularDistanceFunction > NATURAL) {
+            for (int c = 0; c < channels; c++) {
+                final int returnType = returnTypes[c];
+                final float[] out = outs[c];
+                final boolean edge = isEdgeReturnType(returnType);
+                for (int p = 0; p < count; p++) {
+                    out[outStart + p] = edge ? singleCellular2Edge(seed, x[p], y, z, returnType) : singleCellular(seed, x[p], y, z, returnType);
+                }
+            }
+            return;
+        }
+        boolean nearest = false, edge = false;
+        for (int t : returnTypes) {
+            if (isEdgeReturnType(t)) edge = true;
+            else nearest = true;
+        }
+        final int x0 = range[0] - 1, cols = range[1] - range[0] + 3, yr = fastRound(y), zr = fastRound(z);
+        // the feature point offset for the cell at column c, row yr - 1 + j, and layer zr - 1 + k is at index
+        // (c * 9 + j * 3 + k) * 3
+        final float[] points = new float[cols * 27];
+        for (int c = 0, i = 0; c < cols; c++) {
+            for (int j = 0; j < 3; j++) {
+                for (int k = 0; k < 3; k++) {
+                    final int cell = hash256(x0 + c, yr - 1 + j, zr - 1 + k, seed) << 2;
+                    points[i++] = CELL_3D[cell];
+                    points[i++] = CELL_3D[cell + 1];
+                    points[i++] = CELL_3D[cell + 2];
+                }
+            }
+        }
+        for (int p = 0; p < count; p++) {
+            final float px = x[p];
+            final int xr = fastRound(px), base = (xr - 1 - x0) * 27;
+            float distance = 999999, edge1 = 999999, edge2 = 999999;
+            int winner = -1;
+            // same order as the per-point methods, so ties resolve the same way
+            for (int a = 0, n = 0; a < 3; a++) {
+                for (int b = 0; b < 3; b++) {
+                    for (int c = 0; c < 3; c++, n++) {
+                        final int i = base + n * 3;
+                        final float newDistance = cellDistance(xr - 1 + a - px + points[i], yr - 1 + b - y + points[i + 1], zr - 1 + c - z + points[i + 2]);
+                        if (nearest && newDistance < distance) {
+                            distance = newDistance;
+                            winner = n;
+                        }
+                        // the same as the Math.min() and Math.max() calls in singleCellular2Edge(), as in 2D
+                        if (edge && edge1 == edge1) {
+                            if (newDistance < edge2) {
+                                if (newDistance < edge1) {
+                                    edge2 = edge1;
+                                    edge1 = newDistance;
+                                } else {
+                                    edge2 = newDistance;
+                                }
+                            } else if (newDistance != newDistance) {
+                                edge1 = edge2 = newDistance;
+                            }
+                        }
+                    }
+                }
+            }
+            // the per-point method's fallback cell is 0,0,0, as in 2D
+            final int xc = winner < 0 ? 0 : xr - 1 + winner / 9, yc = winner < 0 ? 0 : yr - 1 + winner / 3 % 3,
+                    zc = winner < 0 ? 0 : zr - 1 + winner % 3;
+            for (int c = 0; c < channels; c++) {
+                final float[] out = outs[c];
+                switch (returnTypes[c]) {
+                    case CELL_VALUE:
+                        out[outStart + p] = valCoord3D(0, xc, yc, zc);
+                        break;
+                    case NOISE_LOOKUP: {
+                        final int slot = lookups.slot(xc, yc, zc);
+                        final float value;
+                        if (lookups.has(slot))
+                            value = lookups.get(slot);
+                        else if (winner < 0) {
+                            final int cell = hash256(xc, yc, zc, seed) << 2;
+                            lookups.put(slot, xc, yc, zc, value = layered3D(xc + CELL_3D[cell], yc + CELL_3D[cell + 1], zc + CELL_3D[cell + 2], 123, 3));
+                        } else {
+                            final int i = base + winner * 3;
+                            lookups.put(slot, xc, yc, zc, value = layered3D(xc + points[i], yc + points[i + 1], zc + points[i + 2], 123, 3));
+                        }
+                        out[outStart + p] = value;
+                        break;
+                    }
+                    case DISTANCE:
+                        out[outStart + p] = distance - 1;
+                        break;
+                    case DISTANCE_2:
+                        out[outStart + p] = edge2 - 1;
+                        break;
+                    case DISTANCE_2_ADD:
+                        out[outStart + p] = edge2 + edge1 - 1;
+                        break;
+                    case DISTANCE_2_SUB:
+                        out[outStart + p] = edge2 - edge1 - 1;
+                        break;
+                    case DISTANCE_2_MUL:
+                        out[outStart + p] = edge2 * edge1 - 1;
+                        break;
+                    case DISTANCE_2_DIV:
+                        out[outStart + p] = edge1 / edge2 - 1;
+                        break;
+                    default:
+                        out[outStart + p] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills a rectangular region of 2D cellular noise into several arrays at once, one per cellular return type,
+     * using this Noise's seed, frequency, and {@link #getCellularDistanceFunction() distance function}, whatever the
+     * current noise type is. Each {@code outs[c]} gets what {@link #fillConfiguredNoise(float[], float, float, float, float, int, int)}
+     * would produce with the noise type set to {@link #CELLULAR} and the cellular return type set to
+     * {@code returnTypes[c]}, but the neighborhood of each point is only searched once. For example, passing
+     * {@code new int[]{CELL_VALUE, DISTANCE, DISTANCE_2}} gets cell values, distances to the closest feature point,
+     * and distances to the second-closest feature point for the cost of about one render.
+     * <br>
+     * If {@code outs} is null or has fewer than {@code returnTypes.length} items, a new array of arrays is returned
+     * instead; any item that is null or is too small to hold {@code width * height} items is replaced with a new array.
+     * @param outs float arrays that will each be filled row-major with noise from -1f to 1f; may be null
+     * @param returnTypes cellular return types, such as {@link #CELL_VALUE} or {@link #DISTANCE_2_SUB}
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code outs}, after modifications, or a newly-allocated array if {@code outs} couldn't be used
+     */
+    public float[][] fillCellular(float[][] outs, int[] returnTypes, float startX, float startY, float stepX, float stepY,
+                                  int width, int height) {
+        outs = channelBuffers(outs, returnTypes.length, width * height);
+        final float[] xs = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        cellularRows2D(seed, xs, startY, stepY, width, height, outs, returnTypes);
+        return outs;
+    }
+
+    /**
+     * Fills a rectangular region of 3D cellular noise into several arrays at once, one per cellular return type,
+     * using this Noise's seed, frequency, and {@link #getCellularDistanceFunction() distance function}, whatever the
+     * current noise type is. The z coordinate stays fixed for the whole region. Each {@code outs[c]} gets what
+     * {@link #fillConfiguredNoise(float[], float, float, float, float, float, int, int)} would produce with the noise
+     * type set to {@link #CELLULAR} and the cellular return type set to {@code returnTypes[c]}, but the neighborhood
+     * of each point is only searched once.
+     * <br>
+     * If {@code outs} is null or has fewer than {@code returnTypes.length} items, a new array of arrays is returned
+     * instead; any item that is null or is too small to hold {@code width * height} items is replaced with a new array.
+     * @param outs float arrays that will each be filled row-major with noise from -1f to 1f; may be null
+     * @param returnTypes cellular return types, such as {@link #CELL_VALUE} or {@link #DISTANCE_2_SUB}
+     * @param startX the x position of the first column, before {@link #getFrequency()} is applied
+     * @param startY the y position of the first row, before {@link #getFrequency()} is applied
+     * @param z the z position used for every point, before {@link #getFrequency()} is applied
+     * @param stepX how much x changes between adjacent columns, before {@link #getFrequency()} is applied
+     * @param stepY how much y changes between adjacent rows, before {@link #getFrequency()} is applied
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @return {@code outs}, after modifications, or a newly-allocated array if {@code outs} couldn't be used
+     */
+    public float[][] fillCellular(float[][] outs, int[] returnTypes, float startX, float startY, float z, float stepX, float stepY,
+                                  int width, int height) {
+        outs = channelBuffers(outs, returnTypes.length, width * height);
+        final int seed = this.seed;
+        final float[] xs = new float[width];
+        for (int i = 0; i < width; i++) {
+            xs[i] = (startX + i * stepX) * frequency;
+        }
+        z *= frequency;
+        final CellValueCache lookups = lookupsFor(returnTypes);
+        for (int j = 0; j < height; j++) {
+            rowCellular(seed, xs, (startY + j * stepY) * frequency, z, outs, returnTypes, j * width, width, lookups);
+        }
+        return outs;
+    }
+
+    // Compiled Kernels
+
+    /**
+     * A snapshot of a Noise configuration that can sample 2D noise without checking any settings; get one with
+     * {@link #compile2D()}. Implementations are immutable, so one can be shared freely between threads.
+     */
+    public interface Kernel2D {
+        /**
+         * Gets noise at the given position, matching {@link #getConfiguredNoise(float, float)} on the Noise this was
+         * compiled from, as it was configured when compiled.
+         * @param x x position, as a float; this is multiplied by the compiled frequency
+         * @param y y position, as a float; this is multiplied by the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float sample(float x, float y);
+    }
+
+    /**
+     * A snapshot of a Noise configuration that can sample 3D noise without checking any settings; get one with
+     * {@link #compile3D()}. Implementations are immutable, so one can be shared freely between threads.
+     */
+    public interface Kernel3D {
+        /**
+         * Gets noise at the given position, matching {@link #getConfiguredNoise(float, float, float)} on the Noise
+         * this was compiled from, as it was configured when compiled.
+         * @param x x position, as a float; this is multiplied by the compiled frequency
+         * @param y y position, as a float; this is multiplied by the compiled frequency
+         * @param z z position, as a float; this is multiplied by the compiled frequency
+         * @return noise as a float from -1f to 1f
+         */
+        float sample(float x, float y, float z);
+    }
+
+    /**
+     * One octave of a non-fractal 2D noise type, given the seed for that octave.
+     */
+    private interface Octave2D {
+        float get(int seed, float x, float y);
+    }
+
+    /**
+     * One octave of a non-fractal 3D noise type, given the seed for that octave.
+     */
+    private interface Octave3D {
+        float get(int seed, float x, float y, float z);
+    }
+
+    /**
+     * Holds everything a fractal kernel needs that doesn't change between samples: the seed, amplitude, and (for
+     * ridged-multi) spike weight of each octave, plus the bounding and correction factors that scale the sum.
+     */
+    private static abstract class FractalKernel {
+        protected final int octaves;
+        protected final float frequency, lacunarity, bounding, correction;
+        protected final int[] seeds;
+        protected final float[] amps, exps;
+
+        FractalKernel(Noise noise) {
+            octaves = noise.octaves;
+            frequency = noise.frequency;
+            lacunarity = noise.lacunarity;
+            bounding = noise.fractalBounding;
+            final int count = Math.max(octaves, 1);
+            seeds = new int[count];
+            amps = new float[count];
+            exps = new float[count];
+            float amp = 1, exp = 2f, corr = 0f;
+            for (int i = 0; i < count; i++) {
+                seeds[i] = noise.seed + i;
+                amps[i] = amp;
+                amp *= noise.gain;
+                exp *= 0.5;
+                exps[i] = exp;
+                if (i < octaves) corr += exp;
+            }
+            correction = corr;
+        }
+    }
+
+    private static final class FBMKernel2D extends FractalKernel implements Kernel2D {
+        private final Octave2D base;
+        private final boolean swap;
+
+        FBMKernel2D(Noise noise, Octave2D base, boolean swap) {
+            super(noise);
+            this.base = base;
+            this.swap = swap;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = base.get(seeds[0], x, y), t;
+            for (int i = 1; i < octaves; i++) {
+                if (swap) {
+                    t = x;
+                    x = y * lacunarity;
+                    y = t * lacunarity;
+                } else {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                }
+                sum += base.get(seeds[i], x, y) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class BillowKernel2D extends FractalKernel implements Kernel2D {
+        private final Octave2D base;
+        private final boolean swap;
+
+        BillowKernel2D(Noise noise, Octave2D base, boolean swap) {
+            super(noise);
+            this.base = base;
+            this.swap = swap;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = Math.abs(base.get(seeds[0], x, y)) * 2 - 1, t;
+            for (int i = 1; i < octaves; i++) {
+                if (swap) {
+                    t = x;
+                    x = y * lacunarity;
+                    y = t * lacunarity;
+                } else {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                }
+                sum += (Math.abs(base.get(seeds[i], x, y)) * 2 - 1) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class RidgedKernel2D extends FractalKernel implements Kernel2D {
+        private final Octave2D base;
+        private final boolean swap;
+
+        RidgedKernel2D(Noise noise, Octave2D base, boolean swap) {
+            super(noise);
+            this.base = base;
+            this.swap = swap;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = 0f, t;
+            for (int i = 0; i < octaves; i++) {
+                sum += (1f - Math.abs(base.get(seeds[i], x, y))) * exps[i];
+                if (swap) {
+                    t = x;
+                    x = y * lacunarity;
+                    y = t * lacunarity;
+                } else {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                }
+            }
+            return sum * 2f / correction - 1f;
+        }
+    }
+
+    private static final class FBMKernel3D extends FractalKernel implements Kernel3D {
+        private final Octave3D base;
+
+        FBMKernel3D(Noise noise, Octave3D base) {
+            super(noise);
+            this.base = base;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = base.get(seeds[0], x, y, z);
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+                sum += base.get(seeds[i], x, y, z) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class BillowKernel3D extends FractalKernel implements Kernel3D {
+        private final Octave3D base;
+
+        BillowKernel3D(Noise noise, Octave3D base) {
+            super(noise);
+            this.base = base;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = Math.abs(base.get(seeds[0], x, y, z)) * 2 - 1;
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+                sum += (Math.abs(base.get(seeds[i], x, y, z)) * 2 - 1) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class RidgedKernel3D extends FractalKernel implements Kernel3D {
+        private final Octave3D base;
+
+        RidgedKernel3D(Noise noise, Octave3D base) {
+            super(noise);
+            this.base = base;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = 0f;
+            for (int i = 0; i < octaves; i++) {
+                sum += (1f - Math.abs(base.get(seeds[i], x, y, z))) * exps[i];
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+            }
+            return sum * 2f / correction - 1f;
+        }
+    }
+
+    /**
+     * Chooses the fractal kernel for the current {@link #getFractalType() fractal type}, layering {@code base}.
+     */
+    private Kernel2D fractal2D(Noise snapshot, Octave2D base, boolean swap) {
+        switch (fractalType) {
+            case BILLOW:
+                return new BillowKernel2D(snapshot, base, swap);
+            case RIDGED_MULTI:
+                return new RidgedKernel2D(snapshot, base, swap);
+            default:
+                return new FBMKernel2D(snapshot, base, swap);
+        }
+    }
+
+    /**
+     * Chooses the fractal kernel for the current {@link #getFractalType() fractal type}, layering {@code base}.
+     */
+    private Kernel3D fractal3D(Noise snapshot, Octave3D base) {
+        switch (fractalType) {
+            case BILLOW:
+                return new BillowKernel3D(snapshot, base);
+            case RIDGED_MULTI:
+                return new RidgedKernel3D(snapshot, base);
+            default:
+                return new FBMKernel3D(snapshot, base);
+        }
+    }
+
+    /**
+     * Copies this Noise for a compiled kernel to use. This is {@link #Noise(Noise)}, except the frequency is kept
+     * exactly as it is here; that constructor raises it to at least 0.0001, but {@link #setFrequency(float)} doesn't,
+     * and a kernel has to match {@link #getConfiguredNoise(float, float)} for any frequency this has.
+     */
+    private Noise snapshot() {
+        final Noise snap = new Noise(this);
+        snap.frequency = frequency;
+        return snap;
+    }
+
+    /**
+     * Takes a snapshot of the current configuration and resolves it to one {@link Kernel2D} that produces the same
+     * results as {@link #getConfiguredNoise(float, float)} does now. All the checks of noise type, fractal type, and
+     * cellular return type happen here, once; for fractal types, the seed and amplitude of each octave, plus the
+     * bounding and ridged-multi correction factors, are also computed here. Later changes to this Noise don't affect
+     * a kernel that was already compiled, and the kernel can be used by any number of threads at once.
+     * @return an immutable Kernel2D that samples noise as this Noise is currently configured
+     */
+    public Kernel2D compile2D() {
+        final Noise snap = snapshot();
+        final int seed = snap.seed;
+        final float f = snap.frequency, mutation = snap.mutation;
+        switch (noiseType) {
+            case BLUE_NOISE:
+                return (x, y) -> {
+                    return BLUE_LEVELS[BlueNoise.getSeeded(Math.round(x * f), Math.round(y * f), seed) & 255];
+                };
+            case VALUE:
+                return (x, y) -> snap.singleValue(seed, x * f, y * f);
+            case VALUE_FRACTAL:
+                return fractal2D(snap, snap::singleValue, false);
+            case FOAM:
+                return (x, y) -> snap.singleFoam(seed, x * f, y * f);
+            case FOAM_FRACTAL:
+                return fractal2D(snap, snap::singleFoam, true);
+            case MUTANT:
+                return (x, y) -> snap.singleFoam(seed, x * f, y * f, mutation);
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return (x, y) -> snap.singleFoamFractalBillow(seed, x * f, y * f, mutation);
+                    case RIDGED_MULTI:
+                        return (x, y) -> snap.singleFoamFractalRidgedMulti(seed, x * f, y * f, mutation);
+                    default:
+                        return (x, y) -> snap.singleFoamFractalFBM(seed, x * f, y * f, mutation);
+                }
+            case HONEY:
+                return (x, y) -> snap.singleHoney(seed, x * f, y * f);
+            case HONEY_FRACTAL:
+                return fractal2D(snap, snap::singleHoney, true);
+            case PERLIN:
+                return (x, y) -> snap.singlePerlin(seed, x * f, y * f);
+            case PERLIN_FRACTAL:
+                return fractal2D(snap, snap::singlePerlin, false);
+            case SIMPLEX_FRACTAL:
+                return fractal2D(snap, snap::singleSimplex, false);
+            case CELLULAR:
+                switch (cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return (x, y) -> snap.singleCellular(seed, x * f, y * f);
+                    default:
+                        return (x, y) -> snap.singleCellular2Edge(seed, x * f, y * f);
+                }
+            case WHITE_NOISE:
+                return (x, y) -> snap.singleWhiteNoise(seed, x * f, y * f);
+            case CUBIC:
+                return (x, y) -> snap.singleCubic(seed, x * f, y * f);
+            case CUBIC_FRACTAL:
+                return fractal2D(snap, snap::singleCubic, false);
+            default:
+                return (x, y) -> snap.singleSimplex(seed, x * f, y * f);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current configuration and resolves it to one {@link Kernel3D} that produces the same
+     * results as {@link #getConfiguredNoise(float, float, float)} does now. All the checks of noise type, fractal type,
+     * and cellular return type happen here, once; for fractal types, the seed and amplitude of each octave, plus the
+     * bounding and ridged-multi correction factors, are also computed here. Later changes to this Noise don't affect
+     * a kernel that was already compiled, and the kernel can be used by any number of threads at once.
+     * @return an immutable Kernel3D that samples noise as this Noise is currently configured
+     */
+    public Kernel3D compile3D() {
+        final Noise snap = snapshot();
+        final int seed = snap.seed;
+        final float f = snap.frequency, mutation = snap.mutation;
+        switch (noiseType) {
+            case VALUE:
+                return (x, y, z) -> snap.singleValue(seed, x * f, y * f, z * f);
+            case VALUE_FRACTAL:
+                return fractal3D(snap, snap::singleValue);
+            case FOAM:
+                return (x, y, z) -> snap.singleFoam(seed, x * f, y * f, z * f);
+            case FOAM_FRACTAL:
+                return fractal3D(snap, snap::singleFoam);
+            case MUTANT:
+                return (x, y, z) -> snap.singleFoam(seed, x * f, y * f, z * f, mutation);
+            case MUTANT_FRACTAL:
+                switch (fractalType) {
+                    case BILLOW:
+                        return (x, y, z) -> snap.singleFoamFractalBillow(seed, x * f, y * f, z * f, mutation);
+                    case RIDGED_MULTI:
+                        return (x, y, z) -> snap.singleFoamFractalRidgedMulti(seed, x * f, y * f, z * f, mutation);
+                    default:
+                        return (x, y, z) -> snap.singleFoamFractalFBM(seed, x * f, y * f, z * f, mutation);
+                }
+            case HONEY:
+                return (x, y, z) -> snap.singleHoney(seed, x * f, y * f, z * f);
+            case HONEY_FRACTAL:
+                return fractal3D(snap, snap::singleHoney);
+            case PERLIN:
+                return (x, y, z) -> snap.singlePerlin(seed, x * f, y * f, z * f);
+            case PERLIN_FRACTAL:
+                return fractal3D(snap, snap::singlePerlin);
+            case SIMPLEX_FRACTAL:
+                return fractal3D(snap, snap::singleSimplex);
+            case CELLULAR:
+                switch (cellularReturnType) {
+                    case CELL_VALUE:
+                    case NOISE_LOOKUP:
+                    case DISTANCE:
+                        return (x, y, z) -> snap.singleCellular(seed, x * f, y * f, z * f);
+                    default:
+                        return (x, y, z) -> snap.singleCellular2Edge(seed, x * f, y * f, z * f);
+                }
+            case WHITE_NOISE:
+                return (x, y, z) -> snap.singleWhiteNoise(seed, x * f, y * f, z * f);
+            case CUBIC:
+                return (x, y, z) -> snap.singleCubic(seed, x * f, y * f, z * f);
+            case CUBIC_FRACTAL:
+                return fractal3D(snap, snap::singleCubic);
+            default:
+                return (x, y, z) -> snap.singleSimplex(seed, x * f, y * f, z * f);
+        }
+    }
+
+    private static final class SimplexFBMKernel2D extends FractalKernel implements Kernel2D {
+        private final Noise snapshot;
+
+        SimplexFBMKernel2D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = snapshot.singleSimplex(seeds[0], x, y);
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                sum += snapshot.singleSimplex(seeds[i], x, y) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class SimplexBillowKernel2D extends FractalKernel implements Kernel2D {
+        private final Noise snapshot;
+
+        SimplexBillowKernel2D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = Math.abs(snapshot.singleSimplex(seeds[0], x, y)) * 2 - 1;
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                sum += (Math.abs(snapshot.singleSimplex(seeds[i], x, y)) * 2 - 1) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class SimplexRidgedKernel2D extends FractalKernel implements Kernel2D {
+        private final Noise snapshot;
+
+        SimplexRidgedKernel2D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y) {
+            x *= frequency;
+            y *= frequency;
+            float sum = 0f;
+            for (int i = 0; i < octaves; i++) {
+                sum += (1f - Math.abs(snapshot.singleSimplex(seeds[i], x, y))) * exps[i];
+                x *= lacunarity;
+                y *= lacunarity;
+            }
+            return sum * 2f / correction - 1f;
+        }
+    }
+
+    private static final class SimplexFBMKernel3D extends FractalKernel implements Kernel3D {
+        private final Noise snapshot;
+
+        SimplexFBMKernel3D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = snapshot.singleSimplex(seeds[0], x, y, z);
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+                sum += snapshot.singleSimplex(seeds[i], x, y, z) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class SimplexBillowKernel3D extends FractalKernel implements Kernel3D {
+        private final Noise snapshot;
+
+        SimplexBillowKernel3D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = Math.abs(snapshot.singleSimplex(seeds[0], x, y, z)) * 2 - 1;
+            for (int i = 1; i < octaves; i++) {
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+                sum += (Math.abs(snapshot.singleSimplex(seeds[i], x, y, z)) * 2 - 1) * amps[i];
+            }
+            return sum * bounding;
+        }
+    }
+
+    private static final class SimplexRidgedKernel3D extends FractalKernel implements Kernel3D {
+        private final Noise snapshot;
+
+        SimplexRidgedKernel3D(Noise snapshot) {
+            super(snapshot);
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public float sample(float x, float y, float z) {
+            x *= frequency;
+            y *= frequency;
+            z *= frequency;
+            float sum = 0f;
+            for (int i = 0; i < octaves; i++) {
+                sum += (1f - Math.abs(snapshot.singleSimplex(seeds[i], x, y, z))) * exps[i];
+                x *= lacunarity;
+                y *= lacunarity;
+                z *= lacunarity;
+            }
+            return sum * 2f / correction - 1f;
+        }
+    }
+
+    /**
+     * Like {@link #compile2D()}, but when {@code specialize} is true, some common configurations get a kernel class
+     * written just for them instead of the general fractal kernels. Currently this applies to
+     * {@link #SIMPLEX_FRACTAL}; its specialized kernels call simplex noise directly, rather than through a shared
+     * interface call that becomes megamorphic once several kernel types are in use, so the JIT can inline the whole
+     * octave loop. Results are identical either way; other configurations use {@link #compile2D()}.
+     * @param specialize if true, use a specialized kernel class when one exists for this configuration
+     * @return an immutable Kernel2D that samples noise as this Noise is currently configured
+     */
+    public Kernel2D compile2D(boolean specialize) {
+        if (!specialize || noiseType != SIMPLEX_FRACTAL)
+            return compile2D();
+        final Noise snap = snapshot();
+        switch (fractalType) {
+            case BILLOW:
+                return new SimplexBillowKernel2D(snap);
+            case RIDGED_MULTI:
+                return new SimplexRidgedKernel2D(snap);
+            default:
+                return new SimplexFBMKernel2D(snap);
+        }
+    }
+
+    /**
+     * Like {@link #compile3D()}, but when {@code specialize} is true, some common configurations get a kernel class
+     * written just for them instead of the general fractal kernels. Currently this applies to
+     * {@link #SIMPLEX_FRACTAL}; its specialized kernels call simplex noise directly, rather than through a shared
+     * interface call that becomes megamorphic once several kernel types are in use, so the JIT can inline the whole
+     * octave loop. Results are identical either way; other configurations use {@link #compile3D()}.
+     * @param specialize if true, use a specialized kernel class when one exists for this configuration
+     * @return an immutable Kernel3D that samples noise as this Noise is currently configured
+     */
+    public Kernel3D compile3D(boolean specialize) {
+        if (!specialize || noiseType != SIMPLEX_FRACTAL)
+            return compile3D();
+        final Noise snap = snapshot();
+        switch (fractalType) {
+            case BILLOW:
+                return new SimplexBillowKernel3D(snap);
+            case RIDGED_MULTI:
+                return new SimplexRidgedKernel3D(snap);
+            default:
+                return new SimplexFBMKernel3D(snap);
+        }
+    }
+
+    // Blue Noise
+
+    /**
+     * The float result of {@link #BLUE_NOISE} for each possible unsigned byte from {@link BlueNoise#getSeeded(int, int, int)},
+     * so each point only needs a table lookup after getting its byte, instead of spreading the byte into 24 bits and
+     * dividing.
+     */
+    private static final float[] BLUE_LEVELS = new float[256];
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            BLUE_LEVELS[b] = (b << 16 | b << 8 | b) / 0xFFFFFFp-1f - 1f;
+        }
+    }
+
+    /**
+     * Fills one row of {@link #BLUE_NOISE}, where every point has the same rounded y, {@code iy}, and each column's
+     * rounded x is already in {@code ix}. The results are identical to what {@link #getConfiguredNoise(float, float)}
+     * gives for blue noise.
+     * @param seed the int seed to use
+     * @param ix the rounded x position of each column, after frequency is applied
+     * @param iy the rounded y position shared by the row, after frequency is applied
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to fill
+     */
+    private static void rowBlueNoise(final int seed, final int[] ix, final int iy, final float[] out, final int outStart, final int count) {
+        for (int i = 0; i < count; i++) {
+            out[outStart + i] = BLUE_LEVELS[BlueNoise.getSeeded(ix[i], iy, seed) & 255];
+        }
+    }
+
+    // White Noise
+
+    /**
+     * Gets the bit representation of a float with {@link NumberUtils#floatToIntBits(float)} and
+     * mixes its typically-more-varied high bits with its low bits, returning an int.     * @param f can be any float except for NaN, though this will technically work on NaN
+     * @return a slightly-mixed version of the bits that make up {@code f}, as an int
+     */
+    public int floatToIntMixed(final float f) {
+        final int i = NumberUtils.floatToRawIntBits(f);
+        return i ^ i >>> 16;
+    }
+
+    /**
+     * Fills one row of white noise, where every point shares all of its coordinates except x. {@link #hashAll(int, int, int)}
+     * and its higher-dimensional versions XOR each coordinate times a constant into the seed before mixing, so the
+     * part of that from every coordinate but x can be found once per row and passed as {@code rowKey}, and the part
+     * from x can be found once per column and passed in {@code xKeys}. What's left for each point is the same hash
+     * finalizer, with no calls or branches, and the results are identical to
+     * {@link #singleWhiteNoise(int, float, float)} and its higher-dimensional versions.
+     * @param rowKey the seed, XORed with each coordinate other than x after mixing it with {@link #floatToIntMixed(float)} and multiplying by its hash constant
+     * @param xKeys each column's x after mixing it with {@link #floatToIntMixed(float)} and multiplying by its hash constant
+     * @param out where to write noise from -1f to 1f
+     * @param outStart the first index in {@code out} to write to
+     * @param count how many points to fill
+     */
+    private static void rowWhiteNoise(final int rowKey, final int[] xKeys, final float[] out, final int outStart, final int count) {
+        for (int i = 0; i < count; i++) {
+            int s = rowKey ^ xKeys[i];
+            s = (s = (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493) ^ s >>> 11;
+            out[outStart + i] = (s >> 7) * 0x1.0p-24f;
+        }
+    }
+
+    public float getWhiteNoise(float x, float y) {
+        return singleWhiteNoise(seed, x, y);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y) {
+        int xi = floatToIntMixed(x);
+        int yi = floatToIntMixed(y);
+
+        return valCoord2D(seed, xi, yi);
+    }
+
+    public float getWhiteNoise(float x, float y, float z) {
+        return singleWhiteNoise(seed, x, y, z);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z) {
+        int xi = floatToIntMixed(x);
+        int yi = floatToIntMixed(y);
+        int zi = floatToIntMixed(z);
+
+        return valCoord3D(seed, xi, yi, zi);
+    }
+
+    public float getWhiteNoise(float x, float y, float z, float w) {
+        return singleWhiteNoise(seed, x, y, z, w);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w) {
+        int xi = floatToIntMixed(x);
+        int yi = floatToIntMixed(y);
+        int zi = floatToIntMixed(z);
+        int wi = floatToIntMixed(w);
+
+        return valCoord4D(seed, xi, yi, zi, wi);
+    }
+
+    public float getWhiteNoise(float x, float y, float z, float w, float u) {
+        return singleWhiteNoise(seed, x, y, z, w, u);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w, float u) {
+        int xi = floatToIntMixed(x);
+        int yi = floatToIntMixed(y);
+        int zi = floatToIntMixed(z);
+        int wi = floatToIntMixed(w);
+        int ui = floatToIntMixed(u);
+
+        return valCoord5D(seed, xi, yi, zi, wi, ui);
+    }
+
+    public float getWhiteNoise(float x, float y, float z, float w, float u, float v) {
+        return singleWhiteNoise(seed, x, y, z, w, u, v);
+    }
+
+    public float singleWhiteNoise(int seed, float x, float y, float z, float w, float u, float v) {
+        int xi = floatToIntMixed(x);
+        int yi = floatToIntMixed(y);
+        int zi = floatToIntMixed(z);
+        int wi = floatToIntMixed(w);
+        int ui = floatToIntMixed(u);
+        int vi = floatToIntMixed(v);
+
+        return valCoord6D(seed, xi, yi, zi, wi, ui, vi);
+    }
+
+    // Value Noise
+    //x should be premultiplied by 0xD1B55
+    //y should be premultiplied by 0xABC99
+    private static int hashPart1024(final int x, final int y, int s) {
+        s += x ^ y;
+        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
+    }
+    //x should be premultiplied by 0xDB4F1
+    //y should be premultiplied by 0xBBE05
+    //z should be premultiplied by 0xA0F2F
+    private static int hashPart1024(final int x, final int y, final int z, int s) {
+        s += x ^ y ^ z;
+        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
+    }
+    //x should be premultiplied by 0xE19B1
+    //y should be premultiplied by 0xC6D1D
+    //z should be premultiplied by 0xAF36D
+    //w should be premultiplied by 0x9A695
+    private static int hashPart1024(final int x, final int y, final int z, final int w, int s) {
+        s += x ^ y ^ z ^ w;
+        return (s ^ (s << 19 | s >>> 13) ^ (s << 5 | s >>> 27) ^ 0xD1B54A35) * 0x125493 >> 22;
     }
 
     //x should be premultiplied by 0xE60E3
@@ -1586,18 +6217,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleValueFractalFBM(x, y);
+                return singleValueFractalFBM(seed, x, y);
             case BILLOW:
-                return singleValueFractalBillow(x, y);
+                return singleValueFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y);
+                return singleValueFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleValueFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y) {
         float sum = singleValue(seed, x, y);
         float amp = 1;
 
@@ -1612,8 +6242,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleValue(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -1627,8 +6256,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y));
@@ -1694,16 +6322,15 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z);
+                return singleValueFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z);
+                return singleValueFractalRidgedMulti(seed, x, y, z);
             default:
-                return singleValueFractalFBM(x, y, z);
+                return singleValueFractalFBM(seed, x, y, z);
         }
     }
 
-    private float singleValueFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z) {
         float sum = singleValue(seed, x, y, z);
         float amp = 1;
 
@@ -1719,8 +6346,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleValue(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -1736,8 +6362,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z));
@@ -1824,16 +6449,15 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w);
+                return singleValueFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w);
             default:
-                return singleValueFractalFBM(x, y, z, w);
+                return singleValueFractalFBM(seed, x, y, z, w);
         }
     }
 
-    private float singleValueFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleValue(seed, x, y, z, w);
         float amp = 1;
 
@@ -1850,8 +6474,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleValue(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -1868,8 +6491,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w));
@@ -1976,15 +6598,14 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w, u);
+                return singleValueFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w, u);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w, u);
             default:
-                return singleValueFractalFBM(x, y, z, w, u);
+                return singleValueFractalFBM(seed, x, y, z, w, u);
         }
     }
-    private float singleValueFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleValue(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -2002,8 +6623,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleValue(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -2021,8 +6641,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w, u));
@@ -2176,15 +6795,14 @@ public class Noise {
 
         switch (fractalType) {
             case BILLOW:
-                return singleValueFractalBillow(x, y, z, w, u, v);
+                return singleValueFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleValueFractalRidgedMulti(x, y, z, w, u, v);
+                return singleValueFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
-                return singleValueFractalFBM(x, y, z, w, u, v);
+                return singleValueFractalFBM(seed, x, y, z, w, u, v);
         }
     }
-    private float singleValueFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleValue(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -2203,8 +6821,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleValue(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -2223,8 +6840,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleValueFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleValueFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleValue(seed + i, x, y, z, w, u, v));
@@ -2650,18 +7266,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y);
+                return singleFoamFractalFBM(seed, x, y);
             case BILLOW:
-                return singleFoamFractalBillow(x, y);
+                return singleFoamFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y);
+                return singleFoamFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y) {
         float sum = singleFoam(seed, x, y);
         float amp = 1, t;
 
@@ -2677,8 +7292,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleFoam(seed, x, y)) * 2 - 1;
         float amp = 1, t;
 
@@ -2694,8 +7308,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y) {
         float t;
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
@@ -2717,18 +7330,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z);
+                return singleFoamFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z);
+                return singleFoamFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z);
+                return singleFoamFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z) {
         float sum = singleFoam(seed, x, y, z);
         float amp = 1;
 
@@ -2744,8 +7356,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleFoam(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -2761,8 +7372,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z));
@@ -2817,8 +7427,7 @@ public class Noise {
     }
 
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleFoam(seed, x, y, z, w);
         float amp = 1;
 
@@ -2835,8 +7444,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -2853,8 +7461,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y,  z, w));
@@ -2928,18 +7535,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z, w, u);
+                return singleFoamFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z, w, u);
+                return singleFoamFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z, w, u);
+                return singleFoamFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleFoam(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -2957,8 +7563,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -2976,8 +7581,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u));
@@ -3069,18 +7673,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleFoamFractalFBM(x, y, z, w, u, v);
+                return singleFoamFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleFoamFractalBillow(x, y, z, w, u, v);
+                return singleFoamFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleFoamFractalRidgedMulti(x, y, z, w, u, v);
+                return singleFoamFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleFoam(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -3099,8 +7702,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -3119,8 +7721,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u, v));
@@ -3217,8 +7818,7 @@ public class Noise {
     }
 
 
-    private float singleFoamFractalFBM(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalFBM(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = singleFoam(seed, x, y, z, w, u, v, m);
         float amp = 1;
 
@@ -3238,8 +7838,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalBillow(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalBillow(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = Math.abs(singleFoam(seed, x, y, z, w, u, v, m)) * 2 - 1;
         float amp = 1;
 
@@ -3259,8 +7858,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleFoamFractalRidgedMulti(float x, float y, float z, float w, float u, float v, float m) {
-        int seed = this.seed;
+    private float singleFoamFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v, float m) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleFoam(seed + i, x, y, z, w, u, v, m));
@@ -3373,18 +7971,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singlePerlinFractalFBM(x, y);
+                return singlePerlinFractalFBM(seed, x, y);
             case BILLOW:
-                return singlePerlinFractalBillow(x, y);
+                return singlePerlinFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singlePerlinFractalRidgedMulti(x, y);
+                return singlePerlinFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singlePerlinFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y) {
         float sum = singlePerlin(seed, x, y);
         float amp = 1;
 
@@ -3399,8 +7996,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singlePerlin(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -3415,8 +8011,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y));
@@ -3473,18 +8068,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singlePerlinFractalFBM(x, y, z);
+                return singlePerlinFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singlePerlinFractalBillow(x, y, z);
+                return singlePerlinFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singlePerlinFractalRidgedMulti(x, y, z);
+                return singlePerlinFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singlePerlinFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z) {
         float sum = singlePerlin(seed, x, y, z);
         float amp = 1;
 
@@ -3500,8 +8094,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singlePerlin(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -3517,8 +8110,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z));
@@ -3644,8 +8236,7 @@ public class Noise {
         final float zf1 = lerp(yf01, yf11, zs);
         return lerp(zf0, zf1, ws) * 0.55f;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singlePerlin(seed, x, y, z, w);
         float amp = 1;
 
@@ -3662,8 +8253,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -3680,8 +8270,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y,  z, w));
@@ -3784,8 +8373,7 @@ public class Noise {
 
         return lerp(wf0, wf1, us) * 0.7777777f;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singlePerlin(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -3803,8 +8391,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -3822,8 +8409,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z, w, u));
@@ -3984,8 +8570,7 @@ public class Noise {
 
         return lerp(uf0, uf1, vs) * 1.61f;
     }
-    private float singlePerlinFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singlePerlin(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -4004,8 +8589,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singlePerlin(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -4024,8 +8608,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singlePerlinFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singlePerlinFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singlePerlin(seed + i, x, y, z, w, u, v));
@@ -4048,11 +8631,11 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y);
+                return singleSimplexFractalFBM(seed, x, y);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y);
+                return singleSimplexFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y);
+                return singleSimplexFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
@@ -4188,8 +8771,7 @@ public class Noise {
         return sum / ampFractal;
     }
 
-    private float singleSimplexFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y) {
         float sum = singleSimplex(seed, x, y);
         float amp = 1;
 
@@ -4204,8 +8786,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleSimplexFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleSimplex(seed, x, y)) * 2 - 1;
         float amp = 1;
 
@@ -4273,8 +8854,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y));
@@ -4350,11 +8930,11 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z);
+                return singleSimplexFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z);
+                return singleSimplexFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
@@ -4507,8 +9087,7 @@ public class Noise {
         return sum / ampFractal;
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z) {
         float sum = singleSimplex(seed, x, y, z);
         float amp = 1;
 
@@ -4524,8 +9103,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleSimplex(seed, x, y, z)) * 2 - 1;
         float amp = 1;
 
@@ -4599,8 +9177,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z));
@@ -4720,6 +9297,623 @@ public class Noise {
         return 31.5f * n;
     }
 
+    // Analytic Gradients
+
+    /**
+     * Gets the derivative of the current {@link #getInterpolation() interpolation} at {@code t}, which should be
+     * between 0 and 1; LINEAR interpolation always has a derivative of 1.
+     */
+    private float interpolationSlope(final float t) {
+        switch (interpolation) {
+            case HERMITE:
+                return 6f * t * (1f - t);
+            case QUINTIC:
+                return 30f * t * t * (t * (t - 2f) + 1f);
+            default:
+                return 1f;
+        }
+    }
+
+    /**
+     * Applies the current {@link #getInterpolation() interpolation} to {@code t}, the same way
+     * {@link #singlePerlin(int, float, float)} does.
+     */
+    private float interpolated(final float t) {
+        switch (interpolation) {
+            case HERMITE:
+                return hermiteInterpolator(t);
+            case QUINTIC:
+                return quinticInterpolator(t);
+            default:
+                return t;
+        }
+    }
+
+    /**
+     * Gets 2D simplex noise, the same as {@link #singleSimplex(int, float, float)} returns, and also writes its exact
+     * gradient into {@code gradient}, with the partial derivative for x in {@code gradient[0]} and for y in
+     * {@code gradient[1]}. The gradient is with respect to the x and y given here, so if those were multiplied by a
+     * frequency, multiply the gradient by that frequency too. This costs only a little more than getting the noise
+     * alone, where finding the gradient with finite differences would need at least 3 calls. Each corner contributes
+     * {@code t^4 * (g . d)}, where {@code g} is its gradient vector, {@code d} is the offset from it, and {@code t}
+     * is its falloff, so its part of the gradient is {@code t^4 * g - 8 * t^3 * (g . d) * d}.
+     * @param seed the int seed to use
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param gradient a float array with at least 2 items, which will be overwritten with the gradient
+     * @return noise from -1f to 1f, identical to {@link #singleSimplex(int, float, float)}
+     */
+    public float singleSimplexGradient(int seed, float x, float y, float[] gradient) {
+        float t = (x + y) * F2f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+
+        t = (i + j) * G2f;
+        float X0 = i - t;
+        float Y0 = j - t;
+
+        float x0 = x - X0;
+        float y0 = y - Y0;
+
+        int i1, j1;
+        if (x0 > y0) {
+            i1 = 1;
+            j1 = 0;
+        } else {
+            i1 = 0;
+            j1 = 1;
+        }
+
+        float x1 = x0 - i1 + G2f;
+        float y1 = y0 - j1 + G2f;
+        float x2 = x0 - 1 + H2f;
+        float y2 = y0 - 1 + H2f;
+
+        float n = 0f, dx = 0f, dy = 0f, g, t2, t4, falloff;
+        int h;
+
+        t = 0.5f - x0 * x0 - y0 * y0;
+        if (t >= 0) {
+            h = hash256(i, j, seed) << 1;
+            g = x0 * GRAD_2D[h] + y0 * GRAD_2D[h + 1];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_2D[h] + falloff * x0;
+            dy += t4 * GRAD_2D[h + 1] + falloff * y0;
+        }
+
+        t = 0.5f - x1 * x1 - y1 * y1;
+        if (t > 0) {
+            h = hash256(i + i1, j + j1, seed) << 1;
+            g = x1 * GRAD_2D[h] + y1 * GRAD_2D[h + 1];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_2D[h] + falloff * x1;
+            dy += t4 * GRAD_2D[h + 1] + falloff * y1;
+        }
+
+        t = 0.5f - x2 * x2 - y2 * y2;
+        if (t > 0)  {
+            h = hash256(i + 1, j + 1, seed) << 1;
+            g = x2 * GRAD_2D[h] + y2 * GRAD_2D[h + 1];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_2D[h] + falloff * x2;
+            dy += t4 * GRAD_2D[h + 1] + falloff * y2;
+        }
+        gradient[0] = dx * 99.20689070704672f;
+        gradient[1] = dy * 99.20689070704672f;
+        return n * 99.20689070704672f;
+    }
+
+    /**
+     * Gets 3D simplex noise, the same as {@link #singleSimplex(int, float, float, float)} returns, and also writes its
+     * exact gradient into {@code gradient}, with the partial derivatives for x, y, and z in {@code gradient[0]},
+     * {@code gradient[1]}, and {@code gradient[2]}. The gradient is with respect to the x, y, and z given here.
+     * @param seed the int seed to use
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param gradient a float array with at least 3 items, which will be overwritten with the gradient
+     * @return noise from -1f to 1f, identical to {@link #singleSimplex(int, float, float, float)}
+     */
+    public float singleSimplexGradient(int seed, float x, float y, float z, float[] gradient) {
+        float t = (x + y + z) * F3f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+        int k = fastFloor(z + t);
+
+        t = (i + j + k) * G3f;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
+
+        int i1, j1, k1;
+        int i2, j2, k2;
+
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } else if (x0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } else // x0 < z0
+            {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            }
+        } else // x0 < y0
+        {
+            if (y0 < z0) {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else // x0 >= z0
+            {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            }
+        }
+
+        float x1 = x0 - i1 + G3f;
+        float y1 = y0 - j1 + G3f;
+        float z1 = z0 - k1 + G3f;
+        float x2 = x0 - i2 + F3f;
+        float y2 = y0 - j2 + F3f;
+        float z2 = z0 - k2 + F3f;
+        float x3 = x0 - 0.5f;
+        float y3 = y0 - 0.5f;
+        float z3 = z0 - 0.5f;
+
+        float n = 0, dx = 0f, dy = 0f, dz = 0f, g, t2, t4, falloff;
+        int h;
+
+        t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+        if (t > 0) {
+            h = hash32(i, j, k, seed) << 2;
+            g = x0 * GRAD_3D[h] + y0 * GRAD_3D[h + 1] + z0 * GRAD_3D[h + 2];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_3D[h] + falloff * x0;
+            dy += t4 * GRAD_3D[h + 1] + falloff * y0;
+            dz += t4 * GRAD_3D[h + 2] + falloff * z0;
+        }
+
+        t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+        if (t > 0) {
+            h = hash32(i + i1, j + j1, k + k1, seed) << 2;
+            g = x1 * GRAD_3D[h] + y1 * GRAD_3D[h + 1] + z1 * GRAD_3D[h + 2];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_3D[h] + falloff * x1;
+            dy += t4 * GRAD_3D[h + 1] + falloff * y1;
+            dz += t4 * GRAD_3D[h + 2] + falloff * z1;
+        }
+
+        t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+        if (t > 0) {
+            h = hash32(i + i2, j + j2, k + k2, seed) << 2;
+            g = x2 * GRAD_3D[h] + y2 * GRAD_3D[h + 1] + z2 * GRAD_3D[h + 2];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_3D[h] + falloff * x2;
+            dy += t4 * GRAD_3D[h + 1] + falloff * y2;
+            dz += t4 * GRAD_3D[h + 2] + falloff * z2;
+        }
+
+        t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+        if (t > 0) {
+            h = hash32(i + 1, j + 1, k + 1, seed) << 2;
+            g = x3 * GRAD_3D[h] + y3 * GRAD_3D[h + 1] + z3 * GRAD_3D[h + 2];
+            t2 = t * t;
+            t4 = t2 * t2;
+            falloff = -8f * t2 * t * g;
+            n += t4 * g;
+            dx += t4 * GRAD_3D[h] + falloff * x3;
+            dy += t4 * GRAD_3D[h + 1] + falloff * y3;
+            dz += t4 * GRAD_3D[h + 2] + falloff * z3;
+        }
+        gradient[0] = dx * 31.5f;
+        gradient[1] = dy * 31.5f;
+        gradient[2] = dz * 31.5f;
+        return 31.5f * n;
+    }
+
+    /**
+     * Gets 2D Perlin noise, the same as {@link #singlePerlin(int, float, float)} returns, and also writes its exact
+     * gradient into {@code gradient}, with the partial derivative for x in {@code gradient[0]} and for y in
+     * {@code gradient[1]}. The gradient is with respect to the x and y given here, and takes the current
+     * {@link #getInterpolation() interpolation} into account; with LINEAR interpolation, the gradient jumps at lattice
+     * lines, since the noise itself has creases there.
+     * @param seed the int seed to use
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param gradient a float array with at least 2 items, which will be overwritten with the gradient
+     * @return noise from -1f to 1f, identical to {@link #singlePerlin(int, float, float)}
+     */
+    public float singlePerlinGradient(int seed, float x, float y, float[] gradient) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+
+        final float xs = interpolated(xd0), ys = interpolated(yd0);
+        final float xSlope = interpolationSlope(xd0), ySlope = interpolationSlope(yd0);
+
+        final int h00 = hash256(x0, y0, seed) << 1, h10 = hash256(x1, y0, seed) << 1,
+                h01 = hash256(x0, y1, seed) << 1, h11 = hash256(x1, y1, seed) << 1;
+        final float g00 = xd0 * GRAD_2D[h00] + yd0 * GRAD_2D[h00 + 1];
+        final float g10 = xd1 * GRAD_2D[h10] + yd0 * GRAD_2D[h10 + 1];
+        final float g01 = xd0 * GRAD_2D[h01] + yd1 * GRAD_2D[h01 + 1];
+        final float g11 = xd1 * GRAD_2D[h11] + yd1 * GRAD_2D[h11 + 1];
+
+        final float xf0 = lerp(g00, g10, xs);
+        final float xf1 = lerp(g01, g11, xs);
+
+        gradient[0] = lerp(lerp(GRAD_2D[h00], GRAD_2D[h10], xs) + xSlope * (g10 - g00),
+                lerp(GRAD_2D[h01], GRAD_2D[h11], xs) + xSlope * (g11 - g01), ys);
+        gradient[1] = lerp(lerp(GRAD_2D[h00 + 1], GRAD_2D[h10 + 1], xs),
+                lerp(GRAD_2D[h01 + 1], GRAD_2D[h11 + 1], xs), ys) + ySlope * (xf1 - xf0);
+        return lerp(xf0, xf1, ys);
+    }
+
+    /**
+     * Gets 3D Perlin noise, the same as {@link #singlePerlin(int, float, float, float)} returns, and also writes its
+     * exact gradient into {@code gradient}, with the partial derivatives for x, y, and z in {@code gradient[0]},
+     * {@code gradient[1]}, and {@code gradient[2]}. The gradient is with respect to the x, y, and z given here, and
+     * takes the current {@link #getInterpolation() interpolation} into account.
+     * @param seed the int seed to use
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param z z position, already multiplied by any frequency
+     * @param gradient a float array with at least 3 items, which will be overwritten with the gradient
+     * @return noise from -1f to 1f, identical to {@link #singlePerlin(int, float, float, float)}
+     */
+    public float singlePerlinGradient(int seed, float x, float y, float z, float[] gradient) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int z0 = fastFloor(z);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+        int z1 = z0 + 1;
+
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float zd0 = z - z0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+        final float zd1 = zd0 - 1;
+
+        final float xs = interpolated(xd0), ys = interpolated(yd0), zs = interpolated(zd0);
+        final float xSlope = interpolationSlope(xd0), ySlope = interpolationSlope(yd0), zSlope = interpolationSlope(zd0);
+
+        final int h000 = hash32(x0, y0, z0, seed) << 2, h100 = hash32(x1, y0, z0, seed) << 2,
+                h010 = hash32(x0, y1, z0, seed) << 2, h110 = hash32(x1, y1, z0, seed) << 2,
+                h001 = hash32(x0, y0, z1, seed) << 2, h101 = hash32(x1, y0, z1, seed) << 2,
+                h011 = hash32(x0, y1, z1, seed) << 2, h111 = hash32(x1, y1, z1, seed) << 2;
+        final float g000 = xd0 * GRAD_3D[h000] + yd0 * GRAD_3D[h000 + 1] + zd0 * GRAD_3D[h000 + 2];
+        final float g100 = xd1 * GRAD_3D[h100] + yd0 * GRAD_3D[h100 + 1] + zd0 * GRAD_3D[h100 + 2];
+        final float g010 = xd0 * GRAD_3D[h010] + yd1 * GRAD_3D[h010 + 1] + zd0 * GRAD_3D[h010 + 2];
+        final float g110 = xd1 * GRAD_3D[h110] + yd1 * GRAD_3D[h110 + 1] + zd0 * GRAD_3D[h110 + 2];
+        final float g001 = xd0 * GRAD_3D[h001] + yd0 * GRAD_3D[h001 + 1] + zd1 * GRAD_3D[h001 + 2];
+        final float g101 = xd1 * GRAD_3D[h101] + yd0 * GRAD_3D[h101 + 1] + zd1 * GRAD_3D[h101 + 2];
+        final float g011 = xd0 * GRAD_3D[h011] + yd1 * GRAD_3D[h011 + 1] + zd1 * GRAD_3D[h011 + 2];
+        final float g111 = xd1 * GRAD_3D[h111] + yd1 * GRAD_3D[h111 + 1] + zd1 * GRAD_3D[h111 + 2];
+
+        final float xf00 = lerp(g000, g100, xs);
+        final float xf10 = lerp(g010, g110, xs);
+        final float xf01 = lerp(g001, g101, xs);
+        final float xf11 = lerp(g011, g111, xs);
+
+        final float yf0 = lerp(xf00, xf10, ys);
+        final float yf1 = lerp(xf01, xf11, ys);
+
+        // each partial derivative interpolates the corner gradients' components the same way the value interpolates
+        // the corner values, plus the slope of the interpolation along its own axis times the change along that axis.
+        final float dx00 = lerp(GRAD_3D[h000], GRAD_3D[h100], xs) + xSlope * (g100 - g000);
+        final float dx10 = lerp(GRAD_3D[h010], GRAD_3D[h110], xs) + xSlope * (g110 - g010);
+        final float dx01 = lerp(GRAD_3D[h001], GRAD_3D[h101], xs) + xSlope * (g101 - g001);
+        final float dx11 = lerp(GRAD_3D[h011], GRAD_3D[h111], xs) + xSlope * (g111 - g011);
+        gradient[0] = lerp(lerp(dx00, dx10, ys), lerp(dx01, dx11, ys), zs);
+
+        final float dy00 = lerp(GRAD_3D[h000 + 1], GRAD_3D[h100 + 1], xs);
+        final float dy10 = lerp(GRAD_3D[h010 + 1], GRAD_3D[h110 + 1], xs);
+        final float dy01 = lerp(GRAD_3D[h001 + 1], GRAD_3D[h101 + 1], xs);
+        final float dy11 = lerp(GRAD_3D[h011 + 1], GRAD_3D[h111 + 1], xs);
+        gradient[1] = lerp(lerp(dy00, dy10, ys) + ySlope * (xf10 - xf00), lerp(dy01, dy11, ys) + ySlope * (xf11 - xf01), zs);
+
+        final float dz00 = lerp(GRAD_3D[h000 + 2], GRAD_3D[h100 + 2], xs);
+        final float dz10 = lerp(GRAD_3D[h010 + 2], GRAD_3D[h110 + 2], xs);
+        final float dz01 = lerp(GRAD_3D[h001 + 2], GRAD_3D[h101 + 2], xs);
+        final float dz11 = lerp(GRAD_3D[h011 + 2], GRAD_3D[h111 + 2], xs);
+        gradient[2] = lerp(lerp(dz00, dz10, ys), lerp(dz01, dz11, ys), zs) + zSlope * (yf1 - yf0);
+
+        return lerp(yf0, yf1, zs);
+    }
+
+    /**
+     * Gets fractal 2D noise of the given {@code kind}, which must be {@link #SIMPLEX} or {@link #PERLIN}, using the
+     * current fractal type, octaves, lacunarity, and gain, and writes its gradient into {@code gradient}. The value
+     * is identical to what the per-point fractal methods return, and each octave's gradient is scaled by the same
+     * amplitude as its value and by how much lacunarity has scaled its position. Billow and ridged fractals use
+     * {@link Math#abs(float)} on each octave, so their gradients flip sign where an octave crosses 0.
+     * @param kind {@link #SIMPLEX} or {@link #PERLIN}
+     * @param seed the seed for the first octave; later octaves add the octave index to it
+     * @param x x position, already multiplied by any frequency
+     * @param y y position, already multiplied by any frequency
+     * @param gradient a float array with at least 2 items, which will be overwritten with the gradient
+     * @return fractal noise from -1f to 1f
+     */
+    private float fractalGradient(final int kind, final int seed, float x, float y, final float[] gradient) {
+        float dx = 0f, dy = 0f, scale = 1f, n;
+        switch (fractalType) {
+            case RIDGED_MULTI: {
+                float sum = 0f, exp = 2f, correction = 0f, spike;
+                for (int i = 0; i < octaves; i++) {
+                    n = kind == PERLIN ? singlePerlinGradient(seed + i, x, y, gradient) : singleSimplexGradient(seed + i, x, y, gradient);
+                    spike = 1f - Math.abs(n);
+                    correction += (exp *= 0.5);
+                    sum += spike * exp;
+                    final float slope = n < 0f ? exp * scale : -exp * scale;
+                    dx += gradient[0] * slope;
+                    dy += gradient[1] * slope;
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    scale *= lacunarity;
+                }
+                gradient[0] = dx * 2f / correction;
+                gradient[1] = dy * 2f / correction;
+                return sum * 2f / correction - 1f;
+            }
+            case BILLOW: {
+                n = kind == PERLIN ? singlePerlinGradient(seed, x, y, gradient) : singleSimplexGradient(seed, x, y, gradient);
+                float sum = Math.abs(n) * 2 - 1;
+                float amp = 1;
+                dx = n < 0f ? -2f * gradient[0] : 2f * gradient[0];
+                dy = n < 0f ? -2f * gradient[1] : 2f * gradient[1];
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    scale *= lacunarity;
+
+                    amp *= gain;
+                    n = kind == PERLIN ? singlePerlinGradient(seed + i, x, y, gradient) : singleSimplexGradient(seed + i, x, y, gradient);
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    final float slope = n < 0f ? -2f * amp * scale : 2f * amp * scale;
+                    dx += gradient[0] * slope;
+                    dy += gradient[1] * slope;
+                }
+                gradient[0] = dx * fractalBounding;
+                gradient[1] = dy * fractalBounding;
+                return sum * fractalBounding;
+            }
+            default: {
+                float sum = kind == PERLIN ? singlePerlinGradient(seed, x, y, gradient) : singleSimplexGradient(seed, x, y, gradient);
+                float amp = 1;
+                dx = gradient[0];
+                dy = gradient[1];
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    scale *= lacunarity;
+
+                    amp *= gain;
+                    sum += (kind == PERLIN ? singlePerlinGradient(seed + i, x, y, gradient) : singleSimplexGradient(seed + i, x, y, gradient)) * amp;
+                    dx += gradient[0] * amp * scale;
+                    dy += gradient[1] * amp * scale;
+                }
+                gradient[0] = dx * fractalBounding;
+                gradient[1] = dy * fractalBounding;
+                return sum * fractalBounding;
+            }
+        }
+    }
+
+    /**
+     * Like {@link #fractalGradient(int, int, float, float, float[])}, but for 3D noise, writing 3 items into
+     * {@code gradient}.
+     */
+    private float fractalGradient(final int kind, final int seed, float x, float y, float z, final float[] gradient) {
+        float dx = 0f, dy = 0f, dz = 0f, scale = 1f, n;
+        switch (fractalType) {
+            case RIDGED_MULTI: {
+                float sum = 0f, exp = 2f, correction = 0f, spike;
+                for (int i = 0; i < octaves; i++) {
+                    n = kind == PERLIN ? singlePerlinGradient(seed + i, x, y, z, gradient) : singleSimplexGradient(seed + i, x, y, z, gradient);
+                    spike = 1f - Math.abs(n);
+                    correction += (exp *= 0.5);
+                    sum += spike * exp;
+                    final float slope = n < 0f ? exp * scale : -exp * scale;
+                    dx += gradient[0] * slope;
+                    dy += gradient[1] * slope;
+                    dz += gradient[2] * slope;
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    scale *= lacunarity;
+                }
+                gradient[0] = dx * 2f / correction;
+                gradient[1] = dy * 2f / correction;
+                gradient[2] = dz * 2f / correction;
+                return sum * 2f / correction - 1f;
+            }
+            case BILLOW: {
+                n = kind == PERLIN ? singlePerlinGradient(seed, x, y, z, gradient) : singleSimplexGradient(seed, x, y, z, gradient);
+                float sum = Math.abs(n) * 2 - 1;
+                float amp = 1;
+                final float first = n < 0f ? -2f : 2f;
+                dx = gradient[0] * first;
+                dy = gradient[1] * first;
+                dz = gradient[2] * first;
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    scale *= lacunarity;
+
+                    amp *= gain;
+                    n = kind == PERLIN ? singlePerlinGradient(seed + i, x, y, z, gradient) : singleSimplexGradient(seed + i, x, y, z, gradient);
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    final float slope = n < 0f ? -2f * amp * scale : 2f * amp * scale;
+                    dx += gradient[0] * slope;
+                    dy += gradient[1] * slope;
+                    dz += gradient[2] * slope;
+                }
+                gradient[0] = dx * fractalBounding;
+                gradient[1] = dy * fractalBounding;
+                gradient[2] = dz * fractalBounding;
+                return sum * fractalBounding;
+            }
+            default: {
+                float sum = kind == PERLIN ? singlePerlinGradient(seed, x, y, z, gradient) : singleSimplexGradient(seed, x, y, z, gradient);
+                float amp = 1;
+                dx = gradient[0];
+                dy = gradient[1];
+                dz = gradient[2];
+                for (int i = 1; i < octaves; i++) {
+                    x *= lacunarity;
+                    y *= lacunarity;
+                    z *= lacunarity;
+                    scale *= lacunarity;
+
+                    amp *= gain;
+                    sum += (kind == PERLIN ? singlePerlinGradient(seed + i, x, y, z, gradient) : singleSimplexGradient(seed + i, x, y, z, gradient)) * amp;
+                    dx += gradient[0] * amp * scale;
+                    dy += gradient[1] * amp * scale;
+                    dz += gradient[2] * amp * scale;
+                }
+                gradient[0] = dx * fractalBounding;
+                gradient[1] = dy * fractalBounding;
+                gradient[2] = dz * fractalBounding;
+                return sum * fractalBounding;
+            }
+        }
+    }
+
+    /**
+     * Gets noise at the given position using the current configuration, the same as
+     * {@link #getConfiguredNoise(float, float)}, and writes its gradient with respect to x and y into
+     * {@code gradient[0]} and {@code gradient[1]}. This is meant for things like terrain normals and slopes.
+     * {@link #SIMPLEX}, {@link #SIMPLEX_FRACTAL}, {@link #PERLIN}, and {@link #PERLIN_FRACTAL} find the gradient
+     * analytically, from the same evaluation that finds the value; other noise types approximate it with central
+     * differences, which needs 4 more calls to {@link #getConfiguredNoise(float, float)}.
+     * @param x x position, before {@link #getFrequency()} is applied
+     * @param y y position, before {@link #getFrequency()} is applied
+     * @param gradient a float array with at least 2 items, which will be overwritten with the gradient
+     * @return noise as a float from -1f to 1f, identical to {@link #getConfiguredNoise(float, float)}
+     */
+    public float getNoiseGradient(float x, float y, float[] gradient) {
+        final float value;
+        switch (noiseType) {
+            case SIMPLEX:
+                value = singleSimplexGradient(seed, x * frequency, y * frequency, gradient);
+                break;
+            case PERLIN:
+                value = singlePerlinGradient(seed, x * frequency, y * frequency, gradient);
+                break;
+            case SIMPLEX_FRACTAL:
+                value = fractalGradient(SIMPLEX, seed, x * frequency, y * frequency, gradient);
+                break;
+            case PERLIN_FRACTAL:
+                value = fractalGradient(PERLIN, seed, x * frequency, y * frequency, gradient);
+                break;
+            default: {
+                final float h = 0x1p-8f / frequency;
+                gradient[0] = (getConfiguredNoise(x + h, y) - getConfiguredNoise(x - h, y)) / (h + h);
+                gradient[1] = (getConfiguredNoise(x, y + h) - getConfiguredNoise(x, y - h)) / (h + h);
+                return getConfiguredNoise(x, y);
+            }
+        }
+        gradient[0] *= frequency;
+        gradient[1] *= frequency;
+        return value;
+    }
+
+    /**
+     * Gets noise at the given position using the current configuration, the same as
+     * {@link #getConfiguredNoise(float, float, float)}, and writes its gradient with respect to x, y, and z into
+     * {@code gradient[0]}, {@code gradient[1]}, and {@code gradient[2]}. The same noise types as in
+     * {@link #getNoiseGradient(float, float, float[])} find the gradient analytically, and others approximate it with
+     * central differences.
+     * @param x x position, before {@link #getFrequency()} is applied
+     * @param y y position, before {@link #getFrequency()} is applied
+     * @param z z position, before {@link #getFrequency()} is applied
+     * @param gradient a float array with at least 3 items, which will be overwritten with the gradient
+     * @return noise as a float from -1f to 1f, identical to {@link #getConfiguredNoise(float, float, float)}
+     */
+    public float getNoiseGradient(float x, float y, float z, float[] gradient) {
+        final float value;
+        switch (noiseType) {
+            case SIMPLEX:
+                value = singleSimplexGradient(seed, x * frequency, y * frequency, z * frequency, gradient);
+                break;
+            case PERLIN:
+                value = singlePerlinGradient(seed, x * frequency, y * frequency, z * frequency, gradient);
+                break;
+            case SIMPLEX_FRACTAL:
+                value = fractalGradient(SIMPLEX, seed, x * frequency, y * frequency, z * frequency, gradient);
+                break;
+            case PERLIN_FRACTAL:
+                value = fractalGradient(PERLIN, seed, x * frequency, y * frequency, z * frequency, gradient);
+                break;
+            default: {
+                final float h = 0x1p-8f / frequency;
+                gradient[0] = (getConfiguredNoise(x + h, y, z) - getConfiguredNoise(x - h, y, z)) / (h + h);
+                gradient[1] = (getConfiguredNoise(x, y + h, z) - getConfiguredNoise(x, y - h, z)) / (h + h);
+                gradient[2] = (getConfiguredNoise(x, y, z + h) - getConfiguredNoise(x, y, z - h)) / (h + h);
+                return getConfiguredNoise(x, y, z);
+            }
+        }
+        gradient[0] *= frequency;
+        gradient[1] *= frequency;
+        gradient[2] *= frequency;
+        return value;
+    }
+
     public float getSimplex(float x, float y, float z, float w) {
         return singleSimplex(seed, x * frequency, y * frequency, z * frequency, w * frequency);
     }
@@ -4816,18 +10010,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w);
+                return singleSimplexFractalFBM(seed, x, y, z, w);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w);
+                return singleSimplexFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleSimplex(seed, x, y, z, w);
         float amp = 1;
 
@@ -4843,8 +10036,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w));
@@ -4858,8 +10050,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
 
@@ -5041,18 +10232,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w, u);
+                return singleSimplexFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w, u);
+                return singleSimplexFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w, u);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w, float u) {
         float sum = singleSimplex(seed, x, y, z, w, u);
         float amp = 1;
 
@@ -5069,8 +10259,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w, u));
@@ -5085,8 +10274,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w, float u) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w, float u) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w, u)) * 2 - 1;
         float amp = 1;
 
@@ -5107,9 +10295,6 @@ public class Noise {
 
     // 6D Simplex
 
-    private final transient float[] m = {0, 0, 0, 0, 0, 0}, cellDist = {0, 0, 0, 0, 0, 0};
-    private final transient int[] distOrder = {0, 0, 0, 0, 0, 0}, intLoc = {0, 0, 0, 0, 0, 0};
-
     private static final float
         F6 = (float) ((Math.sqrt(7.0) - 1.0) / 6.0),
         G6 = F6 / (1f + 6f * F6),
@@ -5117,6 +10302,10 @@ public class Noise {
 
 
     public float singleSimplex(int seed, float x, float y, float z, float w, float u, float v) {
+        // these are local so that one Noise can be used by multiple threads at once
+        final float[] m = new float[6], cellDist = new float[6];
+        final int[] distOrder = new int[6], intLoc = new int[6];
+
         final float s = (x + y + z + w + u + v) * F6;
 
         final int skewX = fastFloor(x + s), skewY = fastFloor(y + s), skewZ = fastFloor(z + s),
@@ -5194,18 +10383,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleSimplexFractalFBM(x, y, z, w, u, v);
+                return singleSimplexFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleSimplexFractalBillow(x, y, z, w, u, v);
+                return singleSimplexFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleSimplexFractalRidgedMulti(x, y, z, w, u, v);
+                return singleSimplexFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleSimplexFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = singleSimplex(seed, x, y, z, w, u, v);
         float amp = 1;
 
@@ -5223,8 +10411,7 @@ public class Noise {
 
         return sum * fractalBounding;
     }
-    private float singleSimplexFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleSimplex(seed + i, x, y, z, w, u, v));
@@ -5240,8 +10427,7 @@ public class Noise {
         return sum * 2f / correction - 1f;
     }
 
-    private float singleSimplexFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
+    private float singleSimplexFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
         float sum = Math.abs(singleSimplex(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
@@ -5267,18 +10453,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y);
+                return singleCubicFractalFBM(seed, x, y);
             case BILLOW:
-                return singleCubicFractalBillow(x, y);
+                return singleCubicFractalBillow(seed, x, y);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y);
+                return singleCubicFractalRidgedMulti(seed, x, y);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y) {
         float sum = singleCubic(seed, x, y);
         float amp = 1;
         int i = 0;
@@ -5294,8 +10479,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y) {
         float sum = Math.abs(singleCubic(seed, x, y)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5311,8 +10495,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y));
@@ -5366,18 +10549,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y, z);
+                return singleCubicFractalFBM(seed, x, y, z);
             case BILLOW:
-                return singleCubicFractalBillow(x, y, z);
+                return singleCubicFractalBillow(seed, x, y, z);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y, z);
+                return singleCubicFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y, float z) {
         float sum = singleCubic(seed, x, y, z);
         float amp = 1;
         int i = 0;
@@ -5394,8 +10576,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y, float z) {
         float sum = Math.abs(singleCubic(seed, x, y, z)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5412,8 +10593,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y, z));
@@ -5487,18 +10667,17 @@ public class Noise {
 
         switch (fractalType) {
             case FBM:
-                return singleCubicFractalFBM(x, y, z, w);
+                return singleCubicFractalFBM(seed, x, y, z, w);
             case BILLOW:
-                return singleCubicFractalBillow(x, y, z, w);
+                return singleCubicFractalBillow(seed, x, y, z, w);
             case RIDGED_MULTI:
-                return singleCubicFractalRidgedMulti(x, y, z, w);
+                return singleCubicFractalRidgedMulti(seed, x, y, z, w);
             default:
                 return 0;
         }
     }
 
-    private float singleCubicFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalFBM(int seed, float x, float y, float z, float w) {
         float sum = singleCubic(seed, x, y, z, w);
         float amp = 1;
         int i = 0;
@@ -5516,8 +10695,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalBillow(int seed, float x, float y, float z, float w) {
         float sum = Math.abs(singleCubic(seed, x, y, z, w)) * 2 - 1;
         float amp = 1;
         int i = 0;
@@ -5535,8 +10713,7 @@ public class Noise {
         return sum * fractalBounding;
     }
 
-    private float singleCubicFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
+    private float singleCubicFractalRidgedMulti(int seed, float x, float y, float z, float w) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
             spike = 1f - Math.abs(singleCubic(seed + i, x, y, z, w));
@@ -5697,13 +10874,17 @@ public class Noise {
             case CELL_VALUE:
             case NOISE_LOOKUP:
             case DISTANCE:
-                return singleCellular(x, y, z);
+                return singleCellular(seed, x, y, z);
             default:
-                return singleCellular2Edge(x, y, z);
+                return singleCellular2Edge(seed, x, y, z);
         }
     }
 
-    private float singleCellular(float x, float y, float z) {
+    private float singleCellular(int seed, float x, float y, float z) {
+        return singleCellular(seed, x, y, z, cellularReturnType);
+    }
+
+    private float singleCellular(int seed, float x, float y, float z, int returnType) {
         int xr = fastRound(x);
         int yr = fastRound(y);
         int zr = fastRound(z);
@@ -5716,11 +10897,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = vecX * vecX + vecY * vecY + vecZ * vecZ;
 
@@ -5738,11 +10919,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
 
@@ -5760,11 +10941,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
 
@@ -5780,13 +10961,13 @@ public class Noise {
                 break;
         }
 
-        switch (cellularReturnType) {
+        switch (returnType) {
             case CELL_VALUE:
                 return valCoord3D(0, xc, yc, zc);
 
             case NOISE_LOOKUP:
-                Float3 vec = CELL_3D[hash256(xc, yc, zc, seed)];
-                return layered3D(xc + vec.x, yc + vec.y, zc + vec.z, 123, 3);
+                int cell = hash256(xc, yc, zc, seed) << 2;
+                return layered3D(xc + CELL_3D[cell], yc + CELL_3D[cell + 1], zc + CELL_3D[cell + 2], 123, 3);
 
             case DISTANCE:
                 return distance - 1;
@@ -5795,7 +10976,11 @@ public class Noise {
         }
     }
 
-    private float singleCellular2Edge(float x, float y, float z) {
+    private float singleCellular2Edge(int seed, float x, float y, float z) {
+        return singleCellular2Edge(seed, x, y, z, cellularReturnType);
+    }
+
+    private float singleCellular2Edge(int seed, float x, float y, float z, int returnType) {
         int xr = fastRound(x);
         int yr = fastRound(y);
         int zr = fastRound(z);
@@ -5808,11 +10993,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = vecX * vecX + vecY * vecY + vecZ * vecZ;
 
@@ -5826,11 +11011,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ);
 
@@ -5844,11 +11029,11 @@ public class Noise {
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
                         for (int zi = zr - 1; zi <= zr + 1; zi++) {
-                            Float3 vec = CELL_3D[hash256(xi, yi, zi, seed)];
+                            int cell = hash256(xi, yi, zi, seed) << 2;
 
-                            float vecX = xi - x + vec.x;
-                            float vecY = yi - y + vec.y;
-                            float vecZ = zi - z + vec.z;
+                            float vecX = xi - x + CELL_3D[cell];
+                            float vecY = yi - y + CELL_3D[cell + 1];
+                            float vecZ = zi - z + CELL_3D[cell + 2];
 
                             float newDistance = (Math.abs(vecX) + Math.abs(vecY) + Math.abs(vecZ)) + (vecX * vecX + vecY * vecY + vecZ * vecZ);
 
@@ -5862,7 +11047,7 @@ public class Noise {
                 break;
         }
 
-        switch (cellularReturnType) {
+        switch (returnType) {
             case DISTANCE_2:
                 return distance2 - 1;
             case DISTANCE_2_ADD:
@@ -5886,13 +11071,17 @@ public class Noise {
             case CELL_VALUE:
             case NOISE_LOOKUP:
             case DISTANCE:
-                return singleCellular(x, y);
+                return singleCellular(seed, x, y);
             default:
-                return singleCellular2Edge(x, y);
+                return singleCellular2Edge(seed, x, y);
         }
     }
 
-    private float singleCellular(float x, float y) {
+    private float singleCellular(int seed, float x, float y) {
+        return singleCellular(seed, x, y, cellularReturnType);
+    }
+
+    private float singleCellular(int seed, float x, float y, int returnType) {
         int xr = fastRound(x);
         int yr = fastRound(y);
 
@@ -5904,10 +11093,10 @@ public class Noise {
             case EUCLIDEAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
                         float newDistance = vecX * vecX + vecY * vecY;
 
@@ -5922,10 +11111,10 @@ public class Noise {
             case MANHATTAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
                         float newDistance = (Math.abs(vecX) + Math.abs(vecY));
 
@@ -5940,10 +11129,10 @@ public class Noise {
             case NATURAL:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
                         float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
 
@@ -5957,13 +11146,13 @@ public class Noise {
                 break;
         }
 
-        switch (cellularReturnType) {
+        switch (returnType) {
             case CELL_VALUE:
                 return valCoord2D(0, xc, yc);
 
             case NOISE_LOOKUP:
-                Float2 vec = CELL_2D[hash256(xc, yc, seed)];
-                return layered2D(xc + vec.x, yc + vec.y, 123, 3);
+                int cell = hash256(xc, yc, seed) << 1;
+                return layered2D(xc + CELL_2D[cell], yc + CELL_2D[cell + 1], 123, 3);
 
             case DISTANCE:
                 return distance - 1;
@@ -5972,7 +11161,11 @@ public class Noise {
         }
     }
 
-    private float singleCellular2Edge(float x, float y) {
+    private float singleCellular2Edge(int seed, float x, float y) {
+        return singleCellular2Edge(seed, x, y, cellularReturnType);
+    }
+
+    private float singleCellular2Edge(int seed, float x, float y, int returnType) {
         int xr = fastRound(x);
         int yr = fastRound(y);
 
@@ -5984,10 +11177,10 @@ public class Noise {
             case EUCLIDEAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
 
                         float newDistance = vecX * vecX + vecY * vecY;
 
@@ -5999,588 +11192,1472 @@ public class Noise {
             case MANHATTAN:
                 for (int xi = xr - 1; xi <= xr + 1; xi++) {
                     for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+                        int cell = hash256(xi, yi, seed) << 1;
+
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
+
+                        float newDistance = Math.abs(vecX) + Math.abs(vecY);
+
+                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                        distance = Math.min(distance, newDistance);
+                    }
+                }
+                break;
+            case NATURAL:
+                for (int xi = xr - 1; xi <= xr + 1; xi++) {
+                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
+                        int cell = hash256(xi, yi, seed) << 1;
+
+                        float vecX = xi - x + CELL_2D[cell];
+                        float vecY = yi - y + CELL_2D[cell + 1];
+
+                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
+
+                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
+                        distance = Math.min(distance, newDistance);
+                    }
+                }
+                break;
+        }
+
+        switch (returnType) {
+            case DISTANCE_2:
+                return distance2 - 1;
+            case DISTANCE_2_ADD:
+                return distance2 + distance - 1;
+            case DISTANCE_2_SUB:
+                return distance2 - distance - 1;
+            case DISTANCE_2_MUL:
+                return distance2 * distance - 1;
+            case DISTANCE_2_DIV:
+                return distance / distance2 - 1;
+            default:
+                return 0;
+        }
+    }
+
+    public void gradientPerturb3(float[] v3) {
+        singleGradientPerturb3(seed, gradientPerturbAmp, frequency, v3);
+    }
+
+    public void gradientPerturbFractal3(float[] v3) {
+        int seed = this.seed;
+        float amp = gradientPerturbAmp * fractalBounding;
+        float freq = frequency;
+
+        singleGradientPerturb3(seed, amp, frequency, v3);
+
+        for (int i = 1; i < octaves; i++) {
+            freq *= lacunarity;
+            amp *= gain;
+            singleGradientPerturb3(++seed, amp, freq, v3);
+        }
+    }
+
+    private void singleGradientPerturb3(int seed, float perturbAmp, float frequency, float[] v3) {
+        float xf = v3[0] * frequency;
+        float yf = v3[1] * frequency;
+        float zf = v3[2] * frequency;
+
+        int x0 = fastFloor(xf);
+        int y0 = fastFloor(yf);
+        int z0 = fastFloor(zf);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+        int z1 = z0 + 1;
+
+        float xs, ys, zs;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xf - x0;
+                ys = yf - y0;
+                zs = zf - z0;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xf - x0);
+                ys = hermiteInterpolator(yf - y0);
+                zs = hermiteInterpolator(zf - z0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xf - x0);
+                ys = quinticInterpolator(yf - y0);
+                zs = quinticInterpolator(zf - z0);
+                break;
+        }
+
+        int cell0 = hash256(x0, y0, z0, seed) << 2;
+        int cell1 = hash256(x1, y0, z0, seed) << 2;
+
+        float lx0x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        float ly0x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        float lz0x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
+
+        cell0 = hash256(x0, y1, z0, seed) << 2;
+        cell1 = hash256(x1, y1, z0, seed) << 2;
+
+        float lx1x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        float ly1x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        float lz1x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
+
+        float lx0y = lerp(lx0x, lx1x, ys);
+        float ly0y = lerp(ly0x, ly1x, ys);
+        float lz0y = lerp(lz0x, lz1x, ys);
+
+        cell0 = hash256(x0, y0, z1, seed) << 2;
+        cell1 = hash256(x1, y0, z1, seed) << 2;
+
+        lx0x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        ly0x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        lz0x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
+
+        cell0 = hash256(x0, y1, z1, seed) << 2;
+        cell1 = hash256(x1, y1, z1, seed) << 2;
+
+        lx1x = lerp(CELL_3D[cell0], CELL_3D[cell1], xs);
+        ly1x = lerp(CELL_3D[cell0 + 1], CELL_3D[cell1 + 1], xs);
+        lz1x = lerp(CELL_3D[cell0 + 2], CELL_3D[cell1 + 2], xs);
+
+        v3[0] += lerp(lx0y, lerp(lx0x, lx1x, ys), zs) * perturbAmp;
+        v3[1] += lerp(ly0y, lerp(ly0x, ly1x, ys), zs) * perturbAmp;
+        v3[2] += lerp(lz0y, lerp(lz0x, lz1x, ys), zs) * perturbAmp;
+    }
+
+    public void gradientPerturb2(float[] v2) {
+        singleGradientPerturb2(seed, gradientPerturbAmp, frequency, v2);
+    }
+
+    public void gradientPerturbFractal2(float[] v2) {
+        int seed = this.seed;
+        float amp = gradientPerturbAmp * fractalBounding;
+        float freq = frequency;
+
+        singleGradientPerturb2(seed, amp, frequency, v2);
+
+        for (int i = 1; i < octaves; i++) {
+            freq *= lacunarity;
+            amp *= gain;
+            singleGradientPerturb2(++seed, amp, freq, v2);
+        }
+    }
+
+    private void singleGradientPerturb2(int seed, float perturbAmp, float frequency, float[] v2) {
+        float xf = v2[0] * frequency;
+        float yf = v2[1] * frequency;
+
+        int x0 = fastFloor(xf);
+        int y0 = fastFloor(yf);
+        int x1 = x0 + 1;
+        int y1 = y0 + 1;
+
+        float xs, ys;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xf - x0;
+                ys = yf - y0;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xf - x0);
+                ys = hermiteInterpolator(yf - y0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xf - x0);
+                ys = quinticInterpolator(yf - y0);
+                break;
+        }
+
+        int cell0 = hash256(x0, y0, seed) << 1;
+        int cell1 = hash256(x1, y0, seed) << 1;
+
+        float lx0x = lerp(CELL_2D[cell0], CELL_2D[cell1], xs);
+        float ly0x = lerp(CELL_2D[cell0 + 1], CELL_2D[cell1 + 1], xs);
+
+        cell0 = hash256(x0, y1, seed) << 1;
+        cell1 = hash256(x1, y1, seed) << 1;
+
+        float lx1x = lerp(CELL_2D[cell0], CELL_2D[cell1], xs);
+        float ly1x = lerp(CELL_2D[cell0 + 1], CELL_2D[cell1 + 1], xs);
+
+        v2[0] += lerp(lx0x, lx1x, ys) * perturbAmp;
+        v2[1] += lerp(ly0x, ly1x, ys) * perturbAmp;
+    }
+
+
+    public float getHoney(float x, float y) {
+        return singleHoney(seed, x * frequency, y * frequency);
+    }
+
+    public float singleHoney(int seed, float x, float y) {
+        // value noise setup, as in singleValue()
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        float xv = x - xFloor, yv = y - yFloor;
+        switch (interpolation) {
+            case HERMITE:
+                xv = hermiteInterpolator(xv);
+                yv = hermiteInterpolator(yv);
+                break;
+            case QUINTIC:
+                xv = quinticInterpolator(xv);
+                yv = quinticInterpolator(yv);
+                break;
+        }
+        xFloor *= 0xD1B55;
+        yFloor *= 0xABC99;
+        final int vs = seed ^ 0x9E3779B9;
+
+        // simplex noise, as in singleSimplex()
+        float t = (x + y) * F2f;
+        final int i = fastFloor(x + t);
+        final int j = fastFloor(y + t);
+
+        t = (i + j) * G2f;
+        final float x0 = x - (i - t);
+        final float y0 = y - (j - t);
+
+        final int i1, j1;
+        if (x0 > y0) {
+            i1 = 1;
+            j1 = 0;
+        } else {
+            i1 = 0;
+            j1 = 1;
+        }
+
+        final float x1 = x0 - i1 + G2f;
+        final float y1 = y0 - j1 + G2f;
+        final float x2 = x0 - 1 + H2f;
+        final float y2 = y0 - 1 + H2f;
+
+        float n = 0f;
+
+        t = 0.5f - x0 * x0 - y0 * y0;
+        if (t >= 0) {
+            t *= t;
+            n += t * t * gradCoord2D(seed, i, j, x0, y0);
+        }
+
+        t = 0.5f - x1 * x1 - y1 * y1;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord2D(seed, i + i1, j + j1, x1, y1);
+        }
+
+        t = 0.5f - x2 * x2 - y2 * y2;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord2D(seed, i + 1, j + 1, x2, y2);
+        }
+
+        final float value = ((1 - yv) * ((1 - xv) * hashPart1024(xFloor, yFloor, vs) + xv * hashPart1024(xFloor + 0xD1B55, yFloor, vs))
+            + yv * ((1 - xv) * hashPart1024(xFloor, yFloor + 0xABC99, vs) + xv * hashPart1024(xFloor + 0xD1B55, yFloor + 0xABC99, vs)))
+            * 0x1p-9f;
+        final float result = (n * 99.20689070704672f + value) * 0.5f + 1f;
+        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+    }
+
+    public float getHoneyFractal(float x, float y) {
+        x *= frequency;
+        y *= frequency;
+
+        switch (fractalType) {
+            case FBM:
+                return singleHoneyFractalFBM(seed, x, y);
+            case BILLOW:
+                return singleHoneyFractalBillow(seed, x, y);
+            case RIDGED_MULTI:
+                return singleHoneyFractalRidgedMulti(seed, x, y);
+            default:
+                return 0;
+        }
+    }
+
+    private float singleHoneyFractalFBM(int seed, float x, float y) {
+        float sum = singleHoney(seed, x, y);
+        float amp = 1, t;
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+        for (int i = 1; i < octaves; i++) {
+            t = x;
+            x = y * lacunarity;
+            y = t * lacunarity;
 
-                        float newDistance = Math.abs(vecX) + Math.abs(vecY);
+            amp *= gain;
+            sum += singleHoney(seed + i, x, y) * amp;
+        }
 
-                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                        distance = Math.min(distance, newDistance);
-                    }
-                }
-                break;
-            case NATURAL:
-                for (int xi = xr - 1; xi <= xr + 1; xi++) {
-                    for (int yi = yr - 1; yi <= yr + 1; yi++) {
-                        Float2 vec = CELL_2D[hash256(xi, yi, seed)];
+        return sum * fractalBounding;
+    }
 
-                        float vecX = xi - x + vec.x;
-                        float vecY = yi - y + vec.y;
+    private float singleHoneyFractalBillow(int seed, float x, float y) {
+        float sum = Math.abs(singleHoney(seed, x, y)) * 2 - 1;
+        float amp = 1, t;
 
-                        float newDistance = (Math.abs(vecX) + Math.abs(vecY)) + (vecX * vecX + vecY * vecY);
+        for (int i = 1; i < octaves; i++) {
+            t = x;
+            x = y * lacunarity;
+            y = t * lacunarity;
 
-                        distance2 = Math.max(Math.min(distance2, newDistance), distance);
-                        distance = Math.min(distance, newDistance);
-                    }
-                }
-                break;
+            amp *= gain;
+            sum += (Math.abs(singleHoney(++seed, x, y)) * 2 - 1) * amp;
         }
 
-        switch (cellularReturnType) {
-            case DISTANCE_2:
-                return distance2 - 1;
-            case DISTANCE_2_ADD:
-                return distance2 + distance - 1;
-            case DISTANCE_2_SUB:
-                return distance2 - distance - 1;
-            case DISTANCE_2_MUL:
-                return distance2 * distance - 1;
-            case DISTANCE_2_DIV:
-                return distance / distance2 - 1;
+        return sum * fractalBounding;
+    }
+
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y) {
+        float t;
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleHoney(seed + i, x, y));
+            correction += (exp *= 0.5);
+            sum += spike * exp;
+            t = x;
+            x = y * lacunarity;
+            y = t * lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
+
+    public float getHoneyFractal(float x, float y, float z) {
+        x *= frequency;
+        y *= frequency;
+        z *= frequency;
+
+        switch (fractalType) {
+            case FBM:
+                return singleHoneyFractalFBM(seed, x, y, z);
+            case BILLOW:
+                return singleHoneyFractalBillow(seed, x, y, z);
+            case RIDGED_MULTI:
+                return singleHoneyFractalRidgedMulti(seed, x, y, z);
             default:
                 return 0;
         }
     }
 
-    public void gradientPerturb3(float[] v3) {
-        singleGradientPerturb3(seed, gradientPerturbAmp, frequency, v3);
-    }
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z) {
+        float sum = singleHoney(seed, x, y, z);
+        float amp = 1;
 
-    public void gradientPerturbFractal3(float[] v3) {
-        int seed = this.seed;
-        float amp = gradientPerturbAmp * fractalBounding;
-        float freq = frequency;
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
 
-        singleGradientPerturb3(seed, amp, frequency, v3);
+            amp *= gain;
+            sum += singleHoney(++seed, x, y, z) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z) {
+        float sum = Math.abs(singleHoney(seed, x, y, z)) * 2 - 1;
+        float amp = 1;
 
         for (int i = 1; i < octaves; i++) {
-            freq *= lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+
             amp *= gain;
-            singleGradientPerturb3(++seed, amp, freq, v3);
+            sum += (Math.abs(singleHoney(++seed, x, y, z)) * 2 - 1) * amp;
         }
+
+        return sum * fractalBounding;
     }
 
-    private void singleGradientPerturb3(int seed, float perturbAmp, float frequency, float[] v3) {
-        float xf = v3[0] * frequency;
-        float yf = v3[1] * frequency;
-        float zf = v3[2] * frequency;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z) {
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z));
+            correction += (exp *= 0.5);
+            sum += spike * exp;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
 
-        int x0 = fastFloor(xf);
-        int y0 = fastFloor(yf);
-        int z0 = fastFloor(zf);
-        int x1 = x0 + 1;
-        int y1 = y0 + 1;
-        int z1 = z0 + 1;
+    public float getHoney(float x, float y, float z) {
+        return singleHoney(seed, x * frequency, y * frequency, z * frequency);
+    }
 
-        float xs, ys, zs;
+    public float singleHoney(int seed, float x, float y, float z){
+        // value noise setup, as in singleValue()
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        float xv = x - xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        float yv = y - yFloor;
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        float zv = z - zFloor;
         switch (interpolation) {
-            default:
-            case LINEAR:
-                xs = xf - x0;
-                ys = yf - y0;
-                zs = zf - z0;
-                break;
             case HERMITE:
-                xs = hermiteInterpolator(xf - x0);
-                ys = hermiteInterpolator(yf - y0);
-                zs = hermiteInterpolator(zf - z0);
+                xv = hermiteInterpolator(xv);
+                yv = hermiteInterpolator(yv);
+                zv = hermiteInterpolator(zv);
                 break;
             case QUINTIC:
-                xs = quinticInterpolator(xf - x0);
-                ys = quinticInterpolator(yf - y0);
-                zs = quinticInterpolator(zf - z0);
+                xv = quinticInterpolator(xv);
+                yv = quinticInterpolator(yv);
+                zv = quinticInterpolator(zv);
                 break;
         }
+        xFloor *= 0xDB4F1;
+        yFloor *= 0xBBE05;
+        zFloor *= 0xA0F2F;
+        final int vs = seed ^ 0x9E3779B9;
 
-        Float3 vec0 = CELL_3D[hash256(x0, y0, z0, seed)];
-        Float3 vec1 = CELL_3D[hash256(x1, y0, z0, seed)];
-
-        float lx0x = lerp(vec0.x, vec1.x, xs);
-        float ly0x = lerp(vec0.y, vec1.y, xs);
-        float lz0x = lerp(vec0.z, vec1.z, xs);
-
-        vec0 = CELL_3D[hash256(x0, y1, z0, seed)];
-        vec1 = CELL_3D[hash256(x1, y1, z0, seed)];
-
-        float lx1x = lerp(vec0.x, vec1.x, xs);
-        float ly1x = lerp(vec0.y, vec1.y, xs);
-        float lz1x = lerp(vec0.z, vec1.z, xs);
-
-        float lx0y = lerp(lx0x, lx1x, ys);
-        float ly0y = lerp(ly0x, ly1x, ys);
-        float lz0y = lerp(lz0x, lz1x, ys);
+        // simplex noise, as in singleSimplex()
+        float t = (x + y + z) * F3f;
+        int i = fastFloor(x + t);
+        int j = fastFloor(y + t);
+        int k = fastFloor(z + t);
 
-        vec0 = CELL_3D[hash256(x0, y0, z1, seed)];
-        vec1 = CELL_3D[hash256(x1, y0, z1, seed)];
+        t = (i + j + k) * G3f;
+        float x0 = x - (i - t);
+        float y0 = y - (j - t);
+        float z0 = z - (k - t);
 
-        lx0x = lerp(vec0.x, vec1.x, xs);
-        ly0x = lerp(vec0.y, vec1.y, xs);
-        lz0x = lerp(vec0.z, vec1.z, xs);
+        int i1, j1, k1;
+        int i2, j2, k2;
 
-        vec0 = CELL_3D[hash256(x0, y1, z1, seed)];
-        vec1 = CELL_3D[hash256(x1, y1, z1, seed)];
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } else if (x0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } else // x0 < z0
+            {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            }
+        } else // x0 < y0
+        {
+            if (y0 < z0) {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else // x0 >= z0
+            {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            }
+        }
 
-        lx1x = lerp(vec0.x, vec1.x, xs);
-        ly1x = lerp(vec0.y, vec1.y, xs);
-        lz1x = lerp(vec0.z, vec1.z, xs);
+        float x1 = x0 - i1 + G3f;
+        float y1 = y0 - j1 + G3f;
+        float z1 = z0 - k1 + G3f;
+        float x2 = x0 - i2 + F3f;
+        float y2 = y0 - j2 + F3f;
+        float z2 = z0 - k2 + F3f;
+        float x3 = x0 - 0.5f;
+        float y3 = y0 - 0.5f;
+        float z3 = z0 - 0.5f;
 
-        v3[0] += lerp(lx0y, lerp(lx0x, lx1x, ys), zs) * perturbAmp;
-        v3[1] += lerp(ly0y, lerp(ly0x, ly1x, ys), zs) * perturbAmp;
-        v3[2] += lerp(lz0y, lerp(lz0x, lz1x, ys), zs) * perturbAmp;
-    }
+        float n = 0;
 
-    public void gradientPerturb2(float[] v2) {
-        singleGradientPerturb2(seed, gradientPerturbAmp, frequency, v2);
-    }
+        t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i, j, k, x0, y0, z0);
+        }
 
-    public void gradientPerturbFractal2(float[] v2) {
-        int seed = this.seed;
-        float amp = gradientPerturbAmp * fractalBounding;
-        float freq = frequency;
+        t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + i1, j + j1, k + k1, x1, y1, z1);
+        }
 
-        singleGradientPerturb2(seed, amp, frequency, v2);
+        t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + i2, j + j2, k + k2, x2, y2, z2);
+        }
 
-        for (int i = 1; i < octaves; i++) {
-            freq *= lacunarity;
-            amp *= gain;
-            singleGradientPerturb2(++seed, amp, freq, v2);
+        t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+        if (t > 0)  {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i + 1, j + 1, k + 1, x3, y3, z3);
         }
+        final float value = ((1 - zv) *
+            ((1 - yv) * ((1 - xv) * hashPart1024(xFloor, yFloor, zFloor, vs) + xv * hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor, vs))
+                + yv * ((1 - xv) * hashPart1024(xFloor, yFloor + 0xBBE05, zFloor, vs) + xv * hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor, vs)))
+            + zv *
+            ((1 - yv) * ((1 - xv) * hashPart1024(xFloor, yFloor, zFloor + 0xA0F2F, vs) + xv * hashPart1024(xFloor + 0xDB4F1, yFloor, zFloor + 0xA0F2F, vs))
+                + yv * ((1 - xv) * hashPart1024(xFloor, yFloor + 0xBBE05, zFloor + 0xA0F2F, vs) + xv * hashPart1024(xFloor + 0xDB4F1, yFloor + 0xBBE05, zFloor + 0xA0F2F, vs)))
+        ) * 0x1p-9f;
+        final float result = (31.5f * n + value) * 0.5f + 1f;
+        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
     }
 
-    private void singleGradientPerturb2(int seed, float perturbAmp, float frequency, float[] v2) {
-        float xf = v2[0] * frequency;
-        float yf = v2[1] * frequency;
 
-        int x0 = fastFloor(xf);
-        int y0 = fastFloor(yf);
-        int x1 = x0 + 1;
-        int y1 = y0 + 1;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w) {
+        float sum = singleHoney(seed, x, y, z, w);
+        float amp = 1;
 
-        float xs, ys;
-        switch (interpolation) {
-            default:
-            case LINEAR:
-                xs = xf - x0;
-                ys = yf - y0;
-                break;
-            case HERMITE:
-                xs = hermiteInterpolator(xf - x0);
-                ys = hermiteInterpolator(yf - y0);
-                break;
-            case QUINTIC:
-                xs = quinticInterpolator(xf - x0);
-                ys = quinticInterpolator(yf - y0);
-                break;
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+
+            amp *= gain;
+            sum += singleHoney(++seed, x, y, z, w) * amp;
         }
 
-        Float2 vec0 = CELL_2D[hash256(x0, y0, seed)];
-        Float2 vec1 = CELL_2D[hash256(x1, y0, seed)];
+        return sum * fractalBounding;
+    }
 
-        float lx0x = lerp(vec0.x, vec1.x, xs);
-        float ly0x = lerp(vec0.y, vec1.y, xs);
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w) {
+        float sum = Math.abs(singleHoney(seed, x, y, z, w)) * 2 - 1;
+        float amp = 1;
 
-        vec0 = CELL_2D[hash256(x0, y1, seed)];
-        vec1 = CELL_2D[hash256(x1, y1, seed)];
+        for (int i = 1; i < octaves; i++) {
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
 
-        float lx1x = lerp(vec0.x, vec1.x, xs);
-        float ly1x = lerp(vec0.y, vec1.y, xs);
+            amp *= gain;
+            sum += (Math.abs(singleHoney(++seed, x, y, z, w)) * 2 - 1) * amp;
+        }
 
-        v2[0] += lerp(lx0x, lx1x, ys) * perturbAmp;
-        v2[1] += lerp(ly0x, ly1x, ys) * perturbAmp;
+        return sum * fractalBounding;
     }
 
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w) {
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleHoney(seed + i, x, y,  z, w));
+            correction += (exp *= 0.5);
+            sum += spike * exp;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
 
-    public float getHoney(float x, float y) {
-        return singleHoney(seed, x * frequency, y * frequency);
+    public float getHoney(float x, float y, float z, float w) {
+        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency);
     }
 
-    public float singleHoney(int seed, float x, float y) {
-        final float result = (singleSimplex(seed, x, y) + singleValue(seed ^ 0x9E3779B9, x, y)) * 0.5f + 1f;
+    public float singleHoney(int seed, float x, float y, float z, float w) {
+        final float result = (singleSimplex(seed, x, y, z, w) + singleValue(seed ^ 0x9E3779B9, x, y, z, w)) * 0.5f + 1f;
         return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
     }
-
-    public float getHoneyFractal(float x, float y) {
+    public float getHoneyFractal(float x, float y, float z, float w, float u) {
         x *= frequency;
         y *= frequency;
+        z *= frequency;
+        w *= frequency;
+        u *= frequency;
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y);
+                return singleHoneyFractalFBM(seed, x, y, z, w, u);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y);
+                return singleHoneyFractalBillow(seed, x, y, z, w, u);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y);
+                return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y) {
-        int seed = this.seed;
-        float sum = singleHoney(seed, x, y);
-        float amp = 1, t;
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w, float u) {
+        float sum = singleHoney(seed, x, y, z, w, u);
+        float amp = 1;
 
         for (int i = 1; i < octaves; i++) {
-            t = x;
-            x = y * lacunarity;
-            y = t * lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
 
             amp *= gain;
-            sum += singleHoney(seed + i, x, y) * amp;
+            sum += singleHoney(seed + i, x, y, z, w, u) * amp;
         }
 
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y) {
-        int seed = this.seed;
-        float sum = Math.abs(singleHoney(seed, x, y)) * 2 - 1;
-        float amp = 1, t;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w, float u) {
+        float sum = Math.abs(singleHoney(seed, x, y, z, w, u)) * 2 - 1;
+        float amp = 1;
 
         for (int i = 1; i < octaves; i++) {
-            t = x;
-            x = y * lacunarity;
-            y = t * lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
 
             amp *= gain;
-            sum += (Math.abs(singleHoney(++seed, x, y)) * 2 - 1) * amp;
+            sum += (Math.abs(singleHoney(seed + i, x, y, z, w, u)) * 2 - 1) * amp;
         }
 
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y) {
-        int seed = this.seed;
-        float t;
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w, float u) {
         float sum = 0f, exp = 2f, correction = 0f, spike;
         for (int i = 0; i < octaves; i++) {
-            spike = 1f - Math.abs(singleHoney(seed + i, x, y));
+            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u));
             correction += (exp *= 0.5);
             sum += spike * exp;
-            t = x;
-            x = y * lacunarity;
-            y = t * lacunarity;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
         }
         return sum * 2f / correction - 1f;
     }
 
-    public float getHoneyFractal(float x, float y, float z) {
+    public float getHoney(float x, float y, float z, float w, float u) {
+        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
+    }
+
+    public float singleHoney(int seed, float x, float y, float z, float w, float u) {
+        final float result = (singleSimplex(seed, x, y, z, w, u) + singleValue(seed ^ 0x9E3779B9, x, y, z, w, u)) * 0.5f + 1f;
+        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+    }
+
+    public float getHoneyFractal(float x, float y, float z, float w, float u, float v) {
         x *= frequency;
         y *= frequency;
         z *= frequency;
+        w *= frequency;
+        u *= frequency;
+        v *= frequency;
 
         switch (fractalType) {
             case FBM:
-                return singleHoneyFractalFBM(x, y, z);
+                return singleHoneyFractalFBM(seed, x, y, z, w, u, v);
             case BILLOW:
-                return singleHoneyFractalBillow(x, y, z);
+                return singleHoneyFractalBillow(seed, x, y, z, w, u, v);
             case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z);
+                return singleHoneyFractalRidgedMulti(seed, x, y, z, w, u, v);
             default:
                 return 0;
         }
     }
 
-    private float singleHoneyFractalFBM(float x, float y, float z) {
-        int seed = this.seed;
-        float sum = singleHoney(seed, x, y, z);
+    private float singleHoneyFractalFBM(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = singleHoney(seed, x, y, z, w, u, v);
         float amp = 1;
 
         for (int i = 1; i < octaves; i++) {
             x *= lacunarity;
             y *= lacunarity;
             z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
 
             amp *= gain;
-            sum += singleHoney(++seed, x, y, z) * amp;
+            sum += singleHoney(++seed, x, y, z, w, u, v) * amp;
         }
 
         return sum * fractalBounding;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z) {
-        int seed = this.seed;
-        float sum = Math.abs(singleHoney(seed, x, y, z)) * 2 - 1;
+    private float singleHoneyFractalBillow(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = Math.abs(singleHoney(seed, x, y, z, w, u, v)) * 2 - 1;
         float amp = 1;
 
         for (int i = 1; i < octaves; i++) {
             x *= lacunarity;
             y *= lacunarity;
             z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
 
             amp *= gain;
-            sum += (Math.abs(singleHoney(++seed, x, y, z)) * 2 - 1) * amp;
+            sum += (Math.abs(singleHoney(++seed, x, y, z, w, u, v)) * 2 - 1) * amp;
+        }
+
+        return sum * fractalBounding;
+    }
+
+    private float singleHoneyFractalRidgedMulti(int seed, float x, float y, float z, float w, float u, float v) {
+        float sum = 0f, exp = 2f, correction = 0f, spike;
+        for (int i = 0; i < octaves; i++) {
+            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u, v));
+            correction += (exp *= 0.5);
+            sum += spike * exp;
+            x *= lacunarity;
+            y *= lacunarity;
+            z *= lacunarity;
+            w *= lacunarity;
+            u *= lacunarity;
+            v *= lacunarity;
+        }
+        return sum * 2f / correction - 1f;
+    }
+
+    public float getHoney(float x, float y, float z, float w, float u, float v) {
+        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+    }
+
+    public float singleHoney(int seed, float x, float y, float z, float w, float u, float v) {
+        final float result = (singleSimplex(seed, x, y, z, w, u, v) + singleValue(seed ^ 0x9E3779B9, x, y, z, w, u, v)) * 0.5f + 1f;
+        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+    }
+
+
+
+
+
+
+
+
+
+
+
+
+
+
+    // Tileable Noise
+
+    /**
+     * Wraps the lattice coordinate {@code i} into the range 0 (inclusive) to {@code period} (exclusive).
+     */
+    private static int wrapLattice(int i, int period) {
+        return (i %= period) < 0 ? i + period : i;
+    }
+
+    /**
+     * Given a lattice coordinate already wrapped by {@link #wrapLattice(int, int)}, gets the next coordinate, wrapped.
+     */
+    private static int nextLattice(int i, int period) {
+        return ++i == period ? 0 : i;
+    }
+
+    /**
+     * Like {@link #singleValue(int, float, float)}, but the lattice repeats every {@code periodX} units on x and every
+     * {@code periodY} units on y, so the result tiles over that area. Coordinates are in lattice units, so frequency
+     * is not applied here.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableValue(int seed, float x, float y, int periodX, int periodY) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        switch (interpolation) {
+            case HERMITE:
+                x = hermiteInterpolator(x);
+                y = hermiteInterpolator(y);
+                break;
+            case QUINTIC:
+                x = quinticInterpolator(x);
+                y = quinticInterpolator(y);
+                break;
+        }
+        xFloor = wrapLattice(xFloor, periodX);
+        yFloor = wrapLattice(yFloor, periodY);
+        final int x0 = xFloor * 0xD1B55, x1 = nextLattice(xFloor, periodX) * 0xD1B55;
+        final int y0 = yFloor * 0xABC99, y1 = nextLattice(yFloor, periodY) * 0xABC99;
+        return ((1 - y) * ((1 - x) * hashPart1024(x0, y0, seed) + x * hashPart1024(x1, y0, seed))
+            + y * ((1 - x) * hashPart1024(x0, y1, seed) + x * hashPart1024(x1, y1, seed)))
+            * 0x1p-9f;
+    }
+
+    /**
+     * Like {@link #singleValue(int, float, float, float)}, but the lattice repeats every {@code periodX},
+     * {@code periodY}, and {@code periodZ} units on the x, y, and z axes.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param z z position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @param periodZ how many lattice units on z before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableValue(int seed, float x, float y, float z, int periodX, int periodY, int periodZ) {
+        int xFloor = x >= 0 ? (int) x : (int) x - 1;
+        x -= xFloor;
+        int yFloor = y >= 0 ? (int) y : (int) y - 1;
+        y -= yFloor;
+        int zFloor = z >= 0 ? (int) z : (int) z - 1;
+        z -= zFloor;
+        switch (interpolation) {
+            case HERMITE:
+                x = hermiteInterpolator(x);
+                y = hermiteInterpolator(y);
+                z = hermiteInterpolator(z);
+                break;
+            case QUINTIC:
+                x = quinticInterpolator(x);
+                y = quinticInterpolator(y);
+                z = quinticInterpolator(z);
+                break;
+        }
+        xFloor = wrapLattice(xFloor, periodX);
+        yFloor = wrapLattice(yFloor, periodY);
+        zFloor = wrapLattice(zFloor, periodZ);
+        final int x0 = xFloor * 0xDB4F1, x1 = nextLattice(xFloor, periodX) * 0xDB4F1;
+        final int y0 = yFloor * 0xBBE05, y1 = nextLattice(yFloor, periodY) * 0xBBE05;
+        final int z0 = zFloor * 0xA0F2F, z1 = nextLattice(zFloor, periodZ) * 0xA0F2F;
+        return ((1 - z) *
+            ((1 - y) * ((1 - x) * hashPart1024(x0, y0, z0, seed) + x * hashPart1024(x1, y0, z0, seed))
+                + y * ((1 - x) * hashPart1024(x0, y1, z0, seed) + x * hashPart1024(x1, y1, z0, seed)))
+            + z *
+            ((1 - y) * ((1 - x) * hashPart1024(x0, y0, z1, seed) + x * hashPart1024(x1, y0, z1, seed))
+                + y * ((1 - x) * hashPart1024(x0, y1, z1, seed) + x * hashPart1024(x1, y1, z1, seed)))
+        ) * 0x1p-9f;
+    }
+
+    /**
+     * Like {@link #singlePerlin(int, float, float)}, but the lattice repeats every {@code periodX} units on x and
+     * every {@code periodY} units on y, so the result tiles over that area.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileablePerlin(int seed, float x, float y, int periodX, int periodY) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+
+        float xs, ys;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xd0;
+                ys = yd0;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                break;
         }
 
-        return sum * fractalBounding;
-    }
+        x0 = wrapLattice(x0, periodX);
+        y0 = wrapLattice(y0, periodY);
+        final int x1 = nextLattice(x0, periodX);
+        final int y1 = nextLattice(y0, periodY);
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z) {
-        int seed = this.seed;
-        float sum = 0f, exp = 2f, correction = 0f, spike;
-        for (int i = 0; i < octaves; i++) {
-            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z));
-            correction += (exp *= 0.5);
-            sum += spike * exp;
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-        }
-        return sum * 2f / correction - 1f;
-    }
+        final float xf0 = lerp(gradCoord2D(seed, x0, y0, xd0, yd0), gradCoord2D(seed, x1, y0, xd1, yd0), xs);
+        final float xf1 = lerp(gradCoord2D(seed, x0, y1, xd0, yd1), gradCoord2D(seed, x1, y1, xd1, yd1), xs);
 
-    public float getHoney(float x, float y, float z) {
-        return singleHoney(seed, x * frequency, y * frequency, z * frequency);
+        return lerp(xf0, xf1, ys);
     }
 
-    public float singleHoney(int seed, float x, float y, float z){
-        final float result = (singleSimplex(seed, x, y, z) + singleValue(seed ^ 0x9E3779B9, x, y, z)) * 0.5f + 1f;
-        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
-    }
+    /**
+     * Like {@link #singlePerlin(int, float, float, float)}, but the lattice repeats every {@code periodX},
+     * {@code periodY}, and {@code periodZ} units on the x, y, and z axes.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param z z position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @param periodZ how many lattice units on z before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileablePerlin(int seed, float x, float y, float z, int periodX, int periodY, int periodZ) {
+        int x0 = fastFloor(x);
+        int y0 = fastFloor(y);
+        int z0 = fastFloor(z);
 
+        final float xd0 = x - x0;
+        final float yd0 = y - y0;
+        final float zd0 = z - z0;
+        final float xd1 = xd0 - 1;
+        final float yd1 = yd0 - 1;
+        final float zd1 = zd0 - 1;
 
-    private float singleHoneyFractalFBM(float x, float y, float z, float w) {
-        int seed = this.seed;
-        float sum = singleHoney(seed, x, y, z, w);
-        float amp = 1;
+        float xs, ys, zs;
+        switch (interpolation) {
+            default:
+            case LINEAR:
+                xs = xd0;
+                ys = yd0;
+                zs = zd0;
+                break;
+            case HERMITE:
+                xs = hermiteInterpolator(xd0);
+                ys = hermiteInterpolator(yd0);
+                zs = hermiteInterpolator(zd0);
+                break;
+            case QUINTIC:
+                xs = quinticInterpolator(xd0);
+                ys = quinticInterpolator(yd0);
+                zs = quinticInterpolator(zd0);
+                break;
+        }
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
+        x0 = wrapLattice(x0, periodX);
+        y0 = wrapLattice(y0, periodY);
+        z0 = wrapLattice(z0, periodZ);
+        final int x1 = nextLattice(x0, periodX);
+        final int y1 = nextLattice(y0, periodY);
+        final int z1 = nextLattice(z0, periodZ);
 
-            amp *= gain;
-            sum += singleHoney(++seed, x, y, z, w) * amp;
-        }
+        final float xf00 = lerp(gradCoord3D(seed, x0, y0, z0, xd0, yd0, zd0), gradCoord3D(seed, x1, y0, z0, xd1, yd0, zd0), xs);
+        final float xf10 = lerp(gradCoord3D(seed, x0, y1, z0, xd0, yd1, zd0), gradCoord3D(seed, x1, y1, z0, xd1, yd1, zd0), xs);
+        final float xf01 = lerp(gradCoord3D(seed, x0, y0, z1, xd0, yd0, zd1), gradCoord3D(seed, x1, y0, z1, xd1, yd0, zd1), xs);
+        final float xf11 = lerp(gradCoord3D(seed, x0, y1, z1, xd0, yd1, zd1), gradCoord3D(seed, x1, y1, z1, xd1, yd1, zd1), xs);
 
-        return sum * fractalBounding;
+        final float yf0 = lerp(xf00, xf10, ys);
+        final float yf1 = lerp(xf01, xf11, ys);
+
+        return lerp(yf0, yf1, zs);
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w) {
-        int seed = this.seed;
-        float sum = Math.abs(singleHoney(seed, x, y, z, w)) * 2 - 1;
-        float amp = 1;
+    /**
+     * Like {@link #singleCubic(int, float, float)}, but the lattice repeats every {@code periodX} units on x and
+     * every {@code periodY} units on y, so the result tiles over that area.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableCubic(int seed, float x, float y, int periodX, int periodY) {
+        final int xf = fastFloor(x);
+        final int yf = fastFloor(y);
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
+        final float xs = x - (float) xf;
+        final float ys = y - (float) yf;
 
-            amp *= gain;
-            sum += (Math.abs(singleHoney(++seed, x, y, z, w)) * 2 - 1) * amp;
-        }
+        final int x1 = wrapLattice(xf, periodX), x0 = (x1 == 0 ? periodX : x1) - 1;
+        final int x2 = nextLattice(x1, periodX), x3 = nextLattice(x2, periodX);
+        final int y1 = wrapLattice(yf, periodY), y0 = (y1 == 0 ? periodY : y1) - 1;
+        final int y2 = nextLattice(y1, periodY), y3 = nextLattice(y2, periodY);
 
-        return sum * fractalBounding;
+        return cubicLerp(
+                cubicLerp(valCoord2D(seed, x0, y0), valCoord2D(seed, x1, y0), valCoord2D(seed, x2, y0), valCoord2D(seed, x3, y0),
+                        xs),
+                cubicLerp(valCoord2D(seed, x0, y1), valCoord2D(seed, x1, y1), valCoord2D(seed, x2, y1), valCoord2D(seed, x3, y1),
+                        xs),
+                cubicLerp(valCoord2D(seed, x0, y2), valCoord2D(seed, x1, y2), valCoord2D(seed, x2, y2), valCoord2D(seed, x3, y2),
+                        xs),
+                cubicLerp(valCoord2D(seed, x0, y3), valCoord2D(seed, x1, y3), valCoord2D(seed, x2, y3), valCoord2D(seed, x3, y3),
+                        xs),
+                ys) * CUBIC_2D_BOUNDING;
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w) {
-        int seed = this.seed;
-        float sum = 0f, exp = 2f, correction = 0f, spike;
-        for (int i = 0; i < octaves; i++) {
-            spike = 1f - Math.abs(singleHoney(seed + i, x, y,  z, w));
-            correction += (exp *= 0.5);
-            sum += spike * exp;
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-        }
-        return sum * 2f / correction - 1f;
-    }
+    /**
+     * Like {@link #singleCubic(int, float, float, float)}, but the lattice repeats every {@code periodX},
+     * {@code periodY}, and {@code periodZ} units on the x, y, and z axes.
+     * @param seed the seed to use
+     * @param x x position, in lattice units
+     * @param y y position, in lattice units
+     * @param z z position, in lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @param periodZ how many lattice units on z before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableCubic(int seed, float x, float y, float z, int periodX, int periodY, int periodZ) {
+        final int xf = fastFloor(x);
+        final int yf = fastFloor(y);
+        final int zf = fastFloor(z);
 
-    public float getHoney(float x, float y, float z, float w) {
-        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency);
-    }
+        final float xs = x - (float) xf;
+        final float ys = y - (float) yf;
+        final float zs = z - (float) zf;
 
-    public float singleHoney(int seed, float x, float y, float z, float w) {
-        final float result = (singleSimplex(seed, x, y, z, w) + singleValue(seed ^ 0x9E3779B9, x, y, z, w)) * 0.5f + 1f;
-        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
-    }
-    public float getHoneyFractal(float x, float y, float z, float w, float u) {
-        x *= frequency;
-        y *= frequency;
-        z *= frequency;
-        w *= frequency;
-        u *= frequency;
+        final int x1 = wrapLattice(xf, periodX), x0 = (x1 == 0 ? periodX : x1) - 1;
+        final int x2 = nextLattice(x1, periodX), x3 = nextLattice(x2, periodX);
+        final int y1 = wrapLattice(yf, periodY), y0 = (y1 == 0 ? periodY : y1) - 1;
+        final int y2 = nextLattice(y1, periodY), y3 = nextLattice(y2, periodY);
+        final int z1 = wrapLattice(zf, periodZ), z0 = (z1 == 0 ? periodZ : z1) - 1;
+        final int z2 = nextLattice(z1, periodZ), z3 = nextLattice(z2, periodZ);
 
-        switch (fractalType) {
-            case FBM:
-                return singleHoneyFractalFBM(x, y, z, w, u);
-            case BILLOW:
-                return singleHoneyFractalBillow(x, y, z, w, u);
-            case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z, w, u);
-            default:
-                return 0;
-        }
+        return cubicLerp(
+            cubicLerp(
+                cubicLerp(valCoord3D(seed, x0, y0, z0), valCoord3D(seed, x1, y0, z0), valCoord3D(seed, x2, y0, z0), valCoord3D(seed, x3, y0, z0), xs),
+                cubicLerp(valCoord3D(seed, x0, y1, z0), valCoord3D(seed, x1, y1, z0), valCoord3D(seed, x2, y1, z0), valCoord3D(seed, x3, y1, z0), xs),
+                cubicLerp(valCoord3D(seed, x0, y2, z0), valCoord3D(seed, x1, y2, z0), valCoord3D(seed, x2, y2, z0), valCoord3D(seed, x3, y2, z0), xs),
+                cubicLerp(valCoord3D(seed, x0, y3, z0), valCoord3D(seed, x1, y3, z0), valCoord3D(seed, x2, y3, z0), valCoord3D(seed, x3, y3, z0), xs),
+                ys),
+            cubicLerp(
+                cubicLerp(valCoord3D(seed, x0, y0, z1), valCoord3D(seed, x1, y0, z1), valCoord3D(seed, x2, y0, z1), valCoord3D(seed, x3, y0, z1), xs),
+                cubicLerp(valCoord3D(seed, x0, y1, z1), valCoord3D(seed, x1, y1, z1), valCoord3D(seed, x2, y1, z1), valCoord3D(seed, x3, y1, z1), xs),
+                cubicLerp(valCoord3D(seed, x0, y2, z1), valCoord3D(seed, x1, y2, z1), valCoord3D(seed, x2, y2, z1), valCoord3D(seed, x3, y2, z1), xs),
+                cubicLerp(valCoord3D(seed, x0, y3, z1), valCoord3D(seed, x1, y3, z1), valCoord3D(seed, x2, y3, z1), valCoord3D(seed, x3, y3, z1), xs),
+                ys),
+            cubicLerp(
+                cubicLerp(valCoord3D(seed, x0, y0, z2), valCoord3D(seed, x1, y0, z2), valCoord3D(seed, x2, y0, z2), valCoord3D(seed, x3, y0, z2), xs),
+                cubicLerp(valCoord3D(seed, x0, y1, z2), valCoord3D(seed, x1, y1, z2), valCoord3D(seed, x2, y1, z2), valCoord3D(seed, x3, y1, z2), xs),
+                cubicLerp(valCoord3D(seed, x0, y2, z2), valCoord3D(seed, x1, y2, z2), valCoord3D(seed, x2, y2, z2), valCoord3D(seed, x3, y2, z2), xs),
+                cubicLerp(valCoord3D(seed, x0, y3, z2), valCoord3D(seed, x1, y3, z2), valCoord3D(seed, x2, y3, z2), valCoord3D(seed, x3, y3, z2), xs),
+                ys),
+            cubicLerp(
+                cubicLerp(valCoord3D(seed, x0, y0, z3), valCoord3D(seed, x1, y0, z3), valCoord3D(seed, x2, y0, z3), valCoord3D(seed, x3, y0, z3), xs),
+                cubicLerp(valCoord3D(seed, x0, y1, z3), valCoord3D(seed, x1, y1, z3), valCoord3D(seed, x2, y1, z3), valCoord3D(seed, x3, y1, z3), xs),
+                cubicLerp(valCoord3D(seed, x0, y2, z3), valCoord3D(seed, x1, y2, z3), valCoord3D(seed, x2, y2, z3), valCoord3D(seed, x3, y2, z3), xs),
+                cubicLerp(valCoord3D(seed, x0, y3, z3), valCoord3D(seed, x1, y3, z3), valCoord3D(seed, x2, y3, z3), valCoord3D(seed, x3, y3, z3), xs),
+                ys),
+            zs) * CUBIC_3D_BOUNDING;
     }
 
-    private float singleHoneyFractalFBM(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
-        float sum = singleHoney(seed, x, y, z, w, u);
-        float amp = 1;
+    /**
+     * Simplex noise whose lattice repeats every {@code periodX} units on x and every {@code periodY} units on y.
+     * The simplex lattice is skewed, so a square period can't line up with it in the usual coordinates; instead, x
+     * and y here are treated as coordinates in the skewed space, where the lattice is square, and are unskewed
+     * before the usual simplex corners are evaluated. That means this is not the same as
+     * {@link #singleSimplex(int, float, float)}; it is stretched somewhat along the diagonal, and its features are
+     * a little larger at the same frequency.
+     * @param seed the seed to use
+     * @param x x position, in skewed lattice units
+     * @param y y position, in skewed lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableSimplex(int seed, float x, float y, int periodX, int periodY) {
+        int i = fastFloor(x);
+        int j = fastFloor(y);
+        x -= i;
+        y -= j;
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
+        float t = (x + y) * G2f;
+        final float x0 = x - t;
+        final float y0 = y - t;
 
-            amp *= gain;
-            sum += singleHoney(seed + i, x, y, z, w, u) * amp;
-        }
+        final boolean xFirst = x0 > y0;
 
-        return sum * fractalBounding;
-    }
+        final float x1 = x0 - (xFirst ? 1 : 0) + G2f;
+        final float y1 = y0 - (xFirst ? 0 : 1) + G2f;
+        final float x2 = x0 - 1 + H2f;
+        final float y2 = y0 - 1 + H2f;
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
-        float sum = Math.abs(singleHoney(seed, x, y, z, w, u)) * 2 - 1;
-        float amp = 1;
+        i = wrapLattice(i, periodX);
+        j = wrapLattice(j, periodY);
+        final int iN = nextLattice(i, periodX);
+        final int jN = nextLattice(j, periodY);
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
+        float n = 0f;
 
-            amp *= gain;
-            sum += (Math.abs(singleHoney(seed + i, x, y, z, w, u)) * 2 - 1) * amp;
+        t = 0.5f - x0 * x0 - y0 * y0;
+        if (t >= 0) {
+            t *= t;
+            n += t * t * gradCoord2D(seed, i, j, x0, y0);
         }
 
-        return sum * fractalBounding;
-    }
+        t = 0.5f - x1 * x1 - y1 * y1;
+        if (t > 0) {
+            t *= t;
+            n += t * t * (xFirst ? gradCoord2D(seed, iN, j, x1, y1) : gradCoord2D(seed, i, jN, x1, y1));
+        }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w, float u) {
-        final int seed = this.seed;
-        float sum = 0f, exp = 2f, correction = 0f, spike;
-        for (int i = 0; i < octaves; i++) {
-            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u));
-            correction += (exp *= 0.5);
-            sum += spike * exp;
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
+        t = 0.5f - x2 * x2 - y2 * y2;
+        if (t > 0)  {
+            t *= t;
+            n += t * t * gradCoord2D(seed, iN, jN, x2, y2);
         }
-        return sum * 2f / correction - 1f;
+        return n * 99.20689070704672f;
     }
 
-    public float getHoney(float x, float y, float z, float w, float u) {
-        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency);
-    }
+    /**
+     * Simplex noise whose lattice repeats every {@code periodX}, {@code periodY}, and {@code periodZ} units on the x,
+     * y, and z axes. Like {@link #singleTileableSimplex(int, float, float, int, int)}, the coordinates are in the
+     * skewed space where the simplex lattice is cubic, so this is stretched somewhat compared to
+     * {@link #singleSimplex(int, float, float, float)}.
+     * @param seed the seed to use
+     * @param x x position, in skewed lattice units
+     * @param y y position, in skewed lattice units
+     * @param z z position, in skewed lattice units
+     * @param periodX how many lattice units on x before the noise repeats; must be at least 1
+     * @param periodY how many lattice units on y before the noise repeats; must be at least 1
+     * @param periodZ how many lattice units on z before the noise repeats; must be at least 1
+     * @return noise from -1 to 1
+     */
+    public float singleTileableSimplex(int seed, float x, float y, float z, int periodX, int periodY, int periodZ) {
+        int i = fastFloor(x);
+        int j = fastFloor(y);
+        int k = fastFloor(z);
+        x -= i;
+        y -= j;
+        z -= k;
+
+        float t = (x + y + z) * G3f;
+        final float x0 = x - t;
+        final float y0 = y - t;
+        final float z0 = z - t;
+
+        int i1, j1, k1;
+        int i2, j2, k2;
+
+        if (x0 >= y0) {
+            if (y0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            } else if (x0 >= z0) {
+                i1 = 1;
+                j1 = 0;
+                k1 = 0;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            } else {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 1;
+                j2 = 0;
+                k2 = 1;
+            }
+        } else {
+            if (y0 < z0) {
+                i1 = 0;
+                j1 = 0;
+                k1 = 1;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else if (x0 < z0) {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 0;
+                j2 = 1;
+                k2 = 1;
+            } else {
+                i1 = 0;
+                j1 = 1;
+                k1 = 0;
+                i2 = 1;
+                j2 = 1;
+                k2 = 0;
+            }
+        }
+
+        final float x1 = x0 - i1 + G3f;
+        final float y1 = y0 - j1 + G3f;
+        final float z1 = z0 - k1 + G3f;
+        final float x2 = x0 - i2 + F3f;
+        final float y2 = y0 - j2 + F3f;
+        final float z2 = z0 - k2 + F3f;
+        final float x3 = x0 - 0.5f;
+        final float y3 = y0 - 0.5f;
+        final float z3 = z0 - 0.5f;
 
-    public float singleHoney(int seed, float x, float y, float z, float w, float u) {
-        final float result = (singleSimplex(seed, x, y, z, w, u) + singleValue(seed ^ 0x9E3779B9, x, y, z, w, u)) * 0.5f + 1f;
-        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
-    }
+        i = wrapLattice(i, periodX);
+        j = wrapLattice(j, periodY);
+        k = wrapLattice(k, periodZ);
+        final int iN = nextLattice(i, periodX);
+        final int jN = nextLattice(j, periodY);
+        final int kN = nextLattice(k, periodZ);
 
-    public float getHoneyFractal(float x, float y, float z, float w, float u, float v) {
-        x *= frequency;
-        y *= frequency;
-        z *= frequency;
-        w *= frequency;
-        u *= frequency;
-        v *= frequency;
+        float n = 0;
 
-        switch (fractalType) {
-            case FBM:
-                return singleHoneyFractalFBM(x, y, z, w, u, v);
-            case BILLOW:
-                return singleHoneyFractalBillow(x, y, z, w, u, v);
-            case RIDGED_MULTI:
-                return singleHoneyFractalRidgedMulti(x, y, z, w, u, v);
-            default:
-                return 0;
+        t = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i, j, k, x0, y0, z0);
         }
-    }
-
-    private float singleHoneyFractalFBM(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
-        float sum = singleHoney(seed, x, y, z, w, u, v);
-        float amp = 1;
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
-            v *= lacunarity;
+        t = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i1 == 0 ? i : iN, j1 == 0 ? j : jN, k1 == 0 ? k : kN, x1, y1, z1);
+        }
 
-            amp *= gain;
-            sum += singleHoney(++seed, x, y, z, w, u, v) * amp;
+        t = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+        if (t > 0) {
+            t *= t;
+            n += t * t * gradCoord3D(seed, i2 == 0 ? i : iN, j2 == 0 ? j : jN, k2 == 0 ? k : kN, x2, y2, z2);
         }
 
-        return sum * fractalBounding;
+        t = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+        if (t > 0)  {
+            t *= t;
+            n += t * t * gradCoord3D(seed, iN, jN, kN, x3, y3, z3);
+        }
+        return 31.5f * n;
     }
 
-    private float singleHoneyFractalBillow(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
-        float sum = Math.abs(singleHoney(seed, x, y, z, w, u, v)) * 2 - 1;
-        float amp = 1;
+    /**
+     * Gets one octave of the tileable version of {@code kind}, which should be {@link #VALUE}, {@link #PERLIN},
+     * {@link #SIMPLEX}, or {@link #CUBIC}.
+     */
+    private float singleTileable(int kind, int seed, float x, float y, int periodX, int periodY) {
+        switch (kind) {
+            case VALUE:
+                return singleTileableValue(seed, x, y, periodX, periodY);
+            case PERLIN:
+                return singleTileablePerlin(seed, x, y, periodX, periodY);
+            case CUBIC:
+                return singleTileableCubic(seed, x, y, periodX, periodY);
+            default:
+                return singleTileableSimplex(seed, x, y, periodX, periodY);
+        }
+    }
 
-        for (int i = 1; i < octaves; i++) {
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
-            v *= lacunarity;
+    /**
+     * Gets one octave of the tileable version of {@code kind}, which should be {@link #VALUE}, {@link #PERLIN},
+     * {@link #SIMPLEX}, or {@link #CUBIC}.
+     */
+    private float singleTileable(int kind, int seed, float x, float y, float z, int periodX, int periodY, int periodZ) {
+        switch (kind) {
+            case VALUE:
+                return singleTileableValue(seed, x, y, z, periodX, periodY, periodZ);
+            case PERLIN:
+                return singleTileablePerlin(seed, x, y, z, periodX, periodY, periodZ);
+            case CUBIC:
+                return singleTileableCubic(seed, x, y, z, periodX, periodY, periodZ);
+            default:
+                return singleTileableSimplex(seed, x, y, z, periodX, periodY, periodZ);
+        }
+    }
 
-            amp *= gain;
-            sum += (Math.abs(singleHoney(++seed, x, y, z, w, u, v)) * 2 - 1) * amp;
+    /**
+     * Gets the kind of noise {@link #tileable2D(float, float, float, float, int)} and
+     * {@link #tileable3D(float, float, float, float, float, float, int)} can produce natively for the current noise
+     * type, as one of {@link #VALUE}, {@link #PERLIN}, {@link #SIMPLEX}, or {@link #CUBIC}, or -1 if the current type
+     * has no periodic-lattice version. Simplex types only count if {@link #isTileableSimplex()} is true.
+     */
+    private int tileableKind() {
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                return VALUE;
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                return PERLIN;
+            case SIMPLEX:
+            case SIMPLEX_FRACTAL:
+                return tileableSimplex ? SIMPLEX : -1;
+            case CUBIC:
+            case CUBIC_FRACTAL:
+                return CUBIC;
+            default:
+                return -1;
         }
+    }
 
-        return sum * fractalBounding;
+    /**
+     * Gets how many lattice units fit in {@code size} world units at the given frequency, rounded to the nearest int
+     * but never less than 1.
+     */
+    private static int latticePeriod(float size, float frequency) {
+        return Math.max(1, fastRound(size * frequency));
     }
 
-    private float singleHoneyFractalRidgedMulti(float x, float y, float z, float w, float u, float v) {
-        int seed = this.seed;
-        float sum = 0f, exp = 2f, correction = 0f, spike;
+    /**
+     * Produces 2D noise that tiles every {@code sizeX} units on the x-axis and {@code sizeY} units on the y-axis, like
+     * {@link #seamless2D(float, float, float, float, int)}, but by wrapping the noise lattice instead of sampling a
+     * torus in 4D. This is only available natively for value, Perlin, and cubic noise and their fractal types, plus
+     * simplex noise if {@link #setTileableSimplex(boolean)} was set to true; other types fall back to
+     * {@link #seamless2D(float, float, float, float, int)}. Because each octave's lattice must fit a whole number of
+     * times into the tile, the frequency (and each octave's lacunarity) is rounded so that {@code sizeX * frequency}
+     * and {@code sizeY * frequency} are integers. Wrapped simplex noise uses
+     * {@link #singleTileableSimplex(int, float, float, int, int)}, which looks stretched along a diagonal compared to
+     * {@link #getSimplex(float, float)}, so it is opt-in.
+     * @param x the x-coordinate to sample
+     * @param y the y-coordinate to sample
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param sizeY the range of y to generate before repeating; must be greater than 0
+     * @param seed the noise seed
+     * @return continuous noise from -1.0 to 1.0, inclusive
+     */
+    public float tileable2D(float x, float y, float sizeX, float sizeY, int seed) {
+        final int kind = tileableKind();
+        if (kind < 0)
+            return seamless2D(x, y, sizeX, sizeY, seed);
+        x /= sizeX;
+        y /= sizeY;
+        if (noiseType == kind) {
+            final int periodX = latticePeriod(sizeX, frequency), periodY = latticePeriod(sizeY, frequency);
+            return singleTileable(kind, seed, x * periodX, y * periodY, periodX, periodY);
+        }
+        float freq = frequency, sum = 0f, amp = 1f, exp = 2f, correction = 0f, n;
         for (int i = 0; i < octaves; i++) {
-            spike = 1f - Math.abs(singleHoney(seed + i, x, y, z, w, u, v));
-            correction += (exp *= 0.5);
-            sum += spike * exp;
-            x *= lacunarity;
-            y *= lacunarity;
-            z *= lacunarity;
-            w *= lacunarity;
-            u *= lacunarity;
-            v *= lacunarity;
+            final int periodX = latticePeriod(sizeX, freq), periodY = latticePeriod(sizeY, freq);
+            n = singleTileable(kind, seed + i, x * periodX, y * periodY, periodX, periodY);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    break;
+                case RIDGED_MULTI:
+                    correction += (exp *= 0.5f);
+                    sum += (1f - Math.abs(n)) * exp;
+                    break;
+                default:
+                    sum += n * amp;
+            }
+            amp *= gain;
+            freq *= lacunarity;
         }
-        return sum * 2f / correction - 1f;
+        return fractalType == RIDGED_MULTI ? sum * 2f / correction - 1f : sum * fractalBounding;
     }
 
-    public float getHoney(float x, float y, float z, float w, float u, float v) {
-        return singleHoney(seed, x * frequency, y * frequency, z * frequency, w * frequency, u * frequency, v * frequency);
+    /**
+     * Produces 3D noise that tiles every {@code sizeX} units on the x-axis, {@code sizeY} units on the y-axis, and
+     * every {@code sizeZ} units on the z-axis, like
+     * {@link #seamless3D(float, float, float, float, float, float, int)}, but by wrapping the noise lattice instead of
+     * sampling 6D noise. The same types, rounding, and fallback apply as in
+     * {@link #tileable2D(float, float, float, float, int)}.
+     * @param x the x-coordinate to sample
+     * @param y the y-coordinate to sample
+     * @param z the z-coordinate to sample
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param sizeY the range of y to generate before repeating; must be greater than 0
+     * @param sizeZ the range of z to generate before repeating; must be greater than 0
+     * @param seed the noise seed
+     * @return continuous noise from -1.0 to 1.0, inclusive
+     */
+    public float tileable3D(float x, float y, float z, float sizeX, float sizeY, float sizeZ, int seed) {
+        final int kind = tileableKind();
+        if (kind < 0)
+            return seamless3D(x, y, z, sizeX, sizeY, sizeZ, seed);
+        x /= sizeX;
+        y /= sizeY;
+        z /= sizeZ;
+        if (noiseType == kind) {
+            final int periodX = latticePeriod(sizeX, frequency), periodY = latticePeriod(sizeY, frequency),
+                periodZ = latticePeriod(sizeZ, frequency);
+            return singleTileable(kind, seed, x * periodX, y * periodY, z * periodZ, periodX, periodY, periodZ);
+        }
+        float freq = frequency, sum = 0f, amp = 1f, exp = 2f, correction = 0f, n;
+        for (int i = 0; i < octaves; i++) {
+            final int periodX = latticePeriod(sizeX, freq), periodY = latticePeriod(sizeY, freq),
+                periodZ = latticePeriod(sizeZ, freq);
+            n = singleTileable(kind, seed + i, x * periodX, y * periodY, z * periodZ, periodX, periodY, periodZ);
+            switch (fractalType) {
+                case BILLOW:
+                    sum += (Math.abs(n) * 2 - 1) * amp;
+                    break;
+                case RIDGED_MULTI:
+                    correction += (exp *= 0.5f);
+                    sum += (1f - Math.abs(n)) * exp;
+                    break;
+                default:
+                    sum += n * amp;
+            }
+            amp *= gain;
+            freq *= lacunarity;
+        }
+        return fractalType == RIDGED_MULTI ? sum * 2f / correction - 1f : sum * fractalBounding;
     }
 
-    public float singleHoney(int seed, float x, float y, float z, float w, float u, float v) {
-        final float result = (singleSimplex(seed, x, y, z, w, u, v) + singleValue(seed ^ 0x9E3779B9, x, y, z, w, u, v)) * 0.5f + 1f;
-        return (result <= 1f) ? result * result - 1f : (result - 2f) * -(result - 2f) + 1f;
+    /**
+     * Fills {@code out} with a {@code width} by {@code height} tile of noise, row-major, that wraps seamlessly at its
+     * edges, using the current seed and settings. Each pixel is one world unit, so this is the same as calling
+     * {@link #tileable2D(float, float, float, float, int)} with the tile's width and height as its size for every
+     * pixel, but the lattice periods for each octave are only computed once.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param width the width of the tile, in pixels
+     * @param height the height of the tile, in pixels
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillTileableNoise(float[] out, int width, int height) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final int kind = tileableKind();
+        if (kind < 0) {
+            for (int y = 0, idx = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    out[idx++] = seamless2D(x, y, width, height, seed);
+                }
+            }
+            return out;
+        }
+        final int count = noiseType == kind ? 1 : octaves;
+        final int[] periodsX = new int[count], periodsY = new int[count];
+        float freq = frequency;
+        for (int i = 0; i < count; i++) {
+            periodsX[i] = latticePeriod(width, freq);
+            periodsY[i] = latticePeriod(height, freq);
+            freq *= lacunarity;
+        }
+        for (int y = 0, idx = 0; y < height; y++) {
+            final float fy = y / (float) height;
+            for (int x = 0; x < width; x++, idx++) {
+                final float fx = x / (float) width;
+                if (noiseType == kind) {
+                    out[idx] = singleTileable(kind, seed, fx * periodsX[0], fy * periodsY[0], periodsX[0], periodsY[0]);
+                    continue;
+                }
+                float sum = 0f, amp = 1f, exp = 2f, correction = 0f, n;
+                for (int i = 0; i < count; i++) {
+                    n = singleTileable(kind, seed + i, fx * periodsX[i], fy * periodsY[i], periodsX[i], periodsY[i]);
+                    switch (fractalType) {
+                        case BILLOW:
+                            sum += (Math.abs(n) * 2 - 1) * amp;
+                            break;
+                        case RIDGED_MULTI:
+                            correction += (exp *= 0.5f);
+                            sum += (1f - Math.abs(n)) * exp;
+                            break;
+                        default:
+                            sum += n * amp;
+                    }
+                    amp *= gain;
+                }
+                out[idx] = fractalType == RIDGED_MULTI ? sum * 2f / correction - 1f : sum * fractalBounding;
+            }
+        }
+        return out;
     }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
     /**
      * Produces 1D noise that "tiles" by repeating
      * its output every {@code sizeX} units that {@code x} increases or decreases by. This doesn't precalculate an
@@ -6634,6 +12711,270 @@ public class Noise {
         z /= sizeZ;
         return getNoiseWithSeed(cosTurns(x), sinTurns(x), cosTurns(y), sinTurns(y), cosTurns(z), sinTurns(z), seed);
     }
+
+    /**
+     * Gets the points on a unit circle that {@code count} evenly-stepped positions map to when they repeat every
+     * {@code size} units, the same way {@link #seamless2D(float, float, float, float, int)} maps each axis. The
+     * result holds a cos and sin pair for each position, multiplied by {@code radius} and then by {@code scale}; if
+     * {@code octaves} is more than 1, each further octave's pairs follow the previous ones, multiplied by
+     * {@link #getFractalLacunarity()} once more.
+     */
+    private float[] seamlessCircle(float start, float step, float size, int count, float radius, float scale, int octaves) {
+        final float[] circle = new float[count * octaves << 1];
+        for (int i = 0, c = 0; i < count; i++) {
+            final float p = (start + i * step) / size;
+            circle[c++] = cosTurns(p) * radius * scale;
+            circle[c++] = sinTurns(p) * radius * scale;
+        }
+        for (int c = count << 1, prev = 0; c < circle.length; c++, prev++) {
+            circle[c] = circle[prev] * lacunarity;
+        }
+        return circle;
+    }
+
+    /**
+     * Combines one octave of noise into a running fractal sum, the same way the FBM, billow, and ridged-multi
+     * fractal methods do. {@code state} holds the sum, the current amplitude, the current ridged weight, and the
+     * ridged correction, in that order, and should start as {@code {0, 1, 2, 0}}.
+     */
+    private void addOctave(float n, float[] state) {
+        switch (fractalType) {
+            case BILLOW:
+                state[0] += (Math.abs(n) * 2 - 1) * state[1];
+                state[1] *= gain;
+                break;
+            case RIDGED_MULTI:
+                state[3] += (state[2] *= 0.5f);
+                state[0] += (1f - Math.abs(n)) * state[2];
+                break;
+            default:
+                state[0] += n * state[1];
+                state[1] *= gain;
+        }
+    }
+
+    /**
+     * Fills a rectangular region of seamless 2D noise into {@code out}. This is equivalent to calling
+     * {@code seamless2D(startX + i * stepX, startY + j * stepY, sizeX, sizeY, seed)} for each column {@code i} and
+     * row {@code j} and storing the result at {@code out[j * width + i]}, but the points on the circles that each
+     * column and row map to are only calculated once, instead of once per point. For simplex noise, the frequency
+     * and each octave's lacunarity are also applied to those points up-front, so every point only has to evaluate
+     * the 4D simplex kernel.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column
+     * @param startY the y position of the first row
+     * @param stepX how much x changes between adjacent columns
+     * @param stepY how much y changes between adjacent rows
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param sizeY the range of y to generate before repeating; must be greater than 0
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @param seed the noise seed
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillSeamlessNoise(float[] out, float startX, float startY, float stepX, float stepY,
+                                     float sizeX, float sizeY, int width, int height, int seed) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final boolean simplex = noiseType == SIMPLEX || noiseType == SIMPLEX_FRACTAL;
+        final int count = noiseType == SIMPLEX_FRACTAL ? octaves : 1;
+        final float scale = simplex ? frequency : 1f;
+        final float[] cols = seamlessCircle(startX, stepX, sizeX, width, 1f, scale, count);
+        final float[] rows = seamlessCircle(startY, stepY, sizeY, height, 1f, scale, count);
+        final float[] state = new float[4];
+        for (int j = 0, idx = 0; j < height; j++) {
+            final int r = j << 1;
+            final float z = rows[r], w = rows[r + 1];
+            if (!simplex) {
+                for (int i = 0, c = 0; i < width; i++, c += 2) {
+                    out[idx++] = getNoiseWithSeed(cols[c], cols[c + 1], z, w, seed);
+                }
+            } else if (noiseType == SIMPLEX) {
+                for (int i = 0, c = 0; i < width; i++, c += 2) {
+                    out[idx++] = singleSimplex(seed, cols[c], cols[c + 1], z, w);
+                }
+            } else {
+                for (int i = 0; i < width; i++) {
+                    state[0] = 0f;
+                    state[1] = 1f;
+                    state[2] = 2f;
+                    state[3] = 0f;
+                    for (int o = 0, c = i << 1, ro = r; o < count; o++, c += width << 1, ro += height << 1) {
+                        addOctave(singleSimplex(seed + o, cols[c], cols[c + 1], rows[ro], rows[ro + 1]), state);
+                    }
+                    out[idx++] = fractalType == RIDGED_MULTI ? state[0] * 2f / state[3] - 1f : state[0] * fractalBounding;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Fills a rectangular slice of seamless 3D noise into {@code out}, with z fixed for the whole slice. This is
+     * equivalent to calling {@code seamless3D(startX + i * stepX, startY + j * stepY, z, sizeX, sizeY, sizeZ, seed)}
+     * for each column {@code i} and row {@code j} and storing the result at {@code out[j * width + i]}, but the points
+     * on the circles that each column, row, and the slice map to are only calculated once, instead of once per point.
+     * For simplex noise, the frequency and each octave's lacunarity are also applied to those points up-front, so
+     * every point only has to evaluate the 6D simplex kernel.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column
+     * @param startY the y position of the first row
+     * @param z the z position used for every point
+     * @param stepX how much x changes between adjacent columns
+     * @param stepY how much y changes between adjacent rows
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param sizeY the range of y to generate before repeating; must be greater than 0
+     * @param sizeZ the range of z to generate before repeating; must be greater than 0
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @param seed the noise seed
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillSeamlessNoise(float[] out, float startX, float startY, float z, float stepX, float stepY,
+                                     float sizeX, float sizeY, float sizeZ, int width, int height, int seed) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final boolean simplex = noiseType == SIMPLEX || noiseType == SIMPLEX_FRACTAL;
+        final int count = noiseType == SIMPLEX_FRACTAL ? octaves : 1;
+        final float scale = simplex ? frequency : 1f;
+        final float[] cols = seamlessCircle(startX, stepX, sizeX, width, 1f, scale, count);
+        final float[] rows = seamlessCircle(startY, stepY, sizeY, height, 1f, scale, count);
+        final float[] slice = seamlessCircle(z, 0f, sizeZ, 1, 1f, scale, count);
+        final float u = slice[0], v = slice[1];
+        final float[] state = new float[4];
+        for (int j = 0, idx = 0; j < height; j++) {
+            final int r = j << 1;
+            final float zr = rows[r], wr = rows[r + 1];
+            if (!simplex) {
+                for (int i = 0, c = 0; i < width; i++, c += 2) {
+                    out[idx++] = getNoiseWithSeed(cols[c], cols[c + 1], zr, wr, u, v, seed);
+                }
+            } else if (noiseType == SIMPLEX) {
+                for (int i = 0, c = 0; i < width; i++, c += 2) {
+                    out[idx++] = singleSimplex(seed, cols[c], cols[c + 1], zr, wr, u, v);
+                }
+            } else {
+                for (int i = 0; i < width; i++) {
+                    state[0] = 0f;
+                    state[1] = 1f;
+                    state[2] = 2f;
+                    state[3] = 0f;
+                    for (int o = 0, c = i << 1, ro = r, s = 0; o < count; o++, c += width << 1, ro += height << 1, s += 2) {
+                        addOctave(singleSimplex(seed + o, cols[c], cols[c + 1], rows[ro], rows[ro + 1], slice[s], slice[s + 1]), state);
+                    }
+                    out[idx++] = fractalType == RIDGED_MULTI ? state[0] * 2f / state[3] - 1f : state[0] * fractalBounding;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Produces 2D noise that tiles every {@code sizeX} units on the x-axis, but doesn't repeat on the y-axis. This
+     * samples 3D noise on the surface of a cylinder whose circumference is {@code sizeX}, so x and y keep the same
+     * scale, and it is much cheaper than {@link #seamless2D(float, float, float, float, int)}, which needs 4D noise
+     * to wrap on both axes. This suits maps that only wrap horizontally, such as world maps or skyboxes.
+     * @param x the x-coordinate to sample
+     * @param y the y-coordinate to sample
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param seed the noise seed
+     * @return continuous noise from -1.0 to 1.0, inclusive
+     */
+    public float cylindrical2D(float x, float y, float sizeX, int seed)
+    {
+        final float radius = sizeX * (0.5f / (float) Math.PI);
+        x /= sizeX;
+        return getNoiseWithSeed(cosTurns(x) * radius, sinTurns(x) * radius, y, seed);
+    }
+
+    /**
+     * Fills a rectangular region of noise that wraps on the x-axis into {@code out}. This is equivalent to calling
+     * {@code cylindrical2D(startX + i * stepX, startY + j * stepY, sizeX, seed)} for each column {@code i} and row
+     * {@code j} and storing the result at {@code out[j * width + i]}, but the point on the cylinder that each column
+     * maps to is only calculated once, instead of once per point. Value, Perlin, simplex, cubic, foam, and honey noise
+     * (and their fractal types) are evaluated a row at a time, one octave for the whole row at once, like the other
+     * fills; if {@link #setOctaveCulling(int) octave culling} is on, it applies here as it does there. Adjacent
+     * columns are {@code stepX} apart along the cylinder, so those types evaluate
+     * {@link #getEffectiveOctaves(float, float)} octaves for these steps, the same as a flat fill would.
+     * <br>
+     * If {@code out} is null or is too small to hold {@code width * height} items, a new array is allocated and
+     * returned instead.
+     * @param out a float array that will be filled row-major with noise from -1f to 1f; may be null
+     * @param startX the x position of the first column
+     * @param startY the y position of the first row
+     * @param stepX how much x changes between adjacent columns
+     * @param stepY how much y changes between adjacent rows
+     * @param sizeX the range of x to generate before repeating; must be greater than 0
+     * @param width how many columns to fill
+     * @param height how many rows to fill
+     * @param seed the noise seed
+     * @return {@code out}, after modifications, or a newly-allocated array if {@code out} couldn't be used
+     */
+    public float[] fillCylindricalNoise(float[] out, float startX, float startY, float stepX, float stepY,
+                                        float sizeX, int width, int height, int seed) {
+        if (out == null || out.length < width * height)
+            out = new float[width * height];
+        final float radius = sizeX * (0.5f / (float) Math.PI);
+        final int kind;
+        switch (noiseType) {
+            case VALUE:
+            case VALUE_FRACTAL:
+                kind = VALUE;
+                break;
+            case PERLIN:
+            case PERLIN_FRACTAL:
+                kind = PERLIN;
+                break;
+            case SIMPLEX:
+            case SIMPLEX_FRACTAL:
+                kind = SIMPLEX;
+                break;
+            case CUBIC:
+            case CUBIC_FRACTAL:
+                kind = CUBIC;
+                break;
+            case FOAM:
+            case FOAM_FRACTAL:
+                kind = FOAM;
+                break;
+            case HONEY:
+            case HONEY_FRACTAL:
+                kind = HONEY;
+                break;
+            default: {
+                final float[] cols = seamlessCircle(startX, stepX, sizeX, width, radius, 1f, 1);
+                for (int j = 0, idx = 0; j < height; j++) {
+                    final float y = startY + j * stepY;
+                    for (int i = 0, c = 0; i < width; i++, c += 2) {
+                        out[idx++] = getNoiseWithSeed(cols[c], cols[c + 1], y, seed);
+                    }
+                }
+                return out;
+            }
+        }
+        final float[] cols = seamlessCircle(startX, stepX, sizeX, width, radius, frequency, 1);
+        final float[] px = new float[width], py = new float[width], pz = new float[width];
+        final boolean fractal = noiseType != kind;
+        final int used = fractal ? getEffectiveOctaves(stepX, stepY) : 1;
+        final int[] seeds = {seed}, octaveSeeds = new int[1];
+        final float[][] outs = {out}, rows = new float[1][width];
+        for (int j = 0; j < height; j++) {
+            for (int i = 0, c = 0; i < width; i++) {
+                px[i] = cols[c++];
+                py[i] = cols[c++];
+            }
+            Arrays.fill(pz, (startY + j * stepY) * frequency);
+            if (fractal) fractalPoints3D(kind, seeds, px, py, pz, false, null, outs, j * width, width, used, rows, octaveSeeds);
+            else octave3D(kind, seed, px, py, pz, false, null, out, j * width, width);
+        }
+        return out;
+    }
     /**
      * A fairly-close approximation of {@link Math#sin(double)} that can be significantly faster (between 8x and 80x
      * faster sin() calls in benchmarking, and both takes and returns floats; if you have access to libGDX you should
@@ -7998,75 +14339,80 @@ public class Noise {
             +0.51057171f, -0.23740201f, +0.26673587f, +0.55217673f, +0.16849318f, +0.52774964f, +0f, +0f,
     };
 
-    private static final Float2[] CELL_2D =
-        {
-            new Float2(-0.4313539279f, 0.1281943404f), new Float2(-0.1733316799f, 0.415278375f), new Float2(-0.2821957395f, -0.3505218461f), new Float2(-0.2806473808f, 0.3517627718f), new Float2(0.3125508975f, -0.3237467165f), new Float2(0.3383018443f, -0.2967353402f), new Float2(-0.4393982022f, -0.09710417025f), new Float2(-0.4460443703f, -0.05953502905f),
-            new Float2(-0.302223039f, 0.3334085102f), new Float2(-0.212681052f, -0.3965687458f), new Float2(-0.2991156529f, 0.3361990872f), new Float2(0.2293323691f, 0.3871778202f), new Float2(0.4475439151f, -0.04695150755f), new Float2(0.1777518f, 0.41340573f), new Float2(0.1688522499f, -0.4171197882f), new Float2(-0.0976597166f, 0.4392750616f),
-            new Float2(0.08450188373f, 0.4419948321f), new Float2(-0.4098760448f, -0.1857461384f), new Float2(0.3476585782f, -0.2857157906f), new Float2(-0.3350670039f, -0.30038326f), new Float2(0.2298190031f, -0.3868891648f), new Float2(-0.01069924099f, 0.449872789f), new Float2(-0.4460141246f, -0.05976119672f), new Float2(0.3650293864f, 0.2631606867f),
-            new Float2(-0.349479423f, 0.2834856838f), new Float2(-0.4122720642f, 0.1803655873f), new Float2(-0.267327811f, 0.3619887311f), new Float2(0.322124041f, -0.3142230135f), new Float2(0.2880445931f, -0.3457315612f), new Float2(0.3892170926f, -0.2258540565f), new Float2(0.4492085018f, -0.02667811596f), new Float2(-0.4497724772f, 0.01430799601f),
-            new Float2(0.1278175387f, -0.4314657307f), new Float2(-0.03572100503f, 0.4485799926f), new Float2(-0.4297407068f, -0.1335025276f), new Float2(-0.3217817723f, 0.3145735065f), new Float2(-0.3057158873f, 0.3302087162f), new Float2(-0.414503978f, 0.1751754899f), new Float2(-0.3738139881f, 0.2505256519f), new Float2(0.2236891408f, -0.3904653228f),
-            new Float2(0.002967775577f, -0.4499902136f), new Float2(0.1747128327f, -0.4146991995f), new Float2(-0.4423772489f, -0.08247647938f), new Float2(-0.2763960987f, -0.355112935f), new Float2(-0.4019385906f, -0.2023496216f), new Float2(0.3871414161f, -0.2293938184f), new Float2(-0.430008727f, 0.1326367019f), new Float2(-0.03037574274f, -0.4489736231f),
-            new Float2(-0.3486181573f, 0.2845441624f), new Float2(0.04553517144f, -0.4476902368f), new Float2(-0.0375802926f, 0.4484280562f), new Float2(0.3266408905f, 0.3095250049f), new Float2(0.06540017593f, -0.4452222108f), new Float2(0.03409025829f, 0.448706869f), new Float2(-0.4449193635f, 0.06742966669f), new Float2(-0.4255936157f, -0.1461850686f),
-            new Float2(0.449917292f, 0.008627302568f), new Float2(0.05242606404f, 0.4469356864f), new Float2(-0.4495305179f, -0.02055026661f), new Float2(-0.1204775703f, 0.4335725488f), new Float2(-0.341986385f, -0.2924813028f), new Float2(0.3865320182f, 0.2304191809f), new Float2(0.04506097811f, -0.447738214f), new Float2(-0.06283465979f, 0.4455915232f),
-            new Float2(0.3932600341f, -0.2187385324f), new Float2(0.4472261803f, -0.04988730975f), new Float2(0.3753571011f, -0.2482076684f), new Float2(-0.273662295f, 0.357223947f), new Float2(0.1700461538f, 0.4166344988f), new Float2(0.4102692229f, 0.1848760794f), new Float2(0.323227187f, -0.3130881435f), new Float2(-0.2882310238f, -0.3455761521f),
-            new Float2(0.2050972664f, 0.4005435199f), new Float2(0.4414085979f, -0.08751256895f), new Float2(-0.1684700334f, 0.4172743077f), new Float2(-0.003978032396f, 0.4499824166f), new Float2(-0.2055133639f, 0.4003301853f), new Float2(-0.006095674897f, -0.4499587123f), new Float2(-0.1196228124f, -0.4338091548f), new Float2(0.3901528491f, -0.2242337048f),
-            new Float2(0.01723531752f, 0.4496698165f), new Float2(-0.3015070339f, 0.3340561458f), new Float2(-0.01514262423f, -0.4497451511f), new Float2(-0.4142574071f, -0.1757577897f), new Float2(-0.1916377265f, -0.4071547394f), new Float2(0.3749248747f, 0.2488600778f), new Float2(-0.2237774255f, 0.3904147331f), new Float2(-0.4166343106f, -0.1700466149f),
-            new Float2(0.3619171625f, 0.267424695f), new Float2(0.1891126846f, -0.4083336779f), new Float2(-0.3127425077f, 0.323561623f), new Float2(-0.3281807787f, 0.307891826f), new Float2(-0.2294806661f, 0.3870899429f), new Float2(-0.3445266136f, 0.2894847362f), new Float2(-0.4167095422f, -0.1698621719f), new Float2(-0.257890321f, -0.3687717212f),
-            new Float2(-0.3612037825f, 0.2683874578f), new Float2(0.2267996491f, 0.3886668486f), new Float2(0.207157062f, 0.3994821043f), new Float2(0.08355176718f, -0.4421754202f), new Float2(-0.4312233307f, 0.1286329626f), new Float2(0.3257055497f, 0.3105090899f), new Float2(0.177701095f, -0.4134275279f), new Float2(-0.445182522f, 0.06566979625f),
-            new Float2(0.3955143435f, 0.2146355146f), new Float2(-0.4264613988f, 0.1436338239f), new Float2(-0.3793799665f, -0.2420141339f), new Float2(0.04617599081f, -0.4476245948f), new Float2(-0.371405428f, -0.2540826796f), new Float2(0.2563570295f, -0.3698392535f), new Float2(0.03476646309f, 0.4486549822f), new Float2(-0.3065454405f, 0.3294387544f),
-            new Float2(-0.2256979823f, 0.3893076172f), new Float2(0.4116448463f, -0.1817925206f), new Float2(-0.2907745828f, -0.3434387019f), new Float2(0.2842278468f, -0.348876097f), new Float2(0.3114589359f, -0.3247973695f), new Float2(0.4464155859f, -0.0566844308f), new Float2(-0.3037334033f, -0.3320331606f), new Float2(0.4079607166f, 0.1899159123f),
-            new Float2(-0.3486948919f, -0.2844501228f), new Float2(0.3264821436f, 0.3096924441f), new Float2(0.3211142406f, 0.3152548881f), new Float2(0.01183382662f, 0.4498443737f), new Float2(0.4333844092f, 0.1211526057f), new Float2(0.3118668416f, 0.324405723f), new Float2(-0.272753471f, 0.3579183483f), new Float2(-0.422228622f, -0.1556373694f),
-            new Float2(-0.1009700099f, -0.4385260051f), new Float2(-0.2741171231f, -0.3568750521f), new Float2(-0.1465125133f, 0.4254810025f), new Float2(0.2302279044f, -0.3866459777f), new Float2(-0.3699435608f, 0.2562064828f), new Float2(0.105700352f, -0.4374099171f), new Float2(-0.2646713633f, 0.3639355292f), new Float2(0.3521828122f, 0.2801200935f),
-            new Float2(-0.1864187807f, -0.4095705534f), new Float2(0.1994492955f, -0.4033856449f), new Float2(0.3937065066f, 0.2179339044f), new Float2(-0.3226158377f, 0.3137180602f), new Float2(0.3796235338f, 0.2416318948f), new Float2(0.1482921929f, 0.4248640083f), new Float2(-0.407400394f, 0.1911149365f), new Float2(0.4212853031f, 0.1581729856f),
-            new Float2(-0.2621297173f, 0.3657704353f), new Float2(-0.2536986953f, -0.3716678248f), new Float2(-0.2100236383f, 0.3979825013f), new Float2(0.3624152444f, 0.2667493029f), new Float2(-0.3645038479f, -0.2638881295f), new Float2(0.2318486784f, 0.3856762766f), new Float2(-0.3260457004f, 0.3101519002f), new Float2(-0.2130045332f, -0.3963950918f),
-            new Float2(0.3814998766f, -0.2386584257f), new Float2(-0.342977305f, 0.2913186713f), new Float2(-0.4355865605f, 0.1129794154f), new Float2(-0.2104679605f, 0.3977477059f), new Float2(0.3348364681f, -0.3006402163f), new Float2(0.3430468811f, 0.2912367377f), new Float2(-0.2291836801f, -0.3872658529f), new Float2(0.2547707298f, -0.3709337882f),
-            new Float2(0.4236174945f, -0.151816397f), new Float2(-0.15387742f, 0.4228731957f), new Float2(-0.4407449312f, 0.09079595574f), new Float2(-0.06805276192f, -0.444824484f), new Float2(0.4453517192f, -0.06451237284f), new Float2(0.2562464609f, -0.3699158705f), new Float2(0.3278198355f, -0.3082761026f), new Float2(-0.4122774207f, -0.1803533432f),
-            new Float2(0.3354090914f, -0.3000012356f), new Float2(0.446632869f, -0.05494615882f), new Float2(-0.1608953296f, 0.4202531296f), new Float2(-0.09463954939f, 0.4399356268f), new Float2(-0.02637688324f, -0.4492262904f), new Float2(0.447102804f, -0.05098119915f), new Float2(-0.4365670908f, 0.1091291678f), new Float2(-0.3959858651f, 0.2137643437f),
-            new Float2(-0.4240048207f, -0.1507312575f), new Float2(-0.3882794568f, 0.2274622243f), new Float2(-0.4283652566f, -0.1378521198f), new Float2(0.3303888091f, 0.305521251f), new Float2(0.3321434919f, -0.3036127481f), new Float2(-0.413021046f, -0.1786438231f), new Float2(0.08403060337f, -0.4420846725f), new Float2(-0.3822882919f, 0.2373934748f),
-            new Float2(-0.3712395594f, -0.2543249683f), new Float2(0.4472363971f, -0.04979563372f), new Float2(-0.4466591209f, 0.05473234629f), new Float2(0.0486272539f, -0.4473649407f), new Float2(-0.4203101295f, -0.1607463688f), new Float2(0.2205360833f, 0.39225481f), new Float2(-0.3624900666f, 0.2666476169f), new Float2(-0.4036086833f, -0.1989975647f),
-            new Float2(0.2152727807f, 0.3951678503f), new Float2(-0.4359392962f, -0.1116106179f), new Float2(0.4178354266f, 0.1670735057f), new Float2(0.2007630161f, 0.4027334247f), new Float2(-0.07278067175f, -0.4440754146f), new Float2(0.3644748615f, -0.2639281632f), new Float2(-0.4317451775f, 0.126870413f), new Float2(-0.297436456f, 0.3376855855f),
-            new Float2(-0.2998672222f, 0.3355289094f), new Float2(-0.2673674124f, 0.3619594822f), new Float2(0.2808423357f, 0.3516071423f), new Float2(0.3498946567f, 0.2829730186f), new Float2(-0.2229685561f, 0.390877248f), new Float2(0.3305823267f, 0.3053118493f), new Float2(-0.2436681211f, -0.3783197679f), new Float2(-0.03402776529f, 0.4487116125f),
-            new Float2(-0.319358823f, 0.3170330301f), new Float2(0.4454633477f, -0.06373700535f), new Float2(0.4483504221f, 0.03849544189f), new Float2(-0.4427358436f, -0.08052932871f), new Float2(0.05452298565f, 0.4466847255f), new Float2(-0.2812560807f, 0.3512762688f), new Float2(0.1266696921f, 0.4318041097f), new Float2(-0.3735981243f, 0.2508474468f),
-            new Float2(0.2959708351f, -0.3389708908f), new Float2(-0.3714377181f, 0.254035473f), new Float2(-0.404467102f, -0.1972469604f), new Float2(0.1636165687f, -0.419201167f), new Float2(0.3289185495f, -0.3071035458f), new Float2(-0.2494824991f, -0.3745109914f), new Float2(0.03283133272f, 0.4488007393f), new Float2(-0.166306057f, -0.4181414777f),
-            new Float2(-0.106833179f, 0.4371346153f), new Float2(0.06440260376f, -0.4453676062f), new Float2(-0.4483230967f, 0.03881238203f), new Float2(-0.421377757f, -0.1579265206f), new Float2(0.05097920662f, -0.4471030312f), new Float2(0.2050584153f, -0.4005634111f), new Float2(0.4178098529f, -0.167137449f), new Float2(-0.3565189504f, -0.2745801121f),
-            new Float2(0.4478398129f, 0.04403977727f), new Float2(-0.3399999602f, -0.2947881053f), new Float2(0.3767121994f, 0.2461461331f), new Float2(-0.3138934434f, 0.3224451987f), new Float2(-0.1462001792f, -0.4255884251f), new Float2(0.3970290489f, -0.2118205239f), new Float2(0.4459149305f, -0.06049689889f), new Float2(-0.4104889426f, -0.1843877112f),
-            new Float2(0.1475103971f, -0.4251360756f), new Float2(0.09258030352f, 0.4403735771f), new Float2(-0.1589664637f, -0.4209865359f), new Float2(0.2482445008f, 0.3753327428f), new Float2(0.4383624232f, -0.1016778537f), new Float2(0.06242802956f, 0.4456486745f), new Float2(0.2846591015f, -0.3485243118f), new Float2(-0.344202744f, -0.2898697484f),
-            new Float2(0.1198188883f, -0.4337550392f), new Float2(-0.243590703f, 0.3783696201f), new Float2(0.2958191174f, -0.3391033025f), new Float2(-0.1164007991f, 0.4346847754f), new Float2(0.1274037151f, -0.4315881062f), new Float2(0.368047306f, 0.2589231171f), new Float2(0.2451436949f, 0.3773652989f), new Float2(-0.4314509715f, 0.12786735f),
-        };
+    /**
+     * 256 offsets for cellular feature points, stored as x,y pairs so that offset {@code i} is at index {@code i << 1}.
+     */
+    private static final float[] CELL_2D = {
+            -0.4313539279f, 0.1281943404f, -0.1733316799f, 0.415278375f, -0.2821957395f, -0.3505218461f, -0.2806473808f, 0.3517627718f, 0.3125508975f, -0.3237467165f, 0.3383018443f, -0.2967353402f, -0.4393982022f, -0.09710417025f, -0.4460443703f, -0.05953502905f,
+            -0.302223039f, 0.3334085102f, -0.212681052f, -0.3965687458f, -0.2991156529f, 0.3361990872f, 0.2293323691f, 0.3871778202f, 0.4475439151f, -0.04695150755f, 0.1777518f, 0.41340573f, 0.1688522499f, -0.4171197882f, -0.0976597166f, 0.4392750616f,
+            0.08450188373f, 0.4419948321f, -0.4098760448f, -0.1857461384f, 0.3476585782f, -0.2857157906f, -0.3350670039f, -0.30038326f, 0.2298190031f, -0.3868891648f, -0.01069924099f, 0.449872789f, -0.4460141246f, -0.05976119672f, 0.3650293864f, 0.2631606867f,
+            -0.349479423f, 0.2834856838f, -0.4122720642f, 0.1803655873f, -0.267327811f, 0.3619887311f, 0.322124041f, -0.3142230135f, 0.2880445931f, -0.3457315612f, 0.3892170926f, -0.2258540565f, 0.4492085018f, -0.02667811596f, -0.4497724772f, 0.01430799601f,
+            0.1278175387f, -0.4314657307f, -0.03572100503f, 0.4485799926f, -0.4297407068f, -0.1335025276f, -0.3217817723f, 0.3145735065f, -0.3057158873f, 0.3302087162f, -0.414503978f, 0.1751754899f, -0.3738139881f, 0.2505256519f, 0.2236891408f, -0.3904653228f,
+            0.002967775577f, -0.4499902136f, 0.1747128327f, -0.4146991995f, -0.4423772489f, -0.08247647938f, -0.2763960987f, -0.355112935f, -0.4019385906f, -0.2023496216f, 0.3871414161f, -0.2293938184f, -0.430008727f, 0.1326367019f, -0.03037574274f, -0.4489736231f,
+            -0.3486181573f, 0.2845441624f, 0.04553517144f, -0.4476902368f, -0.0375802926f, 0.4484280562f, 0.3266408905f, 0.3095250049f, 0.06540017593f, -0.4452222108f, 0.03409025829f, 0.448706869f, -0.4449193635f, 0.06742966669f, -0.4255936157f, -0.1461850686f,
+            0.449917292f, 0.008627302568f, 0.05242606404f, 0.4469356864f, -0.4495305179f, -0.02055026661f, -0.1204775703f, 0.4335725488f, -0.341986385f, -0.2924813028f, 0.3865320182f, 0.2304191809f, 0.04506097811f, -0.447738214f, -0.06283465979f, 0.4455915232f,
+            0.3932600341f, -0.2187385324f, 0.4472261803f, -0.04988730975f, 0.3753571011f, -0.2482076684f, -0.273662295f, 0.357223947f, 0.1700461538f, 0.4166344988f, 0.4102692229f, 0.1848760794f, 0.323227187f, -0.3130881435f, -0.2882310238f, -0.3455761521f,
+            0.2050972664f, 0.4005435199f, 0.4414085979f, -0.08751256895f, -0.1684700334f, 0.4172743077f, -0.003978032396f, 0.4499824166f, -0.2055133639f, 0.4003301853f, -0.006095674897f, -0.4499587123f, -0.1196228124f, -0.4338091548f, 0.3901528491f, -0.2242337048f,
+            0.01723531752f, 0.4496698165f, -0.3015070339f, 0.3340561458f, -0.01514262423f, -0.4497451511f, -0.4142574071f, -0.1757577897f, -0.1916377265f, -0.4071547394f, 0.3749248747f, 0.2488600778f, -0.2237774255f, 0.3904147331f, -0.4166343106f, -0.1700466149f,
+            0.3619171625f, 0.267424695f, 0.1891126846f, -0.4083336779f, -0.3127425077f, 0.323561623f, -0.3281807787f, 0.307891826f, -0.2294806661f, 0.3870899429f, -0.3445266136f, 0.2894847362f, -0.4167095422f, -0.1698621719f, -0.257890321f, -0.3687717212f,
+            -0.3612037825f, 0.2683874578f, 0.2267996491f, 0.3886668486f, 0.207157062f, 0.3994821043f, 0.08355176718f, -0.4421754202f, -0.4312233307f, 0.1286329626f, 0.3257055497f, 0.3105090899f, 0.177701095f, -0.4134275279f, -0.445182522f, 0.06566979625f,
+            0.3955143435f, 0.2146355146f, -0.4264613988f, 0.1436338239f, -0.3793799665f, -0.2420141339f, 0.04617599081f, -0.4476245948f, -0.371405428f, -0.2540826796f, 0.2563570295f, -0.3698392535f, 0.03476646309f, 0.4486549822f, -0.3065454405f, 0.3294387544f,
+            -0.2256979823f, 0.3893076172f, 0.4116448463f, -0.1817925206f, -0.2907745828f, -0.3434387019f, 0.2842278468f, -0.348876097f, 0.3114589359f, -0.3247973695f, 0.4464155859f, -0.0566844308f, -0.3037334033f, -0.3320331606f, 0.4079607166f, 0.1899159123f,
+            -0.3486948919f, -0.2844501228f, 0.3264821436f, 0.3096924441f, 0.3211142406f, 0.3152548881f, 0.01183382662f, 0.4498443737f, 0.4333844092f, 0.1211526057f, 0.3118668416f, 0.324405723f, -0.272753471f, 0.3579183483f, -0.422228622f, -0.1556373694f,
+            -0.1009700099f, -0.4385260051f, -0.2741171231f, -0.3568750521f, -0.1465125133f, 0.4254810025f, 0.2302279044f, -0.3866459777f, -0.3699435608f, 0.2562064828f, 0.105700352f, -0.4374099171f, -0.2646713633f, 0.3639355292f, 0.3521828122f, 0.2801200935f,
+            -0.1864187807f, -0.4095705534f, 0.1994492955f, -0.4033856449f, 0.3937065066f, 0.2179339044f, -0.3226158377f, 0.3137180602f, 0.3796235338f, 0.2416318948f, 0.1482921929f, 0.4248640083f, -0.407400394f, 0.1911149365f, 0.4212853031f, 0.1581729856f,
+            -0.2621297173f, 0.3657704353f, -0.2536986953f, -0.3716678248f, -0.2100236383f, 0.3979825013f, 0.3624152444f, 0.2667493029f, -0.3645038479f, -0.2638881295f, 0.2318486784f, 0.3856762766f, -0.3260457004f, 0.3101519002f, -0.2130045332f, -0.3963950918f,
+            0.3814998766f, -0.2386584257f, -0.342977305f, 0.2913186713f, -0.4355865605f, 0.1129794154f, -0.2104679605f, 0.3977477059f, 0.3348364681f, -0.3006402163f, 0.3430468811f, 0.2912367377f, -0.2291836801f, -0.3872658529f, 0.2547707298f, -0.3709337882f,
+            0.4236174945f, -0.151816397f, -0.15387742f, 0.4228731957f, -0.4407449312f, 0.09079595574f, -0.06805276192f, -0.444824484f, 0.4453517192f, -0.06451237284f, 0.2562464609f, -0.3699158705f, 0.3278198355f, -0.3082761026f, -0.4122774207f, -0.1803533432f,
+            0.3354090914f, -0.3000012356f, 0.446632869f, -0.05494615882f, -0.1608953296f, 0.4202531296f, -0.09463954939f, 0.4399356268f, -0.02637688324f, -0.4492262904f, 0.447102804f, -0.05098119915f, -0.4365670908f, 0.1091291678f, -0.3959858651f, 0.2137643437f,
+            -0.4240048207f, -0.1507312575f, -0.3882794568f, 0.2274622243f, -0.4283652566f, -0.1378521198f, 0.3303888091f, 0.305521251f, 0.3321434919f, -0.3036127481f, -0.413021046f, -0.1786438231f, 0.08403060337f, -0.4420846725f, -0.3822882919f, 0.2373934748f,
+            -0.3712395594f, -0.2543249683f, 0.4472363971f, -0.04979563372f, -0.4466591209f, 0.05473234629f, 0.0486272539f, -0.4473649407f, -0.4203101295f, -0.1607463688f, 0.2205360833f, 0.39225481f, -0.3624900666f, 0.2666476169f, -0.4036086833f, -0.1989975647f,
+            0.2152727807f, 0.3951678503f, -0.4359392962f, -0.1116106179f, 0.4178354266f, 0.1670735057f, 0.2007630161f, 0.4027334247f, -0.07278067175f, -0.4440754146f, 0.3644748615f, -0.2639281632f, -0.4317451775f, 0.126870413f, -0.297436456f, 0.3376855855f,
+            -0.2998672222f, 0.3355289094f, -0.2673674124f, 0.3619594822f, 0.2808423357f, 0.3516071423f, 0.3498946567f, 0.2829730186f, -0.2229685561f, 0.390877248f, 0.3305823267f, 0.3053118493f, -0.2436681211f, -0.3783197679f, -0.03402776529f, 0.4487116125f,
+            -0.319358823f, 0.3170330301f, 0.4454633477f, -0.06373700535f, 0.4483504221f, 0.03849544189f, -0.4427358436f, -0.08052932871f, 0.05452298565f, 0.4466847255f, -0.2812560807f, 0.3512762688f, 0.1266696921f, 0.4318041097f, -0.3735981243f, 0.2508474468f,
+            0.2959708351f, -0.3389708908f, -0.3714377181f, 0.254035473f, -0.404467102f, -0.1972469604f, 0.1636165687f, -0.419201167f, 0.3289185495f, -0.3071035458f, -0.2494824991f, -0.3745109914f, 0.03283133272f, 0.4488007393f, -0.166306057f, -0.4181414777f,
+            -0.106833179f, 0.4371346153f, 0.06440260376f, -0.4453676062f, -0.4483230967f, 0.03881238203f, -0.421377757f, -0.1579265206f, 0.05097920662f, -0.4471030312f, 0.2050584153f, -0.4005634111f, 0.4178098529f, -0.167137449f, -0.3565189504f, -0.2745801121f,
+            0.4478398129f, 0.04403977727f, -0.3399999602f, -0.2947881053f, 0.3767121994f, 0.2461461331f, -0.3138934434f, 0.3224451987f, -0.1462001792f, -0.4255884251f, 0.3970290489f, -0.2118205239f, 0.4459149305f, -0.06049689889f, -0.4104889426f, -0.1843877112f,
+            0.1475103971f, -0.4251360756f, 0.09258030352f, 0.4403735771f, -0.1589664637f, -0.4209865359f, 0.2482445008f, 0.3753327428f, 0.4383624232f, -0.1016778537f, 0.06242802956f, 0.4456486745f, 0.2846591015f, -0.3485243118f, -0.344202744f, -0.2898697484f,
+            0.1198188883f, -0.4337550392f, -0.243590703f, 0.3783696201f, 0.2958191174f, -0.3391033025f, -0.1164007991f, 0.4346847754f, 0.1274037151f, -0.4315881062f, 0.368047306f, 0.2589231171f, 0.2451436949f, 0.3773652989f, -0.4314509715f, 0.12786735f,
+    };
 
-    private static final Float3[] CELL_3D =
-        {
-            new Float3(0.1453787434f, -0.4149781685f, -0.0956981749f), new Float3(-0.01242829687f, -0.1457918398f, -0.4255470325f), new Float3(0.2877979582f, -0.02606483451f, -0.3449535616f), new Float3(-0.07732986802f, 0.2377094325f, 0.3741848704f), new Float3(0.1107205875f, -0.3552302079f, -0.2530858567f), new Float3(0.2755209141f, 0.2640521179f, -0.238463215f), new Float3(0.294168941f, 0.1526064594f, 0.3044271714f), new Float3(0.4000921098f, -0.2034056362f, 0.03244149937f),
-            new Float3(-0.1697304074f, 0.3970864695f, -0.1265461359f), new Float3(-0.1483224484f, -0.3859694688f, 0.1775613147f), new Float3(0.2623596946f, -0.2354852944f, 0.2796677792f), new Float3(-0.2709003183f, 0.3505271138f, -0.07901746678f), new Float3(-0.03516550699f, 0.3885234328f, 0.2243054374f), new Float3(-0.1267712655f, 0.1920044036f, 0.3867342179f), new Float3(0.02952021915f, 0.4409685861f, 0.08470692262f), new Float3(-0.2806854217f, -0.266996757f, 0.2289725438f),
-            new Float3(-0.171159547f, 0.2141185563f, 0.3568720405f), new Float3(0.2113227183f, 0.3902405947f, -0.07453178509f), new Float3(-0.1024352839f, 0.2128044156f, -0.3830421561f), new Float3(-0.3304249877f, -0.1566986703f, 0.2622305365f), new Float3(0.2091111325f, 0.3133278055f, -0.2461670583f), new Float3(0.344678154f, -0.1944240454f, -0.2142341261f), new Float3(0.1984478035f, -0.3214342325f, -0.2445373252f), new Float3(-0.2929008603f, 0.2262915116f, 0.2559320961f),
-            new Float3(-0.1617332831f, 0.006314769776f, -0.4198838754f), new Float3(-0.3582060271f, -0.148303178f, -0.2284613961f), new Float3(-0.1852067326f, -0.3454119342f, -0.2211087107f), new Float3(0.3046301062f, 0.1026310383f, 0.314908508f), new Float3(-0.03816768434f, -0.2551766358f, -0.3686842991f), new Float3(-0.4084952196f, 0.1805950793f, 0.05492788837f), new Float3(-0.02687443361f, -0.2749741471f, 0.3551999201f), new Float3(-0.03801098351f, 0.3277859044f, 0.3059600725f),
-            new Float3(0.2371120802f, 0.2900386767f, -0.2493099024f), new Float3(0.4447660503f, 0.03946930643f, 0.05590469027f), new Float3(0.01985147278f, -0.01503183293f, -0.4493105419f), new Float3(0.4274339143f, 0.03345994256f, -0.1366772882f), new Float3(-0.2072988631f, 0.2871414597f, -0.2776273824f), new Float3(-0.3791240978f, 0.1281177671f, 0.2057929936f), new Float3(-0.2098721267f, -0.1007087278f, -0.3851122467f), new Float3(0.01582798878f, 0.4263894424f, 0.1429738373f),
-            new Float3(-0.1888129464f, -0.3160996813f, -0.2587096108f), new Float3(0.1612988974f, -0.1974805082f, -0.3707885038f), new Float3(-0.08974491322f, 0.229148752f, -0.3767448739f), new Float3(0.07041229526f, 0.4150230285f, -0.1590534329f), new Float3(-0.1082925611f, -0.1586061639f, 0.4069604477f), new Float3(0.2474100658f, -0.3309414609f, 0.1782302128f), new Float3(-0.1068836661f, -0.2701644537f, -0.3436379634f), new Float3(0.2396452163f, 0.06803600538f, -0.3747549496f),
-            new Float3(-0.3063886072f, 0.2597428179f, 0.2028785103f), new Float3(0.1593342891f, -0.3114350249f, -0.2830561951f), new Float3(0.2709690528f, 0.1412648683f, -0.3303331794f), new Float3(-0.1519780427f, 0.3623355133f, 0.2193527988f), new Float3(0.1699773681f, 0.3456012883f, 0.2327390037f), new Float3(-0.1986155616f, 0.3836276443f, -0.1260225743f), new Float3(-0.1887482106f, -0.2050154888f, -0.353330953f), new Float3(0.2659103394f, 0.3015631259f, -0.2021172246f),
-            new Float3(-0.08838976154f, -0.4288819642f, -0.1036702021f), new Float3(-0.04201869311f, 0.3099592485f, 0.3235115047f), new Float3(-0.3230334656f, 0.201549922f, -0.2398478873f), new Float3(0.2612720941f, 0.2759854499f, -0.2409749453f), new Float3(0.385713046f, 0.2193460345f, 0.07491837764f), new Float3(0.07654967953f, 0.3721732183f, 0.241095919f), new Float3(0.4317038818f, -0.02577753072f, 0.1243675091f), new Float3(-0.2890436293f, -0.3418179959f, -0.04598084447f),
-            new Float3(-0.2201947582f, 0.383023377f, -0.08548310451f), new Float3(0.4161322773f, -0.1669634289f, -0.03817251927f), new Float3(0.2204718095f, 0.02654238946f, -0.391391981f), new Float3(-0.1040307469f, 0.3890079625f, -0.2008741118f), new Float3(-0.1432122615f, 0.371614387f, -0.2095065525f), new Float3(0.3978380468f, -0.06206669342f, 0.2009293758f), new Float3(-0.2599274663f, 0.2616724959f, -0.2578084893f), new Float3(0.4032618332f, -0.1124593585f, 0.1650235939f),
-            new Float3(-0.08953470255f, -0.3048244735f, 0.3186935478f), new Float3(0.118937202f, -0.2875221847f, 0.325092195f), new Float3(0.02167047076f, -0.03284630549f, -0.4482761547f), new Float3(-0.3411343612f, 0.2500031105f, 0.1537068389f), new Float3(0.3162964612f, 0.3082064153f, -0.08640228117f), new Float3(0.2355138889f, -0.3439334267f, -0.1695376245f), new Float3(-0.02874541518f, -0.3955933019f, 0.2125550295f), new Float3(-0.2461455173f, 0.02020282325f, -0.3761704803f),
-            new Float3(0.04208029445f, -0.4470439576f, 0.02968078139f), new Float3(0.2727458746f, 0.2288471896f, -0.2752065618f), new Float3(-0.1347522818f, -0.02720848277f, -0.4284874806f), new Float3(0.3829624424f, 0.1231931484f, -0.2016512234f), new Float3(-0.3547613644f, 0.1271702173f, 0.2459107769f), new Float3(0.2305790207f, 0.3063895591f, 0.2354968222f), new Float3(-0.08323845599f, -0.1922245118f, 0.3982726409f), new Float3(0.2993663085f, -0.2619918095f, -0.2103333191f),
-            new Float3(-0.2154865723f, 0.2706747713f, 0.287751117f), new Float3(0.01683355354f, -0.2680655787f, -0.3610505186f), new Float3(0.05240429123f, 0.4335128183f, -0.1087217856f), new Float3(0.00940104872f, -0.4472890582f, 0.04841609928f), new Float3(0.3465688735f, 0.01141914583f, -0.2868093776f), new Float3(-0.3706867948f, -0.2551104378f, 0.003156692623f), new Float3(0.2741169781f, 0.2139972417f, -0.2855959784f), new Float3(0.06413433865f, 0.1708718512f, 0.4113266307f),
-            new Float3(-0.388187972f, -0.03973280434f, -0.2241236325f), new Float3(0.06419469312f, -0.2803682491f, 0.3460819069f), new Float3(-0.1986120739f, -0.3391173584f, 0.2192091725f), new Float3(-0.203203009f, -0.3871641506f, 0.1063600375f), new Float3(-0.1389736354f, -0.2775901578f, -0.3257760473f), new Float3(-0.06555641638f, 0.342253257f, -0.2847192729f), new Float3(-0.2529246486f, -0.2904227915f, 0.2327739768f), new Float3(0.1444476522f, 0.1069184044f, 0.4125570634f),
-            new Float3(-0.3643780054f, -0.2447099973f, -0.09922543227f), new Float3(0.4286142488f, -0.1358496089f, -0.01829506817f), new Float3(0.165872923f, -0.3136808464f, -0.2767498872f), new Float3(0.2219610524f, -0.3658139958f, 0.1393320198f), new Float3(0.04322940318f, -0.3832730794f, 0.2318037215f), new Float3(-0.08481269795f, -0.4404869674f, -0.03574965489f), new Float3(0.1822082075f, -0.3953259299f, 0.1140946023f), new Float3(-0.3269323334f, 0.3036542563f, 0.05838957105f),
-            new Float3(-0.4080485344f, 0.04227858267f, -0.184956522f), new Float3(0.2676025294f, -0.01299671652f, 0.36155217f), new Float3(0.3024892441f, -0.1009990293f, -0.3174892964f), new Float3(0.1448494052f, 0.425921681f, -0.0104580805f), new Float3(0.4198402157f, 0.08062320474f, 0.1404780841f), new Float3(-0.3008872161f, -0.333040905f, -0.03241355801f), new Float3(0.3639310428f, -0.1291284382f, -0.2310412139f), new Float3(0.3295806598f, 0.0184175994f, -0.3058388149f),
-            new Float3(0.2776259487f, -0.2974929052f, -0.1921504723f), new Float3(0.4149000507f, -0.144793182f, -0.09691688386f), new Float3(0.145016715f, -0.0398992945f, 0.4241205002f), new Float3(0.09299023471f, -0.299732164f, -0.3225111565f), new Float3(0.1028907093f, -0.361266869f, 0.247789732f), new Float3(0.2683057049f, -0.07076041213f, -0.3542668666f), new Float3(-0.4227307273f, -0.07933161816f, -0.1323073187f), new Float3(-0.1781224702f, 0.1806857196f, -0.3716517945f),
-            new Float3(0.4390788626f, -0.02841848598f, -0.09435116353f), new Float3(0.2972583585f, 0.2382799621f, -0.2394997452f), new Float3(-0.1707002821f, 0.2215845691f, 0.3525077196f), new Float3(0.3806686614f, 0.1471852559f, -0.1895464869f), new Float3(-0.1751445661f, -0.274887877f, 0.3102596268f), new Float3(-0.2227237566f, -0.2316778837f, 0.3149912482f), new Float3(0.1369633021f, 0.1341343041f, -0.4071228836f), new Float3(-0.3529503428f, -0.2472893463f, -0.129514612f),
-            new Float3(-0.2590744185f, -0.2985577559f, -0.2150435121f), new Float3(-0.3784019401f, 0.2199816631f, -0.1044989934f), new Float3(-0.05635805671f, 0.1485737441f, 0.4210102279f), new Float3(0.3251428613f, 0.09666046873f, -0.2957006485f), new Float3(-0.4190995804f, 0.1406751354f, -0.08405978803f), new Float3(-0.3253150961f, -0.3080335042f, -0.04225456877f), new Float3(0.2857945863f, -0.05796152095f, 0.3427271751f), new Float3(-0.2733604046f, 0.1973770973f, -0.2980207554f),
-            new Float3(0.219003657f, 0.2410037886f, -0.3105713639f), new Float3(0.3182767252f, -0.271342949f, 0.1660509868f), new Float3(-0.03222023115f, -0.3331161506f, -0.300824678f), new Float3(-0.3087780231f, 0.1992794134f, -0.2596995338f), new Float3(-0.06487611647f, -0.4311322747f, 0.1114273361f), new Float3(0.3921171432f, -0.06294284106f, -0.2116183942f), new Float3(-0.1606404506f, -0.358928121f, -0.2187812825f), new Float3(-0.03767771199f, -0.2290351443f, 0.3855169162f),
-            new Float3(0.1394866832f, -0.3602213994f, 0.2308332918f), new Float3(-0.4345093872f, 0.005751117145f, 0.1169124335f), new Float3(-0.1044637494f, 0.4168128432f, -0.1336202785f), new Float3(0.2658727501f, 0.2551943237f, 0.2582393035f), new Float3(0.2051461999f, 0.1975390727f, 0.3484154868f), new Float3(-0.266085566f, 0.23483312f, 0.2766800993f), new Float3(0.07849405464f, -0.3300346342f, -0.2956616708f), new Float3(-0.2160686338f, 0.05376451292f, -0.3910546287f),
-            new Float3(-0.185779186f, 0.2148499206f, 0.3490352499f), new Float3(0.02492421743f, -0.3229954284f, -0.3123343347f), new Float3(-0.120167831f, 0.4017266681f, 0.1633259825f), new Float3(-0.02160084693f, -0.06885389554f, 0.4441762538f), new Float3(0.2597670064f, 0.3096300784f, 0.1978643903f), new Float3(-0.1611553854f, -0.09823036005f, 0.4085091653f), new Float3(-0.3278896792f, 0.1461670309f, 0.2713366126f), new Float3(0.2822734956f, 0.03754421121f, -0.3484423997f),
-            new Float3(0.03169341113f, 0.347405252f, -0.2842624114f), new Float3(0.2202613604f, -0.3460788041f, -0.1849713341f), new Float3(0.2933396046f, 0.3031973659f, 0.1565989581f), new Float3(-0.3194922995f, 0.2453752201f, -0.200538455f), new Float3(-0.3441586045f, -0.1698856132f, -0.2349334659f), new Float3(0.2703645948f, -0.3574277231f, 0.04060059933f), new Float3(0.2298568861f, 0.3744156221f, 0.0973588921f), new Float3(0.09326603877f, -0.3170108894f, 0.3054595587f),
-            new Float3(-0.1116165319f, -0.2985018719f, 0.3177080142f), new Float3(0.2172907365f, -0.3460005203f, -0.1885958001f), new Float3(0.1991339479f, 0.3820341668f, -0.1299829458f), new Float3(-0.0541918155f, -0.2103145071f, 0.39412061f), new Float3(0.08871336998f, 0.2012117383f, 0.3926114802f), new Float3(0.2787673278f, 0.3505404674f, 0.04370535101f), new Float3(-0.322166438f, 0.3067213525f, 0.06804996813f), new Float3(-0.4277366384f, 0.132066775f, 0.04582286686f),
-            new Float3(0.240131882f, -0.1612516055f, 0.344723946f), new Float3(0.1448607981f, -0.2387819045f, 0.3528435224f), new Float3(-0.3837065682f, -0.2206398454f, 0.08116235683f), new Float3(-0.4382627882f, -0.09082753406f, -0.04664855374f), new Float3(-0.37728353f, 0.05445141085f, 0.2391488697f), new Float3(0.1259579313f, 0.348394558f, 0.2554522098f), new Float3(-0.1406285511f, -0.270877371f, -0.3306796947f), new Float3(-0.1580694418f, 0.4162931958f, -0.06491553533f),
-            new Float3(0.2477612106f, -0.2927867412f, -0.2353514536f), new Float3(0.2916132853f, 0.3312535401f, 0.08793624968f), new Float3(0.07365265219f, -0.1666159848f, 0.411478311f), new Float3(-0.26126526f, -0.2422237692f, 0.2748965434f), new Float3(-0.3721862032f, 0.252790166f, 0.008634938242f), new Float3(-0.3691191571f, -0.255281188f, 0.03290232422f), new Float3(0.2278441737f, -0.3358364886f, 0.1944244981f), new Float3(0.363398169f, -0.2310190248f, 0.1306597909f),
-            new Float3(-0.304231482f, -0.2698452035f, 0.1926830856f), new Float3(-0.3199312232f, 0.316332536f, -0.008816977938f), new Float3(0.2874852279f, 0.1642275508f, -0.304764754f), new Float3(-0.1451096801f, 0.3277541114f, -0.2720669462f), new Float3(0.3220090754f, 0.0511344108f, 0.3101538769f), new Float3(-0.1247400865f, -0.04333605335f, -0.4301882115f), new Float3(-0.2829555867f, -0.3056190617f, -0.1703910946f), new Float3(0.1069384374f, 0.3491024667f, -0.2630430352f),
-            new Float3(-0.1420661144f, -0.3055376754f, -0.2982682484f), new Float3(-0.250548338f, 0.3156466809f, -0.2002316239f), new Float3(0.3265787872f, 0.1871229129f, 0.2466400438f), new Float3(0.07646097258f, -0.3026690852f, 0.324106687f), new Float3(0.3451771584f, 0.2757120714f, -0.0856480183f), new Float3(0.298137964f, 0.2852657134f, 0.179547284f), new Float3(0.2812250376f, 0.3466716415f, 0.05684409612f), new Float3(0.4390345476f, -0.09790429955f, -0.01278335452f),
-            new Float3(0.2148373234f, 0.1850172527f, 0.3494474791f), new Float3(0.2595421179f, -0.07946825393f, 0.3589187731f), new Float3(0.3182823114f, -0.307355516f, -0.08203022006f), new Float3(-0.4089859285f, -0.04647718411f, 0.1818526372f), new Float3(-0.2826749061f, 0.07417482322f, 0.3421885344f), new Float3(0.3483864637f, 0.225442246f, -0.1740766085f), new Float3(-0.3226415069f, -0.1420585388f, -0.2796816575f), new Float3(0.4330734858f, -0.118868561f, -0.02859407492f),
-            new Float3(-0.08717822568f, -0.3909896417f, -0.2050050172f), new Float3(-0.2149678299f, 0.3939973956f, -0.03247898316f), new Float3(-0.2687330705f, 0.322686276f, -0.1617284888f), new Float3(0.2105665099f, -0.1961317136f, -0.3459683451f), new Float3(0.4361845915f, -0.1105517485f, 0.004616608544f), new Float3(0.05333333359f, -0.313639498f, -0.3182543336f), new Float3(-0.05986216652f, 0.1361029153f, -0.4247264031f), new Float3(0.3664988455f, 0.2550543014f, -0.05590974511f),
-            new Float3(-0.2341015558f, -0.182405731f, 0.3382670703f), new Float3(-0.04730947785f, -0.4222150243f, -0.1483114513f), new Float3(-0.2391566239f, -0.2577696514f, -0.2808182972f), new Float3(-0.1242081035f, 0.4256953395f, -0.07652336246f), new Float3(0.2614832715f, -0.3650179274f, 0.02980623099f), new Float3(-0.2728794681f, -0.3499628774f, 0.07458404908f), new Float3(0.007892900508f, -0.1672771315f, 0.4176793787f), new Float3(-0.01730330376f, 0.2978486637f, -0.3368779738f),
-            new Float3(0.2054835762f, -0.3252600376f, -0.2334146693f), new Float3(-0.3231994983f, 0.1564282844f, -0.2712420987f), new Float3(-0.2669545963f, 0.2599343665f, -0.2523278991f), new Float3(-0.05554372779f, 0.3170813944f, -0.3144428146f), new Float3(-0.2083935713f, -0.310922837f, -0.2497981362f), new Float3(0.06989323478f, -0.3156141536f, 0.3130537363f), new Float3(0.3847566193f, -0.1605309138f, -0.1693876312f), new Float3(-0.3026215288f, -0.3001537679f, -0.1443188342f),
-            new Float3(0.3450735512f, 0.08611519592f, 0.2756962409f), new Float3(0.1814473292f, -0.2788782453f, -0.3029914042f), new Float3(-0.03855010448f, 0.09795110726f, 0.4375151083f), new Float3(0.3533670318f, 0.2665752752f, 0.08105160988f), new Float3(-0.007945601311f, 0.140359426f, -0.4274764309f), new Float3(0.4063099273f, -0.1491768253f, -0.1231199324f), new Float3(-0.2016773589f, 0.008816271194f, -0.4021797064f), new Float3(-0.07527055435f, -0.425643481f, -0.1251477955f),
-        };
+    /**
+     * 256 offsets for cellular feature points, stored as x,y,z triples padded to 4 floats (like {@link #GRAD_3D}), so
+     * that offset {@code i} is at index {@code i << 2}.
+     */
+    private static final float[] CELL_3D = {
+            0.1453787434f, -0.4149781685f, -0.0956981749f, 0f, -0.01242829687f, -0.1457918398f, -0.4255470325f, 0f, 0.2877979582f, -0.02606483451f, -0.3449535616f, 0f, -0.07732986802f, 0.2377094325f, 0.3741848704f, 0f, 0.1107205875f, -0.3552302079f, -0.2530858567f, 0f, 0.2755209141f, 0.2640521179f, -0.238463215f, 0f, 0.294168941f, 0.1526064594f, 0.3044271714f, 0f, 0.4000921098f, -0.2034056362f, 0.03244149937f, 0f,
+            -0.1697304074f, 0.3970864695f, -0.1265461359f, 0f, -0.1483224484f, -0.3859694688f, 0.1775613147f, 0f, 0.2623596946f, -0.2354852944f, 0.2796677792f, 0f, -0.2709003183f, 0.3505271138f, -0.07901746678f, 0f, -0.03516550699f, 0.3885234328f, 0.2243054374f, 0f, -0.1267712655f, 0.1920044036f, 0.3867342179f, 0f, 0.02952021915f, 0.4409685861f, 0.08470692262f, 0f, -0.2806854217f, -0.266996757f, 0.2289725438f, 0f,
+            -0.171159547f, 0.2141185563f, 0.3568720405f, 0f, 0.2113227183f, 0.3902405947f, -0.07453178509f, 0f, -0.1024352839f, 0.2128044156f, -0.3830421561f, 0f, -0.3304249877f, -0.1566986703f, 0.2622305365f, 0f, 0.2091111325f, 0.3133278055f, -0.2461670583f, 0f, 0.344678154f, -0.1944240454f, -0.2142341261f, 0f, 0.1984478035f, -0.3214342325f, -0.2445373252f, 0f, -0.2929008603f, 0.2262915116f, 0.2559320961f, 0f,
+            -0.1617332831f, 0.006314769776f, -0.4198838754f, 0f, -0.3582060271f, -0.148303178f, -0.2284613961f, 0f, -0.1852067326f, -0.3454119342f, -0.2211087107f, 0f, 0.3046301062f, 0.1026310383f, 0.314908508f, 0f, -0.03816768434f, -0.2551766358f, -0.3686842991f, 0f, -0.4084952196f, 0.1805950793f, 0.05492788837f, 0f, -0.02687443361f, -0.2749741471f, 0.3551999201f, 0f, -0.03801098351f, 0.3277859044f, 0.3059600725f, 0f,
+            0.2371120802f, 0.2900386767f, -0.2493099024f, 0f, 0.4447660503f, 0.03946930643f, 0.05590469027f, 0f, 0.01985147278f, -0.01503183293f, -0.4493105419f, 0f, 0.4274339143f, 0.03345994256f, -0.1366772882f, 0f, -0.2072988631f, 0.2871414597f, -0.2776273824f, 0f, -0.3791240978f, 0.1281177671f, 0.2057929936f, 0f, -0.2098721267f, -0.1007087278f, -0.3851122467f, 0f, 0.01582798878f, 0.4263894424f, 0.1429738373f, 0f,
+            -0.1888129464f, -0.3160996813f, -0.2587096108f, 0f, 0.1612988974f, -0.1974805082f, -0.3707885038f, 0f, -0.08974491322f, 0.229148752f, -0.3767448739f, 0f, 0.07041229526f, 0.4150230285f, -0.1590534329f, 0f, -0.1082925611f, -0.1586061639f, 0.4069604477f, 0f, 0.2474100658f, -0.3309414609f, 0.1782302128f, 0f, -0.1068836661f, -0.2701644537f, -0.3436379634f, 0f, 0.2396452163f, 0.06803600538f, -0.3747549496f, 0f,
+            -0.3063886072f, 0.2597428179f, 0.2028785103f, 0f, 0.1593342891f, -0.3114350249f, -0.2830561951f, 0f, 0.2709690528f, 0.1412648683f, -0.3303331794f, 0f, -0.1519780427f, 0.3623355133f, 0.2193527988f, 0f, 0.1699773681f, 0.3456012883f, 0.2327390037f, 0f, -0.1986155616f, 0.3836276443f, -0.1260225743f, 0f, -0.1887482106f, -0.2050154888f, -0.353330953f, 0f, 0.2659103394f, 0.3015631259f, -0.2021172246f, 0f,
+            -0.08838976154f, -0.4288819642f, -0.1036702021f, 0f, -0.04201869311f, 0.3099592485f, 0.3235115047f, 0f, -0.3230334656f, 0.201549922f, -0.2398478873f, 0f, 0.2612720941f, 0.2759854499f, -0.2409749453f, 0f, 0.385713046f, 0.2193460345f, 0.07491837764f, 0f, 0.07654967953f, 0.3721732183f, 0.241095919f, 0f, 0.4317038818f, -0.02577753072f, 0.1243675091f, 0f, -0.2890436293f, -0.3418179959f, -0.04598084447f, 0f,
+            -0.2201947582f, 0.383023377f, -0.08548310451f, 0f, 0.4161322773f, -0.1669634289f, -0.03817251927f, 0f, 0.2204718095f, 0.02654238946f, -0.391391981f, 0f, -0.1040307469f, 0.3890079625f, -0.2008741118f, 0f, -0.1432122615f, 0.371614387f, -0.2095065525f, 0f, 0.3978380468f, -0.06206669342f, 0.2009293758f, 0f, -0.2599274663f, 0.2616724959f, -0.2578084893f, 0f, 0.4032618332f, -0.1124593585f, 0.1650235939f, 0f,
+            -0.08953470255f, -0.3048244735f, 0.3186935478f, 0f, 0.118937202f, -0.2875221847f, 0.325092195f, 0f, 0.02167047076f, -0.03284630549f, -0.4482761547f, 0f, -0.3411343612f, 0.2500031105f, 0.1537068389f, 0f, 0.3162964612f, 0.3082064153f, -0.08640228117f, 0f, 0.2355138889f, -0.3439334267f, -0.1695376245f, 0f, -0.02874541518f, -0.3955933019f, 0.2125550295f, 0f, -0.2461455173f, 0.02020282325f, -0.3761704803f, 0f,
+            0.04208029445f, -0.4470439576f, 0.02968078139f, 0f, 0.2727458746f, 0.2288471896f, -0.2752065618f, 0f, -0.1347522818f, -0.02720848277f, -0.4284874806f, 0f, 0.3829624424f, 0.1231931484f, -0.2016512234f, 0f, -0.3547613644f, 0.1271702173f, 0.2459107769f, 0f, 0.2305790207f, 0.3063895591f, 0.2354968222f, 0f, -0.08323845599f, -0.1922245118f, 0.3982726409f, 0f, 0.2993663085f, -0.2619918095f, -0.2103333191f, 0f,
+            -0.2154865723f, 0.2706747713f, 0.287751117f, 0f, 0.01683355354f, -0.2680655787f, -0.3610505186f, 0f, 0.05240429123f, 0.4335128183f, -0.1087217856f, 0f, 0.00940104872f, -0.4472890582f, 0.04841609928f, 0f, 0.3465688735f, 0.01141914583f, -0.2868093776f, 0f, -0.3706867948f, -0.2551104378f, 0.003156692623f, 0f, 0.2741169781f, 0.2139972417f, -0.2855959784f, 0f, 0.06413433865f, 0.1708718512f, 0.4113266307f, 0f,
+            -0.388187972f, -0.03973280434f, -0.2241236325f, 0f, 0.06419469312f, -0.2803682491f, 0.3460819069f, 0f, -0.1986120739f, -0.3391173584f, 0.2192091725f, 0f, -0.203203009f, -0.3871641506f, 0.1063600375f, 0f, -0.1389736354f, -0.2775901578f, -0.3257760473f, 0f, -0.06555641638f, 0.342253257f, -0.2847192729f, 0f, -0.2529246486f, -0.2904227915f, 0.2327739768f, 0f, 0.1444476522f, 0.1069184044f, 0.4125570634f, 0f,
+            -0.3643780054f, -0.2447099973f, -0.09922543227f, 0f, 0.4286142488f, -0.1358496089f, -0.01829506817f, 0f, 0.165872923f, -0.3136808464f, -0.2767498872f, 0f, 0.2219610524f, -0.3658139958f, 0.1393320198f, 0f, 0.04322940318f, -0.3832730794f, 0.2318037215f, 0f, -0.08481269795f, -0.4404869674f, -0.03574965489f, 0f, 0.1822082075f, -0.3953259299f, 0.1140946023f, 0f, -0.3269323334f, 0.3036542563f, 0.05838957105f, 0f,
+            -0.4080485344f, 0.04227858267f, -0.184956522f, 0f, 0.2676025294f, -0.01299671652f, 0.36155217f, 0f, 0.3024892441f, -0.1009990293f, -0.3174892964f, 0f, 0.1448494052f, 0.425921681f, -0.0104580805f, 0f, 0.4198402157f, 0.08062320474f, 0.1404780841f, 0f, -0.3008872161f, -0.333040905f, -0.03241355801f, 0f, 0.3639310428f, -0.1291284382f, -0.2310412139f, 0f, 0.3295806598f, 0.0184175994f, -0.3058388149f, 0f,
+            0.2776259487f, -0.2974929052f, -0.1921504723f, 0f, 0.4149000507f, -0.144793182f, -0.09691688386f, 0f, 0.145016715f, -0.0398992945f, 0.4241205002f, 0f, 0.09299023471f, -0.299732164f, -0.3225111565f, 0f, 0.1028907093f, -0.361266869f, 0.247789732f, 0f, 0.2683057049f, -0.07076041213f, -0.3542668666f, 0f, -0.4227307273f, -0.07933161816f, -0.1323073187f, 0f, -0.1781224702f, 0.1806857196f, -0.3716517945f, 0f,
+            0.4390788626f, -0.02841848598f, -0.09435116353f, 0f, 0.2972583585f, 0.2382799621f, -0.2394997452f, 0f, -0.1707002821f, 0.2215845691f, 0.3525077196f, 0f, 0.3806686614f, 0.1471852559f, -0.1895464869f, 0f, -0.1751445661f, -0.274887877f, 0.3102596268f, 0f, -0.2227237566f, -0.2316778837f, 0.3149912482f, 0f, 0.1369633021f, 0.1341343041f, -0.4071228836f, 0f, -0.3529503428f, -0.2472893463f, -0.129514612f, 0f,
+            -0.2590744185f, -0.2985577559f, -0.2150435121f, 0f, -0.3784019401f, 0.2199816631f, -0.1044989934f, 0f, -0.05635805671f, 0.1485737441f, 0.4210102279f, 0f, 0.3251428613f, 0.09666046873f, -0.2957006485f, 0f, -0.4190995804f, 0.1406751354f, -0.08405978803f, 0f, -0.3253150961f, -0.3080335042f, -0.04225456877f, 0f, 0.2857945863f, -0.05796152095f, 0.3427271751f, 0f, -0.2733604046f, 0.1973770973f, -0.2980207554f, 0f,
+            0.219003657f, 0.2410037886f, -0.3105713639f, 0f, 0.3182767252f, -0.271342949f, 0.1660509868f, 0f, -0.03222023115f, -0.3331161506f, -0.300824678f, 0f, -0.3087780231f, 0.1992794134f, -0.2596995338f, 0f, -0.06487611647f, -0.4311322747f, 0.1114273361f, 0f, 0.3921171432f, -0.06294284106f, -0.2116183942f, 0f, -0.1606404506f, -0.358928121f, -0.2187812825f, 0f, -0.03767771199f, -0.2290351443f, 0.3855169162f, 0f,
+            0.1394866832f, -0.3602213994f, 0.2308332918f, 0f, -0.4345093872f, 0.005751117145f, 0.1169124335f, 0f, -0.1044637494f, 0.4168128432f, -0.1336202785f, 0f, 0.2658727501f, 0.2551943237f, 0.2582393035f, 0f, 0.2051461999f, 0.1975390727f, 0.3484154868f, 0f, -0.266085566f, 0.23483312f, 0.2766800993f, 0f, 0.07849405464f, -0.3300346342f, -0.2956616708f, 0f, -0.2160686338f, 0.05376451292f, -0.3910546287f, 0f,
+            -0.185779186f, 0.2148499206f, 0.3490352499f, 0f, 0.02492421743f, -0.3229954284f, -0.3123343347f, 0f, -0.120167831f, 0.4017266681f, 0.1633259825f, 0f, -0.02160084693f, -0.06885389554f, 0.4441762538f, 0f, 0.2597670064f, 0.3096300784f, 0.1978643903f, 0f, -0.1611553854f, -0.09823036005f, 0.4085091653f, 0f, -0.3278896792f, 0.1461670309f, 0.2713366126f, 0f, 0.2822734956f, 0.03754421121f, -0.3484423997f, 0f,
+            0.03169341113f, 0.347405252f, -0.2842624114f, 0f, 0.2202613604f, -0.3460788041f, -0.1849713341f, 0f, 0.2933396046f, 0.3031973659f, 0.1565989581f, 0f, -0.3194922995f, 0.2453752201f, -0.200538455f, 0f, -0.3441586045f, -0.1698856132f, -0.2349334659f, 0f, 0.2703645948f, -0.3574277231f, 0.04060059933f, 0f, 0.2298568861f, 0.3744156221f, 0.0973588921f, 0f, 0.09326603877f, -0.3170108894f, 0.3054595587f, 0f,
+            -0.1116165319f, -0.2985018719f, 0.3177080142f, 0f, 0.2172907365f, -0.3460005203f, -0.1885958001f, 0f, 0.1991339479f, 0.3820341668f, -0.1299829458f, 0f, -0.0541918155f, -0.2103145071f, 0.39412061f, 0f, 0.08871336998f, 0.2012117383f, 0.3926114802f, 0f, 0.2787673278f, 0.3505404674f, 0.04370535101f, 0f, -0.322166438f, 0.3067213525f, 0.06804996813f, 0f, -0.4277366384f, 0.132066775f, 0.04582286686f, 0f,
+            0.240131882f, -0.1612516055f, 0.344723946f, 0f, 0.1448607981f, -0.2387819045f, 0.3528435224f, 0f, -0.3837065682f, -0.2206398454f, 0.08116235683f, 0f, -0.4382627882f, -0.09082753406f, -0.04664855374f, 0f, -0.37728353f, 0.05445141085f, 0.2391488697f, 0f, 0.1259579313f, 0.348394558f, 0.2554522098f, 0f, -0.1406285511f, -0.270877371f, -0.3306796947f, 0f, -0.1580694418f, 0.4162931958f, -0.06491553533f, 0f,
+            0.2477612106f, -0.2927867412f, -0.2353514536f, 0f, 0.2916132853f, 0.3312535401f, 0.08793624968f, 0f, 0.07365265219f, -0.1666159848f, 0.411478311f, 0f, -0.26126526f, -0.2422237692f, 0.2748965434f, 0f, -0.3721862032f, 0.252790166f, 0.008634938242f, 0f, -0.3691191571f, -0.255281188f, 0.03290232422f, 0f, 0.2278441737f, -0.3358364886f, 0.1944244981f, 0f, 0.363398169f, -0.2310190248f, 0.1306597909f, 0f,
+            -0.304231482f, -0.2698452035f, 0.1926830856f, 0f, -0.3199312232f, 0.316332536f, -0.008816977938f, 0f, 0.2874852279f, 0.1642275508f, -0.304764754f, 0f, -0.1451096801f, 0.3277541114f, -0.2720669462f, 0f, 0.3220090754f, 0.0511344108f, 0.3101538769f, 0f, -0.1247400865f, -0.04333605335f, -0.4301882115f, 0f, -0.2829555867f, -0.3056190617f, -0.1703910946f, 0f, 0.1069384374f, 0.3491024667f, -0.2630430352f, 0f,
+            -0.1420661144f, -0.3055376754f, -0.2982682484f, 0f, -0.250548338f, 0.3156466809f, -0.2002316239f, 0f, 0.3265787872f, 0.1871229129f, 0.2466400438f, 0f, 0.07646097258f, -0.3026690852f, 0.324106687f, 0f, 0.3451771584f, 0.2757120714f, -0.0856480183f, 0f, 0.298137964f, 0.2852657134f, 0.179547284f, 0f, 0.2812250376f, 0.3466716415f, 0.05684409612f, 0f, 0.4390345476f, -0.09790429955f, -0.01278335452f, 0f,
+            0.2148373234f, 0.1850172527f, 0.3494474791f, 0f, 0.2595421179f, -0.07946825393f, 0.3589187731f, 0f, 0.3182823114f, -0.307355516f, -0.08203022006f, 0f, -0.4089859285f, -0.04647718411f, 0.1818526372f, 0f, -0.2826749061f, 0.07417482322f, 0.3421885344f, 0f, 0.3483864637f, 0.225442246f, -0.1740766085f, 0f, -0.3226415069f, -0.1420585388f, -0.2796816575f, 0f, 0.4330734858f, -0.118868561f, -0.02859407492f, 0f,
+            -0.08717822568f, -0.3909896417f, -0.2050050172f, 0f, -0.2149678299f, 0.3939973956f, -0.03247898316f, 0f, -0.2687330705f, 0.322686276f, -0.1617284888f, 0f, 0.2105665099f, -0.1961317136f, -0.3459683451f, 0f, 0.4361845915f, -0.1105517485f, 0.004616608544f, 0f, 0.05333333359f, -0.313639498f, -0.3182543336f, 0f, -0.05986216652f, 0.1361029153f, -0.4247264031f, 0f, 0.3664988455f, 0.2550543014f, -0.05590974511f, 0f,
+            -0.2341015558f, -0.182405731f, 0.3382670703f, 0f, -0.04730947785f, -0.4222150243f, -0.1483114513f, 0f, -0.2391566239f, -0.2577696514f, -0.2808182972f, 0f, -0.1242081035f, 0.4256953395f, -0.07652336246f, 0f, 0.2614832715f, -0.3650179274f, 0.02980623099f, 0f, -0.2728794681f, -0.3499628774f, 0.07458404908f, 0f, 0.007892900508f, -0.1672771315f, 0.4176793787f, 0f, -0.01730330376f, 0.2978486637f, -0.3368779738f, 0f,
+            0.2054835762f, -0.3252600376f, -0.2334146693f, 0f, -0.3231994983f, 0.1564282844f, -0.2712420987f, 0f, -0.2669545963f, 0.2599343665f, -0.2523278991f, 0f, -0.05554372779f, 0.3170813944f, -0.3144428146f, 0f, -0.2083935713f, -0.310922837f, -0.2497981362f, 0f, 0.06989323478f, -0.3156141536f, 0.3130537363f, 0f, 0.3847566193f, -0.1605309138f, -0.1693876312f, 0f, -0.3026215288f, -0.3001537679f, -0.1443188342f, 0f,
+            0.3450735512f, 0.08611519592f, 0.2756962409f, 0f, 0.1814473292f, -0.2788782453f, -0.3029914042f, 0f, -0.03855010448f, 0.09795110726f, 0.4375151083f, 0f, 0.3533670318f, 0.2665752752f, 0.08105160988f, 0f, -0.007945601311f, 0.140359426f, -0.4274764309f, 0f, 0.4063099273f, -0.1491768253f, -0.1231199324f, 0f, -0.2016773589f, 0.008816271194f, -0.4021797064f, 0f, -0.07527055435f, -0.425643481f, -0.1251477955f, 0f,
+    };
 }
\ No newline at end of file
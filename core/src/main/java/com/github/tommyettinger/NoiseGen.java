@@ -6,6 +6,10 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.PixmapIO;
 import com.badlogic.gdx.utils.NumberUtils;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class NoiseGen extends ApplicationAdapter {
 
     public Noise noise;
@@ -19,6 +23,16 @@ public class NoiseGen extends ApplicationAdapter {
     public boolean equalize = true;
     public GaussianBlur blur;
     public int iterations;
+    /**
+     * How many threads to use when generating, curving, and quantizing the image; 1 or less uses only the calling
+     * thread. The output is the same regardless of this setting.
+     */
+    public int threads = 1;
+    /**
+     * If true, the image wraps seamlessly on the x-axis only, by sampling 3D noise on a cylinder with
+     * {@link Noise#fillCylindricalNoise(float[], float, float, float, float, float, int, int, int)}.
+     */
+    public boolean wrapX = false;
 
     public NoiseGen() {
         this(new Noise(), 512, 512);
@@ -44,6 +58,63 @@ public class NoiseGen extends ApplicationAdapter {
         this.iterations = iterations;
         output = out;
     }
+    public NoiseGen(Noise n, int w, int h, float curvature, float middle, boolean debug, boolean equalize, float blurSigma, int iterations, String out, int threads) {
+        this(n, w, h, curvature, middle, debug, equalize, blurSigma, iterations, out);
+        this.threads = threads;
+    }
+    public NoiseGen(Noise n, int w, int h, float curvature, float middle, boolean debug, boolean equalize, float blurSigma, int iterations, String out, int threads, boolean wrapX) {
+        this(n, w, h, curvature, middle, debug, equalize, blurSigma, iterations, out, threads);
+        this.wrapX = wrapX;
+    }
+
+    /**
+     * Some work to do on a band of rows in the image, from {@code startRow} inclusive to {@code endRow} exclusive.
+     * Each band only touches its own rows, so bands can run on different threads at once.
+     */
+    public interface RowTask {
+        void run(int startRow, int endRow);
+    }
+
+    /**
+     * Splits the rows from {@code startRow} to {@code endRow} in half until there are at most {@code grain} rows in
+     * a band, then runs the {@link RowTask} on each band.
+     */
+    private static class RowBands extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RowTask task;
+        private final int startRow, endRow, grain;
+
+        RowBands(RowTask task, int startRow, int endRow, int grain) {
+            this.task = task;
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - startRow <= grain) {
+                task.run(startRow, endRow);
+            } else {
+                int mid = startRow + endRow >>> 1;
+                invokeAll(new RowBands(task, startRow, mid, grain), new RowBands(task, mid, endRow, grain));
+            }
+        }
+    }
+
+    /**
+     * Runs {@code task} over every row of the image, in bands. If {@code pool} is null, this runs the whole image as
+     * one band on the calling thread; otherwise, the bands are split up between the threads in {@code pool}.
+     * @param pool a ForkJoinPool to run bands on, or null to run everything on the current thread
+     * @param task what to do with each band of rows
+     */
+    protected void forEachRowBand(ForkJoinPool pool, RowTask task) {
+        if (pool == null)
+            task.run(0, height);
+        else
+            pool.invoke(new RowBands(task, 0, height, Math.max(1, height / (pool.getParallelism() * 4))));
+    }
     /**
      * A generalization on bias and gain functions that can represent both; this version is branch-less.
      * This is based on <a href="https://arxiv.org/abs/2010.09714">this micro-paper</a> by Jon Barron, which
@@ -105,55 +176,61 @@ public class NoiseGen extends ApplicationAdapter {
     public void create() {
         Pixmap pm = new Pixmap(width, height, Pixmap.Format.RGB888);
 //        Pixmap blue = new Pixmap(Gdx.files.internal("BlueNoiseOmniTiling8x8.png"));
-        float[] levels = new float[width * height];
-        if(curvature == 1f) {
-
-//            for (int y = 0, idx = 0; y < height; y++) {
-//                for (int x = 0; x < width; x++) {
-//                    levels[idx++] = ((blue.getPixel(x, y) >> 24) + 128) / 255f;
-//                }
-//            }
-            for (int y = 0, idx = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    levels[idx++] = noise.getConfiguredNoise(x, y) * 0.5f + 0.5f;
+        final ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        final float[] levels = new float[width * height];
+        // RGB888 stores 3 bytes per pixel, in R, G, B order, with no padding between rows.
+        final byte[] rgb = new byte[width * height * 3];
+        try {
+            forEachRowBand(pool, (startRow, endRow) -> {
+                final int start = startRow * width, end = endRow * width;
+                float[] band = wrapX
+                    ? noise.fillCylindricalNoise(new float[end - start], 0f, startRow, 1f, 1f, width, width, endRow - startRow, noise.getSeed())
+                    : noise.fillConfiguredNoise(new float[end - start], 0f, startRow, 1f, 1f, width, endRow - startRow);
+                if (curvature == 1f) {
+                    for (int idx = start; idx < end; idx++) {
+                        levels[idx] = band[idx - start] * 0.5f + 0.5f;
+                    }
+                } else {
+                    for (int idx = start; idx < end; idx++) {
+                        levels[idx] = barronSpline(band[idx - start] * 0.5f + 0.5f, curvature, middle);
+                    }
                 }
-            }
-        }
-        else {
-            for (int y = 0, idx = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    levels[idx++] = barronSpline(noise.getConfiguredNoise(x, y) * 0.5f + 0.5f, curvature, middle);
-                }
-            }
-        }
-        if(blur.getSigma() != 0) {
-            for (int i = 0; i < iterations; i++) {
-                blur.filter(levels, width, height);
-                if (equalize) equalize(levels);
-            }
-        }
-        else if(equalize) equalize(levels);
-        if (debug && !equalize) {
-            for (int y = 0, idx = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    int v = (int) (255.999f * levels[idx++]);
-                    if (v < 0)
-                        pm.drawPixel(x, y, 0x0000FFFF);
-                    else if (v > 255)
-                        pm.drawPixel(x, y, 0xFF0000FF);
-                    else
-                        pm.drawPixel(x, y, v * 0x010101 << 8 | 255);
+            });
+            if(blur.getSigma() != 0) {
+                for (int i = 0; i < iterations; i++) {
+                    blur.filter(levels, width, height);
+                    if (equalize) equalize(levels);
                 }
             }
-        }
-        else {
-            for (int y = 0, idx = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    int v = Math.min(Math.max((int) (255.999f * levels[idx++]), 0), 255);
-                    pm.drawPixel(x, y, v * 0x010101 << 8 | 255);
+            else if(equalize) equalize(levels);
+            final boolean showRange = debug && !equalize;
+            forEachRowBand(pool, (startRow, endRow) -> {
+                for (int idx = startRow * width, end = endRow * width, b = idx * 3; idx < end; idx++) {
+                    int v = (int) (255.999f * levels[idx]);
+                    if (showRange && v < 0) {
+                        rgb[b++] = 0;
+                        rgb[b++] = 0;
+                        rgb[b++] = (byte) 255;
+                    } else if (showRange && v > 255) {
+                        rgb[b++] = (byte) 255;
+                        rgb[b++] = 0;
+                        rgb[b++] = 0;
+                    } else {
+                        v = Math.min(Math.max(v, 0), 255);
+                        rgb[b++] = (byte) v;
+                        rgb[b++] = (byte) v;
+                        rgb[b++] = (byte) v;
+                    }
                 }
-            }
+            });
+        } finally {
+            if (pool != null)
+                pool.shutdown();
         }
+        ByteBuffer pixels = pm.getPixels();
+        pixels.position(0);
+        pixels.put(rgb);
+        pixels.position(0);
         PixmapIO.writePNG(Gdx.files.local(output), pm);
         System.exit(0);
     }
@@ -0,0 +1,62 @@
+package com.github.tommyettinger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Checks that {@link Noise#batchSimplex(int, float[], float[], float[], float[], int, int)} gives exactly the same
+ * bits as {@link Noise#singleSimplex(int, float, float, float)}, including for NaN, infinite, huge, and subnormal
+ * positions.
+ */
+public class BatchSimplexTest {
+    private static final float[] SPECIAL = {Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY,
+            3e38f, -3e38f, 1e30f, 0f, -0f, 1.5f, -7.25f, 123456.7f, Float.MIN_VALUE};
+
+    private static void assertSame(String what, float expected, float actual) {
+        Assert.assertEquals(what, Float.floatToIntBits(expected), Float.floatToIntBits(actual));
+    }
+
+    @Test
+    public void testSpecialPositions() {
+        final Noise noise = new Noise(1);
+        final int m = SPECIAL.length, count = m * m * m;
+        final float[] x = new float[count], y = new float[count], z = new float[count], out = new float[count + 1];
+        int idx = 0;
+        for (float a : SPECIAL) {
+            for (float b : SPECIAL) {
+                for (float c : SPECIAL) {
+                    x[idx] = a;
+                    y[idx] = b;
+                    z[idx++] = c;
+                }
+            }
+        }
+        noise.batchSimplex(5, x, y, z, out, 1, count);
+        for (int i = 0; i < count; i++) {
+            assertSame("3D at " + x[i] + ", " + y[i] + ", " + z[i],
+                    noise.singleSimplex(5, x[i], y[i], z[i]), out[i + 1]);
+        }
+    }
+
+    @Test
+    public void testRandomPositions() {
+        final Noise noise = new Noise(1);
+        final Random random = new Random(3);
+        final int count = 10000;
+        final float[] x = new float[count], y = new float[count], z = new float[count], out = new float[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = (random.nextFloat() - 0.5f) * 200f;
+            y[i] = (random.nextFloat() - 0.5f) * 200f;
+            z[i] = (random.nextFloat() - 0.5f) * 200f;
+        }
+        for (int seed = -2; seed <= 2; seed++) {
+            noise.batchSimplex(seed, x, y, z, out, 0, count);
+            for (int i = 0; i < count; i++) {
+                assertSame("3D at " + x[i] + ", " + y[i] + ", " + z[i],
+                        noise.singleSimplex(seed, x[i], y[i], z[i]), out[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.tommyettinger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Checks that {@link Noise#compile2D()} and {@link Noise#compile3D()}, and their specialized versions from
+ * {@link Noise#compile2D(boolean)} and {@link Noise#compile3D(boolean)}, give exactly the same results as
+ * {@link Noise#getConfiguredNoise(float, float)} and {@link Noise#getConfiguredNoise(float, float, float)}, for
+ * every noise and fractal type, including frequencies the {@link Noise#Noise(Noise) copy constructor} would change.
+ */
+public class CompiledKernelTest {
+    private static void check(float frequency) {
+        check(frequency, false);
+        check(frequency, true);
+    }
+
+    private static void check(float frequency, boolean specialize) {
+        final Random random = new Random(7);
+        for (int type = Noise.VALUE; type <= Noise.BLUE_NOISE; type++) {
+            for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+                final Noise noise = new Noise(123, 0.03125f, type, 4);
+                noise.setFractalType(fractal);
+                noise.setFrequency(frequency);
+                final Noise.Kernel2D kernel2 = noise.compile2D(specialize);
+                final Noise.Kernel3D kernel3 = noise.compile3D(specialize);
+                for (int i = 0; i < 200; i++) {
+                    final float x = (random.nextFloat() - 0.5f) * 1000f, y = (random.nextFloat() - 0.5f) * 1000f,
+                            z = (random.nextFloat() - 0.5f) * 1000f;
+                    Assert.assertEquals("2D type " + type + " fractal " + fractal + " frequency " + frequency + " specialize " + specialize,
+                            Float.floatToIntBits(noise.getConfiguredNoise(x, y)), Float.floatToIntBits(kernel2.sample(x, y)));
+                    if (type != Noise.BLUE_NOISE) {
+                        Assert.assertEquals("3D type " + type + " fractal " + fractal + " frequency " + frequency + " specialize " + specialize,
+                                Float.floatToIntBits(noise.getConfiguredNoise(x, y, z)), Float.floatToIntBits(kernel3.sample(x, y, z)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultFrequency() {
+        check(0.03125f);
+    }
+
+    @Test
+    public void testSpecializedOctaves() {
+        for (int octaves = 1; octaves <= 8; octaves++) {
+            for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+                final Noise noise = new Noise(-5, 0.07f, Noise.SIMPLEX_FRACTAL, octaves, 2.3f, 0.6f);
+                noise.setFractalType(fractal);
+                final Noise.Kernel2D kernel2 = noise.compile2D(true);
+                final Noise.Kernel3D kernel3 = noise.compile3D(true);
+                for (float x = -30f; x < 30f; x += 1.7f) {
+                    final float y = x * 0.6f + 3f, z = 11f - x;
+                    Assert.assertEquals(Float.floatToIntBits(noise.getConfiguredNoise(x, y)), Float.floatToIntBits(kernel2.sample(x, y)));
+                    Assert.assertEquals(Float.floatToIntBits(noise.getConfiguredNoise(x, y, z)), Float.floatToIntBits(kernel3.sample(x, y, z)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testZeroFrequency() {
+        check(0f);
+    }
+
+    @Test
+    public void testTinyFrequency() {
+        check(1e-5f);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.tommyettinger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that {@link Noise#setOctaveCulling(int) octave culling} gives the same pixels no matter how a fill is split
+ * into bands, and that culling by amplitude alone stays within one 8-bit level.
+ */
+public class OctaveCullingTest {
+    private static final int[] TYPES = {Noise.VALUE_FRACTAL, Noise.PERLIN_FRACTAL, Noise.SIMPLEX_FRACTAL,
+            Noise.CUBIC_FRACTAL, Noise.FOAM_FRACTAL, Noise.HONEY_FRACTAL, Noise.MUTANT_FRACTAL};
+
+    private static int quantize(float v) {
+        return Math.round((Math.max(-1f, Math.min(1f, v)) * 0.5f + 0.5f) * 255f);
+    }
+
+    @Test
+    public void testSplitIndependence() {
+        final int width = 13, height = 7;
+        for (int type : TYPES) {
+            for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+                final Noise noise = new Noise(3, 1f / 32f, type, 12);
+                noise.setFractalType(fractal);
+                noise.setFractalGain(0.8f);
+                noise.setOctaveCulling(8);
+                final float[] full = noise.fillConfiguredNoise(null, 0f, 0f, 1f, 1f, width, height);
+                for (int y = 0; y < height; y++) {
+                    final float[] row = noise.fillConfiguredNoise(null, 0f, y, 1f, 1f, width, 1);
+                    for (int x = 0; x < width; x++) {
+                        final float[] one = noise.fillConfiguredNoise(null, x, y, 1f, 1f, 1, 1);
+                        Assert.assertEquals("row band", Float.floatToIntBits(full[y * width + x]), Float.floatToIntBits(row[x]));
+                        Assert.assertEquals("single pixel", Float.floatToIntBits(full[y * width + x]), Float.floatToIntBits(one[0]));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAmplitudeBound() {
+        // at this low frequency, no octave reaches the Nyquist limit, so only amplitude culling applies
+        final float frequency = 1f / 4096f;
+        for (int type : TYPES) {
+            for (int fractal = Noise.FBM; fractal <= Noise.RIDGED_MULTI; fractal++) {
+                for (float gain : new float[]{0.3f, 0.5f, 0.8f}) {
+                    final Noise noise = new Noise(3, frequency, type, 10);
+                    noise.setFractalType(fractal);
+                    noise.setFractalGain(gain);
+                    final float[] expected = noise.fillConfiguredNoise(null, 0f, 0f, 1f, 1f, 32, 32);
+                    noise.setOctaveCulling(8);
+                    if (fractal != Noise.FBM) {
+                        Assert.assertEquals("only FBM culls by amplitude", 10, noise.getEffectiveOctaves(frequency));
+                    }
+                    final float[] culled = noise.fillConfiguredNoise(null, 0f, 0f, 1f, 1f, 32, 32);
+                    for (int i = 0; i < expected.length; i++) {
+                        Assert.assertTrue("changed by more than one level",
+                                Math.abs(quantize(expected[i]) - quantize(culled[i])) <= 1);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.tommyettinger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks {@link Noise#fillTileableNoise(float[], int, int)} against {@link Noise#tileable2D(float, float, float, float, int)},
+ * and that simplex noise only wraps its lattice when {@link Noise#setTileableSimplex(boolean)} asks for it.
+ */
+public class TileableNoiseTest {
+    private static final int WIDTH = 24, HEIGHT = 16;
+
+    @Test
+    public void testNullOutput() {
+        final Noise noise = new Noise(5, 1f / 8f, Noise.PERLIN_FRACTAL, 3);
+        final float[] out = noise.fillTileableNoise(null, WIDTH, HEIGHT);
+        Assert.assertEquals(WIDTH * HEIGHT, out.length);
+        final float[] small = new float[3];
+        Assert.assertNotSame(small, noise.fillTileableNoise(small, WIDTH, HEIGHT));
+    }
+
+    @Test
+    public void testFillMatchesSingle() {
+        for (int type : new int[]{Noise.VALUE_FRACTAL, Noise.PERLIN, Noise.SIMPLEX, Noise.SIMPLEX_FRACTAL, Noise.CUBIC_FRACTAL, Noise.FOAM}) {
+            for (boolean wrapSimplex : new boolean[]{false, true}) {
+                final Noise noise = new Noise(5, 1f / 8f, type, 3);
+                noise.setTileableSimplex(wrapSimplex);
+                final float[] out = noise.fillTileableNoise(null, WIDTH, HEIGHT);
+                for (int y = 0; y < HEIGHT; y++) {
+                    for (int x = 0; x < WIDTH; x++) {
+                        Assert.assertEquals("type " + type, noise.tileable2D(x, y, WIDTH, HEIGHT, 5), out[y * WIDTH + x], 0x1p-20f);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSimplexIsOptIn() {
+        for (int type : new int[]{Noise.SIMPLEX, Noise.SIMPLEX_FRACTAL}) {
+            final Noise noise = new Noise(5, 1f / 8f, type, 3);
+            Assert.assertFalse(noise.isTileableSimplex());
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    Assert.assertEquals(Float.floatToIntBits(noise.seamless2D(x, y, WIDTH, HEIGHT, 5)),
+                            Float.floatToIntBits(noise.tileable2D(x, y, WIDTH, HEIGHT, 5)));
+                }
+            }
+            noise.setTileableSimplex(true);
+            Assert.assertTrue(new Noise(noise).isTileableSimplex());
+            Assert.assertEquals(noise.tileable2D(0f, 3f, WIDTH, HEIGHT, 5), noise.tileable2D(WIDTH, 3f, WIDTH, HEIGHT, 5), 0x1p-16f);
+            Assert.assertEquals(noise.tileable2D(7f, 0f, WIDTH, HEIGHT, 5), noise.tileable2D(7f, HEIGHT, WIDTH, HEIGHT, 5), 0x1p-16f);
+        }
+    }
+}
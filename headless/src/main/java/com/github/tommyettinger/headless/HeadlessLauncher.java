@@ -68,6 +68,15 @@ public class HeadlessLauncher implements Callable<Integer> {
 	@CommandLine.Option(names = {"-i", "--iterations"}, description = "The number of times to repeat blur steps (and equalize, if both are chosen).", defaultValue = "5")
 	public int iterations = 5;
 
+	@CommandLine.Option(names = {"-k", "--cull"}, description = "If true, skips fractal octaves that are finer than a pixel, and with fbm, trailing octaves too faint to change an 8-bit pixel, then reports how many were skipped. Skipping octaves changes the image.", defaultValue = "false")
+	public boolean cull = false;
+
+	@CommandLine.Option(names = {"-x", "--wrap-x"}, description = "If true, the image wraps seamlessly on the x-axis only, using 3D noise on a cylinder.", defaultValue = "false")
+	public boolean wrapX = false;
+
+	@CommandLine.Option(names = {"-T", "--threads"}, description = "How many threads to use when generating the image; the output is the same for any count. Defaults to the number of available processors.")
+	public int threads = Runtime.getRuntime().availableProcessors();
+
 	public int parseType(String t) {
 		t = t.toLowerCase();
 		switch (t) {
@@ -126,7 +135,17 @@ public class HeadlessLauncher implements Callable<Integer> {
 		noise.setFractalOctaves(octaves);
 		noise.setFoamSharpness(sharpness);
 		noise.setMutation(mutation);
-		new HeadlessApplication(new NoiseGen(noise, width, height, curvature, middle, debug, equalize, blurSigma, iterations, output), configuration){
+		if (cull) {
+			noise.setOctaveCulling(8);
+			int t = noise.getNoiseType();
+			// NoiseGen fills with steps of 1 either way; only the cylindrical fill evaluates mutant noise per-point.
+			if (t != Noise.WHITE_NOISE && t != Noise.CELLULAR && t != Noise.BLUE_NOISE
+				&& !(wrapX && t == Noise.MUTANT_FRACTAL)) {
+				int used = noise.getEffectiveOctaves(1f, 1f);
+				System.out.println("Octave culling skipped " + (noise.getFractalOctaves() - used) + " of " + noise.getFractalOctaves() + " octaves.");
+			}
+		}
+		new HeadlessApplication(new NoiseGen(noise, width, height, curvature, middle, debug, equalize, blurSigma, iterations, output, threads, wrapX), configuration){
 			{
 				try {
 					mainLoopThread.join(300000L); // 5 minutes